@@ -19,7 +19,7 @@
 package org.apache.tinkerpop.gremlin.jsr223;
 
 import org.apache.tinkerpop.gremlin.language.grammar.GremlinAntlrToJava;
-import org.apache.tinkerpop.gremlin.language.grammar.GremlinQueryParser;
+import org.apache.tinkerpop.gremlin.language.grammar.GremlinQueryCache;
 import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSource;
@@ -47,9 +47,18 @@ import java.io.Reader;
  * implementation represents the first step to changes in what it means to have a {@link GremlinScriptEngine}. In some
  * sense, there is question why a {@link GremlinScriptEngine} approach is necessary at all except for easily plugging
  * into the existing internals of Gremlin Server or more specifically the {@code GremlinExecutor}.
+ * <p/>
+ * Parse trees of evaluated scripts are held in a {@link GremlinQueryCache} so that a script that is evaluated
+ * repeatedly is only parsed once.
  */
 public class GremlinLangScriptEngine extends AbstractScriptEngine implements GremlinScriptEngine {
+    /**
+     * The number of distinct scripts for which parse trees are cached by default.
+     */
+    public static final int DEFAULT_QUERY_CACHE_SIZE = 1000;
+
     private volatile GremlinScriptEngineFactory factory;
+    private final GremlinQueryCache queryCache;
 
     /**
      * Creates a new instance using no {@link Customizer}.
@@ -59,6 +68,18 @@ public class GremlinLangScriptEngine extends AbstractScriptEngine implements Gre
     }
 
     public GremlinLangScriptEngine(final Customizer... customizers) {
+        this(new GremlinQueryCache(DEFAULT_QUERY_CACHE_SIZE), customizers);
+    }
+
+    public GremlinLangScriptEngine(final GremlinQueryCache queryCache, final Customizer... customizers) {
+        this.queryCache = queryCache;
+    }
+
+    /**
+     * Gets the cache of parse trees for scripts evaluated by this engine.
+     */
+    public GremlinQueryCache getQueryCache() {
+        return queryCache;
     }
 
     @Override
@@ -107,7 +128,7 @@ public class GremlinLangScriptEngine extends AbstractScriptEngine implements Gre
         final GremlinAntlrToJava antlr = new GremlinAntlrToJava((GraphTraversalSource) o);
 
         try {
-            return GremlinQueryParser.parse(script, antlr);
+            return queryCache.parse(script, antlr);
         } catch (Exception ex) {
             throw new ScriptException(ex);
         }
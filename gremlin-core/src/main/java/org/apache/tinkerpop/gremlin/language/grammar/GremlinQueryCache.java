@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.language.grammar;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded, least-recently-used cache of parse trees produced by {@link GremlinQueryParser#parseQueryList(String)}
+ * keyed by the query text. Applications tend to send the same handful of queries over and over, so holding their
+ * parse trees avoids lexing and parsing them again, which includes the second pass in LL prediction mode for queries
+ * that SLL mode cannot handle. Queries that fail to parse are not cached.
+ */
+public class GremlinQueryCache {
+
+    private final int maxSize;
+    private final Map<String, GremlinParser.QueryListContext> cache;
+
+    private long hitCount = 0;
+    private long missCount = 0;
+    private long evictionCount = 0;
+
+    /**
+     * Creates a cache that holds up to {@code maxSize} parse trees. A {@code maxSize} of zero or less disables the
+     * cache so that every query is parsed.
+     */
+    public GremlinQueryCache(final int maxSize) {
+        this.maxSize = maxSize;
+        this.cache = new LinkedHashMap<String, GremlinParser.QueryListContext>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, GremlinParser.QueryListContext> eldest) {
+                final boolean evict = size() > GremlinQueryCache.this.maxSize;
+                if (evict) evictionCount++;
+                return evict;
+            }
+        };
+    }
+
+    /**
+     * Parses the query with the given visitor, reusing the parse tree of a previous call with the same query text.
+     */
+    public Object parse(final String query, final GremlinVisitor<Object> visitor) {
+        return GremlinQueryParser.visit(parseQueryList(query), visitor);
+    }
+
+    /**
+     * Gets the parse tree for the query, parsing it only if it is not already cached.
+     */
+    public GremlinParser.QueryListContext parseQueryList(final String query) {
+        if (maxSize <= 0) return GremlinQueryParser.parseQueryList(query);
+
+        synchronized (this) {
+            final GremlinParser.QueryListContext cached = cache.get(query);
+            if (cached != null) {
+                hitCount++;
+                return cached;
+            }
+            missCount++;
+        }
+
+        // parse outside of the lock so that a slow parse doesn't hold up other queries. two threads may parse the
+        // same query at once in which case the last one in wins, which is harmless as the trees are equivalent.
+        final GremlinParser.QueryListContext queryContext = GremlinQueryParser.parseQueryList(query);
+        synchronized (this) {
+            cache.put(query, queryContext);
+        }
+        return queryContext;
+    }
+
+    public synchronized void clear() {
+        cache.clear();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public synchronized long getEstimatedSize() {
+        return cache.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public synchronized double getHitRate() {
+        final long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+}
@@ -34,6 +34,15 @@ public class GremlinQueryParser {
     }
 
     public static Object parse(final String query, final GremlinVisitor<Object> visitor)  {
+        return visit(parseQueryList(query), visitor);
+    }
+
+    /**
+     * Parses the query into its parse tree without interpreting it. The returned tree is not modified by visiting
+     * it, so it may be held and visited repeatedly with {@link #visit(GremlinParser.QueryListContext, GremlinVisitor)}
+     * which avoids the cost of parsing the same query again.
+     */
+    public static GremlinParser.QueryListContext parseQueryList(final String query) {
         final CharStream in = CharStreams.fromString(query);
         final GremlinLexer lexer = new GremlinLexer(in);
         lexer.removeErrorListeners();
@@ -69,6 +78,13 @@ public class GremlinQueryParser {
             }        
         }
 
+        return queryContext;
+    }
+
+    /**
+     * Interprets a parse tree produced by {@link #parseQueryList(String)} with the given visitor.
+     */
+    public static Object visit(final GremlinParser.QueryListContext queryContext, final GremlinVisitor<Object> visitor) {
         try {
             return visitor.visit(queryContext);
         } catch (ClassCastException ex) {
@@ -46,4 +46,12 @@ public interface Messenger<M> {
      */
     public void sendMessage(final MessageScope messageScope, final M message);
 
+    /**
+     * Keeps the currently executing vertex active so that it executes in the next iteration of a
+     * {@link VertexProgram#isMessageDriven()} vertex program even if it receives no messages. The default is a no-op
+     * as a messenger for a {@link GraphComputer} that executes every vertex in each iteration has nothing to track.
+     */
+    public default void keepActive() {
+    }
+
 }
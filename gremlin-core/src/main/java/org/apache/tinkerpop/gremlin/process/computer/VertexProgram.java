@@ -172,6 +172,31 @@ public interface VertexProgram<M> extends Cloneable {
      */
     public Set<MessageScope> getMessageScopes(final Memory memory);
 
+    /**
+     * Whether a vertex only has work to do after the first iteration if it received a message in the previous
+     * iteration or asked to stay active with {@link Messenger#keepActive()}. A {@link GraphComputer} may then execute
+     * only those vertices, which keeps iterations where few vertices have work from costing a pass over the graph.
+     * As not every {@link GraphComputer} skips the other vertices, executing them anyway must not change the result.
+     * The default is {@code false}.
+     *
+     * @return whether the vertex program only needs to execute vertices that were messaged or kept active
+     */
+    public default boolean isMessageDriven() {
+        return false;
+    }
+
+    /**
+     * Whether the coming iteration of a {@link #isMessageDriven()} vertex program has to execute every vertex anyway,
+     * for example to finish with a pass over the whole graph once the active vertices have fallen quiet. It is not
+     * consulted for the first iteration, which always executes every vertex. The default is {@code false}.
+     *
+     * @param memory an immutable form of the {@link Memory}
+     * @return whether the coming iteration has to execute every vertex
+     */
+    public default boolean requiresAllVertices(final Memory memory) {
+        return false;
+    }
+
     /**
      * The set of {@link MapReduce} jobs that are associated with the {@link VertexProgram}.
      * This is not necessarily the exhaustive list over the life of the {@link GraphComputer}.
@@ -189,6 +189,14 @@ public class ConnectedComponentVertexProgram implements VertexProgram<String> {
         return scopes;
     }
 
+    /**
+     * After the first iteration a vertex only changes its component when it receives a lesser one from a neighbor.
+     */
+    @Override
+    public boolean isMessageDriven() {
+        return true;
+    }
+
     @Override
     public GraphComputer.ResultGraph getPreferredResultGraph() {
         return GraphComputer.ResultGraph.NEW;
@@ -48,6 +48,13 @@ import java.util.Optional;
 import java.util.Set;
 
 /**
+ * Computes the PageRank of each vertex. By default every vertex sends its rank along its edges in every iteration
+ * until the summed change across all vertices is less than epsilon or the iterations run out. Given a
+ * {@link Builder#delta(double) delta}, the program only sends the change in the rank of a vertex along its edges and
+ * only once that change is at least the given fraction of its rank, so that vertices whose rank has converged fall
+ * quiet and, being {@link #isMessageDriven() message driven}, stop executing. The ranks are then normalized to the
+ * same total as the default computation in a final iteration over all vertices.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public class PageRankVertexProgram implements VertexProgram<Double> {
@@ -64,6 +71,12 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
     private static final String INITIAL_RANK_TRAVERSAL = "gremlin.pageRankVertexProgram.initialRankTraversal";
     private static final String TELEPORTATION_ENERGY = "gremlin.pageRankVertexProgram.teleportationEnergy";
     private static final String CONVERGENCE_ERROR = "gremlin.pageRankVertexProgram.convergenceError";
+    private static final String DELTA = "gremlin.pageRankVertexProgram.delta";
+    private static final String RESIDUAL = "gremlin.pageRankVertexProgram.residual";
+    private static final String RANK_SUM = "gremlin.pageRankVertexProgram.rankSum";
+    private static final String INITIAL_RANK_SUM = "gremlin.pageRankVertexProgram.initialRankSum";
+    private static final String PROPAGATING = "gremlin.pageRankVertexProgram.propagating";
+    private static final String NORMALIZE = "gremlin.pageRankVertexProgram.normalize";
 
     private MessageScope.Local<Double> incidentMessageScope = MessageScope.Local.of(__::outE);
     private MessageScope.Local<Double> countMessageScope = MessageScope.Local.of(new MessageScope.Local.ReverseTraversalSupplier(this.incidentMessageScope));
@@ -72,6 +85,7 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
     private double alpha = 0.85d;
     private double epsilon = 0.00001d;
     private int maxIterations = 20;
+    private double delta = 0.0d;
     private String property = PAGE_RANK;
     private Set<VertexComputeKey> vertexComputeKeys;
     private Set<MemoryComputeKey> memoryComputeKeys;
@@ -93,6 +107,7 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
         this.epsilon = configuration.getDouble(EPSILON, this.epsilon);
         this.maxIterations = configuration.getInt(MAX_ITERATIONS, 20);
         this.property = configuration.getString(PROPERTY, PAGE_RANK);
+        this.delta = configuration.getDouble(DELTA, 0.0d);
         this.vertexComputeKeys = new HashSet<>(Arrays.asList(
                 VertexComputeKey.of(this.property, false),
                 VertexComputeKey.of(EDGE_COUNT, true)));
@@ -100,6 +115,14 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
                 MemoryComputeKey.of(TELEPORTATION_ENERGY, Operator.sum, true, true),
                 MemoryComputeKey.of(VERTEX_COUNT, Operator.sum, true, true),
                 MemoryComputeKey.of(CONVERGENCE_ERROR, Operator.sum, false, true)));
+        if (this.isDelta()) {
+            this.vertexComputeKeys.add(VertexComputeKey.of(RESIDUAL, true));
+            this.memoryComputeKeys.addAll(Arrays.asList(
+                    MemoryComputeKey.of(RANK_SUM, Operator.sum, true, true),
+                    MemoryComputeKey.of(INITIAL_RANK_SUM, Operator.sum, true, true),
+                    MemoryComputeKey.of(PROPAGATING, Operator.or, true, true),
+                    MemoryComputeKey.of(NORMALIZE, Operator.assign, true, true)));
+        }
     }
 
     @Override
@@ -109,6 +132,8 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
         configuration.setProperty(EPSILON, this.epsilon);
         configuration.setProperty(PROPERTY, this.property);
         configuration.setProperty(MAX_ITERATIONS, this.maxIterations);
+        if (this.isDelta())
+            configuration.setProperty(DELTA, this.delta);
         if (null != this.edgeTraversal)
             this.edgeTraversal.storeState(configuration, EDGE_TRAVERSAL);
         if (null != this.initialRankTraversal)
@@ -147,6 +172,16 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
         return set;
     }
 
+    @Override
+    public boolean isMessageDriven() {
+        return this.isDelta();
+    }
+
+    @Override
+    public boolean requiresAllVertices(final Memory memory) {
+        return this.isDelta() && memory.<Boolean>get(NORMALIZE);
+    }
+
     @Override
     public PageRankVertexProgram clone() {
         try {
@@ -164,6 +199,12 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
         memory.set(TELEPORTATION_ENERGY, null == this.initialRankTraversal ? 1.0d : 0.0d);
         memory.set(VERTEX_COUNT, 0.0d);
         memory.set(CONVERGENCE_ERROR, 1.0d);
+        if (this.isDelta()) {
+            memory.set(RANK_SUM, 0.0d);
+            memory.set(INITIAL_RANK_SUM, 0.0d);
+            memory.set(PROPAGATING, false);
+            memory.set(NORMALIZE, false);
+        }
     }
 
     @Override
@@ -171,6 +212,10 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
         if (memory.isInitialIteration()) {
             messenger.sendMessage(this.countMessageScope, 1.0d);
             memory.add(VERTEX_COUNT, 1.0d);
+            // vertices without incoming edges get no count but still need to take their initial rank
+            messenger.keepActive();
+        } else if (this.isDelta()) {
+            executeDelta(vertex, messenger, memory);
         } else {
             final double vertexCount = memory.<Double>get(VERTEX_COUNT);
             final double edgeCount;
@@ -204,8 +249,72 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
         }
     }
 
+    /**
+     * Ranks are computed without the teleportation energy that the default computation spreads over all vertices,
+     * as that would have every vertex execute in every iteration. Rather every vertex starts with a rank of
+     * {@code 1 - alpha}, sends {@code alpha} of each change to it along its edges and a vertex without edges sends
+     * nothing. As the spread energy adds the same amount to every vertex, the ranks computed this way are
+     * proportional to those of the default computation and only need to be scaled to the same total once they
+     * converge.
+     */
+    private void executeDelta(final Vertex vertex, final Messenger<Double> messenger, final Memory memory) {
+        if (memory.<Boolean>get(NORMALIZE)) {
+            // changes still in flight when the iterations ran out are dropped as they are not in the rank sum either
+            final double rank = vertex.<Double>property(this.property).orElse(0.0d);
+            vertex.property(VertexProperty.Cardinality.single, this.property,
+                    rank * memory.<Double>get(INITIAL_RANK_SUM) / memory.<Double>get(RANK_SUM));
+            return;
+        }
+
+        final double edgeCount;
+        final double change;
+        double residual;
+        if (1 == memory.getIteration()) {
+            edgeCount = IteratorUtils.reduce(messenger.receiveMessages(), 0.0d, (a, b) -> a + b);
+            vertex.property(VertexProperty.Cardinality.single, EDGE_COUNT, edgeCount);
+            memory.add(INITIAL_RANK_SUM, null == this.initialRankTraversal ?
+                    1.0d / memory.<Double>get(VERTEX_COUNT) :
+                    TraversalUtil.apply(vertex, this.initialRankTraversal.get()).doubleValue());
+            change = 1.0d - this.alpha;
+            residual = change;
+        } else {
+            edgeCount = vertex.value(EDGE_COUNT);
+            change = IteratorUtils.reduce(messenger.receiveMessages(), 0.0d, (a, b) -> a + b);
+            residual = vertex.<Double>property(RESIDUAL).orElse(0.0d) + change;
+        }
+
+        final double rank = (1 == memory.getIteration() ? 0.0d : vertex.<Double>value(this.property)) + change;
+        vertex.property(VertexProperty.Cardinality.single, this.property, rank);
+        memory.add(RANK_SUM, change);
+
+        // changes that are too small to matter are held back until later ones add up to enough to send
+        if (residual >= this.delta * rank) {
+            if (edgeCount > 0.0d) {
+                messenger.sendMessage(this.incidentMessageScope, this.alpha * residual / edgeCount);
+                memory.add(PROPAGATING, true);
+            }
+            residual = 0.0d;
+        }
+        vertex.property(VertexProperty.Cardinality.single, RESIDUAL, residual);
+    }
+
+    private boolean isDelta() {
+        return this.delta > 0.0d;
+    }
+
     @Override
     public boolean terminate(final Memory memory) {
+        if (this.isDelta() && !memory.isInitialIteration()) {
+            if (memory.<Boolean>get(NORMALIZE))
+                return true;
+
+            // once no vertex has a change to send, or the iterations run out, the ranks are normalized in one more
+            // iteration over all vertices
+            memory.set(NORMALIZE, !memory.<Boolean>get(PROPAGATING) || memory.getIteration() >= this.maxIterations);
+            memory.set(PROPAGATING, false);
+            return false;
+        }
+
         boolean terminate = memory.<Double>get(CONVERGENCE_ERROR) < this.epsilon || memory.getIteration() >= this.maxIterations;
         memory.set(CONVERGENCE_ERROR, 0.0d);
         return terminate;
@@ -213,7 +322,8 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
 
     @Override
     public String toString() {
-        return StringFactory.vertexProgramString(this, "alpha=" + this.alpha + ", epsilon=" + this.epsilon + ", iterations=" + this.maxIterations);
+        return StringFactory.vertexProgramString(this, "alpha=" + this.alpha + ", epsilon=" + this.epsilon + ", iterations=" + this.maxIterations +
+                (this.isDelta() ? ", delta=" + this.delta : ""));
     }
 
     //////////////////////////////
@@ -248,6 +358,16 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
             return this;
         }
 
+        /**
+         * Only sends the change in the rank of a vertex along its edges once it is at least this fraction of the
+         * rank, rather than sending every rank in every iteration. The epsilon is not used in that case as the
+         * computation ends once no vertex has a change to send. A value of zero, the default, turns this off.
+         */
+        public Builder delta(final double delta) {
+            this.configuration.setProperty(DELTA, delta);
+            return this;
+        }
+
         public Builder edges(final Traversal.Admin<Vertex, Edge> edgeTraversal) {
             PureTraversal.storeState(this.configuration, EDGE_TRAVERSAL, edgeTraversal);
             return this;
@@ -40,4 +40,10 @@ public final class PageRank {
      * Configures the name of the property within which to store the pagerank value.
      */
     public static final String propertyName = Graph.Hidden.hide("tinkerpop.pageRank.propertyName");
+
+    /**
+     * Configures the fraction of its rank that the rank of a vertex has to change by before the change is sent to
+     * other vertices, which computes the pagerank by only sending changes until none is large enough.
+     */
+    public static final String delta = Graph.Hidden.hide("tinkerpop.pageRank.delta");
 }
@@ -50,6 +50,7 @@ public final class PageRankVertexProgramStep extends VertexProgramStep implement
     private PureTraversal<Vertex, Edge> edgeTraversal;
     private String pageRankProperty = PageRankVertexProgram.PAGE_RANK;
     private int times = 20;
+    private double delta = 0.0d;
     private final double alpha;
 
     public PageRankVertexProgramStep(final Traversal.Admin traversal, final double alpha) {
@@ -73,6 +74,10 @@ public final class PageRankVertexProgramStep extends VertexProgramStep implement
             if (!(keyValues[1] instanceof Integer))
                 throw new IllegalArgumentException("PageRank.times requires an Integer as its argument");
             this.times = (int) keyValues[1];
+        } else if (keyValues[0].equals(PageRank.delta)) {
+            if (!(keyValues[1] instanceof Number))
+                throw new IllegalArgumentException("PageRank.delta requires a Number as its argument");
+            this.delta = ((Number) keyValues[1]).doubleValue();
         } else {
             this.parameters.set(this, keyValues);
         }
@@ -101,6 +106,7 @@ public final class PageRankVertexProgramStep extends VertexProgramStep implement
                 .property(this.pageRankProperty)
                 .iterations(this.times + 1)
                 .alpha(this.alpha)
+                .delta(this.delta)
                 .edges(detachedTraversal);
         if (this.previousTraversalVertexProgram())
             builder.initialRank(new HaltedTraversersCountTraversal());
@@ -127,7 +133,7 @@ public final class PageRankVertexProgramStep extends VertexProgramStep implement
 
     @Override
     public int hashCode() {
-        return super.hashCode() ^ this.edgeTraversal.hashCode() ^ this.pageRankProperty.hashCode() ^ this.times;
+        return super.hashCode() ^ this.edgeTraversal.hashCode() ^ this.pageRankProperty.hashCode() ^ this.times ^ Double.hashCode(this.delta);
     }
 
 }
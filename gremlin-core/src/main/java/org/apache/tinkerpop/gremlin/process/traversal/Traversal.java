@@ -449,10 +449,12 @@ public interface Traversal<S, E> extends Iterator<E>, Serializable, Cloneable, A
 
         /**
          * Gets a generator that creates new {@link TraverserSet} instances for steps in the traversal. Providers may
-         * override this default implementation to provider their own {@link TraverserSet}.
+         * override this default implementation to provider their own {@link TraverserSet}. The default creates sets
+         * that are not synchronized as a traversal is only ever iterated by one thread at a time, which is also true
+         * of the clone of the traversal that each {@code GraphComputer} worker executes.
          */
         public default Supplier<TraverserSet<S>> getTraverserSetSupplier() {
-            return TraverserSetSupplier.instance();
+            return TraverserSetSupplier.unsynchronizedInstance();
         }
 
         /**
@@ -21,8 +21,11 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.branch;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Configuring;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ComputerAwareStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.Parameters;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.WithOptions;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
@@ -30,6 +33,7 @@ import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -38,7 +42,7 @@ import java.util.Set;
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements TraversalParent {
+public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements TraversalParent, Configuring {
 
     private Traversal.Admin<S, S> repeatTraversal = null;
     private Traversal.Admin<S, ?> untilTraversal = null;
@@ -46,6 +50,10 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
     private String loopName = null;
     public boolean untilFirst = false;
     public boolean emitFirst = false;
+    private final Parameters parameters = new Parameters();
+    private boolean trackVisited = false;
+    private Set<Object> visited = null;
+    private long visitedBulk = 1L;
 
     public RepeatStep(final Traversal.Admin traversal) {
         super(traversal);
@@ -113,6 +121,56 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
         return list;
     }
 
+    /**
+     * Determines if this step was configured with {@link WithOptions#visited} to expand each object only once.
+     */
+    public boolean isTrackingVisited() {
+        return this.trackVisited;
+    }
+
+    @Override
+    public void configure(final Object... keyValues) {
+        if (keyValues[0].equals(WithOptions.visited)) {
+            if (keyValues.length != 2 || !(keyValues[1] instanceof Boolean))
+                throw new IllegalArgumentException("WithOptions.visited requires a single Boolean argument");
+            this.trackVisited = (Boolean) keyValues[1];
+        } else {
+            this.parameters.set(this, keyValues);
+        }
+    }
+
+    @Override
+    public Parameters getParameters() {
+        return this.parameters;
+    }
+
+    /**
+     * Starts tracking the objects reached from a new start. OLTP repeat() only takes a new start once everything
+     * reached from the previous one has been expanded, so the objects visited are tracked separately for each start
+     * and the results do not depend on the order of the starts.
+     */
+    private void visitStart(final Traverser.Admin<S> start) {
+        if (null == this.visited)
+            this.visited = new HashSet<>();
+        else
+            this.visited.clear();
+        this.visited.add(start.get());
+        this.visitedBulk = start.bulk();
+    }
+
+    /**
+     * Records the object of a traverser reached from the current start. A traverser whose object was already reached
+     * is rejected, while an accepted one takes the bulk of the start rather than the number of paths that led to it.
+     * As OLTP repeat() expands the traversers of a start in breadth-first order, an object is first reached at its
+     * smallest depth.
+     */
+    private boolean visit(final Traverser.Admin<S> traverser) {
+        if (!this.visited.add(traverser.get()))
+            return false;
+        traverser.setBulk(this.visitedBulk);
+        return true;
+    }
+
     public final boolean doUntil(final Traverser.Admin<S> traverser, boolean utilFirst) {
         return utilFirst == this.untilFirst && null != this.untilTraversal && TraversalUtil.test(traverser, this.untilTraversal);
     }
@@ -142,6 +200,7 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
             this.untilTraversal.reset();
         if (null != this.repeatTraversal)
             this.repeatTraversal.reset();
+        this.visited = null;
     }
 
     private final String untilString() {
@@ -162,6 +221,7 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
             clone.untilTraversal = this.untilTraversal.clone();
         if (null != this.emitTraversal)
             clone.emitTraversal = this.emitTraversal.clone();
+        clone.visited = null;
         return clone;
     }
 
@@ -178,6 +238,7 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
         int result = super.hashCode() ^ this.repeatTraversal.hashCode();
         result ^= Boolean.hashCode(this.untilFirst);
         result ^= Boolean.hashCode(this.emitFirst) << 1;
+        result ^= Boolean.hashCode(this.trackVisited) << 2;
         if (this.loopName != null)
             result ^= this.loopName.hashCode();
         if (this.untilTraversal != null)
@@ -198,6 +259,8 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
             } else {
                 final Traverser.Admin<S> start = this.starts.next();
                 start.initialiseLoops(this.getId(), this.loopName);
+                if (this.trackVisited && 0 == start.loops())
+                    visitStart(start);
                 if (doUntil(start, true)) {
                     start.resetLoops();
                     return IteratorUtils.of(start);
@@ -295,6 +358,8 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
             while (true) {
                 final Traverser.Admin<S> start = this.starts.next();
                 start.incrLoops();
+                if (repeatStep.trackVisited && !repeatStep.visit(start))
+                    continue;
                 if (repeatStep.doUntil(start, false)) {
                     start.resetLoops();
                     return IteratorUtils.of(start);
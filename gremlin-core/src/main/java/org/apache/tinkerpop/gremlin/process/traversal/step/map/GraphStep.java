@@ -55,6 +55,7 @@ public class GraphStep<S, E extends Element> extends AbstractStep<S, E> implemen
     protected final Class<E> returnClass;
     protected Object[] ids;
     protected transient Supplier<Iterator<E>> iteratorSupplier;
+    private transient Supplier<Iterator<E>> defaultIteratorSupplier;
     protected boolean isStart;
     protected boolean done = false;
     private Traverser.Admin<S> head = null;
@@ -66,7 +67,12 @@ public class GraphStep<S, E extends Element> extends AbstractStep<S, E> implemen
         this.returnClass = returnClass;
         this.ids = (ids != null && ids.length == 1 && ids[0] instanceof Collection) ? ((Collection) ids[0]).toArray(new Object[((Collection) ids[0]).size()]) : ids;
         this.isStart = isStart;
-        this.iteratorSupplier = () -> (Iterator<E>) (Vertex.class.isAssignableFrom(this.returnClass) ?
+        this.defaultIteratorSupplier = createDefaultIteratorSupplier();
+        this.iteratorSupplier = this.defaultIteratorSupplier;
+    }
+
+    private Supplier<Iterator<E>> createDefaultIteratorSupplier() {
+        return () -> (Iterator<E>) (Vertex.class.isAssignableFrom(this.returnClass) ?
                 this.getTraversal().getGraph().get().vertices(this.ids) :
                 this.getTraversal().getGraph().get().edges(this.ids));
     }
@@ -105,6 +111,13 @@ public class GraphStep<S, E extends Element> extends AbstractStep<S, E> implemen
         return this.returnClass.equals(Edge.class);
     }
 
+    /**
+     * Sets the function that produces the elements of this step. A supplier that refers to the step it was created
+     * for, as is typical for a provider's subclass that sets it in its constructor, must be set again for the copy
+     * in an override of {@link #clone()}. Otherwise a clone reads the ids, has containers and traversal of the
+     * original step, which is wrong once the clone is changed and unsafe once clones of one traversal, such as those
+     * of a cached traversal, are iterated concurrently.
+     */
     public void setIteratorSupplier(final Supplier<Iterator<E>> iteratorSupplier) {
         this.iteratorSupplier = iteratorSupplier;
     }
@@ -173,6 +186,20 @@ public class GraphStep<S, E extends Element> extends AbstractStep<S, E> implemen
         this.iterator = EmptyIterator.instance();
     }
 
+    @Override
+    public GraphStep<S, E> clone() {
+        final GraphStep<S, E> clone = (GraphStep<S, E>) super.clone();
+        if (null != this.ids) clone.ids = this.ids.clone();
+
+        // the default supplier refers to this step so the clone needs its own. a supplier that was set through
+        // setIteratorSupplier() is left to the subclass that set it.
+        if (this.iteratorSupplier == this.defaultIteratorSupplier) {
+            clone.defaultIteratorSupplier = clone.createDefaultIteratorSupplier();
+            clone.iteratorSupplier = clone.defaultIteratorSupplier;
+        }
+        return clone;
+    }
+
     @Override
     public int hashCode() {
         int result = super.hashCode() ^ this.returnClass.hashCode();
@@ -31,6 +31,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.util.CollectingBarrie
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.ProjectedTraverser;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalProduct;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
@@ -44,6 +45,7 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.Random;
 import java.util.Set;
 import java.util.function.BinaryOperator;
@@ -59,6 +61,14 @@ public final class OrderGlobalStep<S, C extends Comparable> extends CollectingBa
     private long limit = Long.MAX_VALUE;
     private final Random random = new Random();
 
+    /**
+     * When a limit is known in OLTP, holds the traversers of the {@code traverserSet} with the one that sorts last at
+     * the head so that traversers which fall beyond the limit can be evicted as they arrive.
+     */
+    private PriorityQueue<TopKEntry<S>> topK = null;
+    private long topKBulk = 0L;
+    private long topKSequence = 0L;
+
     public OrderGlobalStep(final Traversal.Admin traversal) {
         super(traversal);
     }
@@ -80,12 +90,74 @@ public final class OrderGlobalStep<S, C extends Comparable> extends CollectingBa
 
     @Override
     public void processAllStarts() {
+        // a limit of -1 comes from an unbounded range() and means there is no limit
+        if (this.limit >= 0 && this.limit != Long.MAX_VALUE && this.starts.hasNext() && this.isTopK()) {
+            this.processAllStartsWithLimit();
+            return;
+        }
+
         while (this.starts.hasNext()) {
             // only add the traverser if the comparator traversal was productive
             this.createProjectedTraverser(this.starts.next()).ifPresent(traverserSet::add);
         }
     }
 
+    /**
+     * Top-k selection is only used in OLTP because OLAP merges the barriers of many workers with the
+     * {@link OrderBiOperator} which applies the limit itself. It does not apply to {@link Order#shuffle}.
+     */
+    private boolean isTopK() {
+        if (null == this.multiComparator) this.multiComparator = this.createMultiComparator();
+        return !this.multiComparator.isShuffle() && !TraversalHelper.onGraphComputer(this.traversal);
+    }
+
+    /**
+     * Accumulates traversers so that only those which fall within the limit are retained, which requires memory
+     * proportional to the limit rather than to the number of traversers and {@code O(n log k)} time. Ties are broken
+     * by arrival order so that the result is the same as a stable sort of all the traversers.
+     */
+    private void processAllStartsWithLimit() {
+        if (null == this.topK) {
+            final MultiComparator<C> comparator = this.multiComparator;
+            this.topK = new PriorityQueue<>(11, (a, b) -> {
+                final int c = comparator.compare((C) b.traverser, (C) a.traverser);
+                return c != 0 ? c : Long.compare(b.sequence, a.sequence);
+            });
+        }
+
+        // the heap is stale once the previous barrier was fully consumed
+        if (this.traverserSet.isEmpty()) {
+            this.topK.clear();
+            this.topKBulk = 0L;
+        }
+
+        while (this.starts.hasNext()) {
+            // only add the traverser if the comparator traversal was productive
+            final Optional<ProjectedTraverser<S, Object>> projected = this.createProjectedTraverser(this.starts.next());
+            if (!projected.isPresent()) continue;
+
+            final Traverser.Admin<S> traverser = (Traverser.Admin) projected.get();
+
+            // a traverser that does not sort before the last retained one can be dropped without touching the heap
+            // unless it ties and would merge its bulk into a retained traverser that came earlier
+            if (this.topKBulk >= this.limit && !this.topK.isEmpty()) {
+                final int c = this.multiComparator.compare((C) traverser, (C) this.topK.peek().traverser);
+                if (c > 0 || (c == 0 && !this.traverserSet.contains(traverser)))
+                    continue;
+            }
+
+            if (this.traverserSet.add(traverser))
+                this.topK.add(new TopKEntry<>(traverser, this.topKSequence++));
+            this.topKBulk = this.topKBulk + traverser.bulk();
+
+            while (!this.topK.isEmpty() && this.topKBulk - this.topK.peek().traverser.bulk() >= this.limit) {
+                final TopKEntry<S> evicted = this.topK.poll();
+                this.traverserSet.remove(evicted.traverser);
+                this.topKBulk = this.topKBulk - evicted.traverser.bulk();
+            }
+        }
+    }
+
     public void setLimit(final long limit) {
         this.limit = limit;
     }
@@ -151,9 +223,18 @@ public final class OrderGlobalStep<S, C extends Comparable> extends CollectingBa
         return (List) this.comparators.stream().map(Pair::getValue0).collect(Collectors.toList());
     }
 
+    @Override
+    public void reset() {
+        super.reset();
+        if (null != this.topK) this.topK.clear();
+        this.topKBulk = 0L;
+    }
+
     @Override
     public OrderGlobalStep<S, C> clone() {
         final OrderGlobalStep<S, C> clone = (OrderGlobalStep<S, C>) super.clone();
+        clone.topK = null;
+        clone.topKBulk = 0L;
         clone.comparators = new ArrayList<>();
         for (final Pair<Traversal.Admin<S, C>, Comparator<C>> comparator : this.comparators) {
             clone.comparators.add(new Pair<>(comparator.getValue0().clone(), comparator.getValue1()));
@@ -199,6 +280,16 @@ public final class OrderGlobalStep<S, C extends Comparable> extends CollectingBa
 
     ////////////////
 
+    private static final class TopKEntry<S> {
+        private final Traverser.Admin<S> traverser;
+        private final long sequence;
+
+        private TopKEntry(final Traverser.Admin<S> traverser, final long sequence) {
+            this.traverser = traverser;
+            this.sequence = sequence;
+        }
+    }
+
     public static final class OrderBiOperator<S> implements BinaryOperator<TraverserSet<S>>, Serializable {
 
         private long limit;
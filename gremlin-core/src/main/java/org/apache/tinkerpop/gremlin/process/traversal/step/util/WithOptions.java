@@ -19,6 +19,7 @@
 package org.apache.tinkerpop.gremlin.process.traversal.step.util;
 
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.branch.RepeatStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.IndexStep;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
@@ -90,4 +91,15 @@ public class WithOptions {
      * Index items using a {@code LinkedHashMap}.
      */
     public static int map = 1;
+
+    //
+    // RepeatStep
+    //
+
+    /**
+     * Configures {@link RepeatStep} to keep a set of the objects it has already reached from the current start and to
+     * drop any traverser that reaches one of them again, so that each object is expanded once for each start rather
+     * than once per path to it.
+     */
+    public static final String visited = Graph.Hidden.hide("tinkerpop.repeat.visited");
 }
@@ -40,9 +40,10 @@ import java.util.List;
 import java.util.Set;
 
 /**
- * {@code OrderLimitStrategy} is an OLAP strategy that folds a {@link RangeGlobalStep} into a preceding
- * {@link OrderGlobalStep}. This helps to eliminate traversers early in the traversal and can
- * significantly reduce the amount of memory required by the OLAP execution engine.
+ * {@code OrderLimitStrategy} folds a {@link RangeGlobalStep} into a preceding {@link OrderGlobalStep}. This helps
+ * to eliminate traversers early in the traversal and can significantly reduce the amount of memory required by the
+ * OLAP execution engine. In OLTP, it allows the {@link OrderGlobalStep} to only retain the traversers that fall
+ * within the limit rather than sorting all of them.
  *
  * It's worth noting that certain steps are allowed between {@link OrderGlobalStep} and {@link RangeGlobalStep}:
  * <p/>
@@ -57,7 +58,9 @@ import java.util.Set;
  * </ul>
  * <p/>
  *
- * These steps will be ignored by the {@code OrderLimitStrategy} and thus not affect its behavior.
+ * These steps will be ignored by the {@code OrderLimitStrategy} and thus not affect its behavior. In OLTP, only
+ * {@link IdStep}, {@link LabelStep}, {@link PathStep} and {@link SackStep} are allowed as the others may filter or
+ * reduce traversers.
  *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
@@ -74,14 +77,19 @@ public final class OrderLimitStrategy extends AbstractTraversalStrategy<Traversa
                     SackStep.class,
                     TreeStep.class));
 
+    private static Set<Class<? extends Step>> LEGAL_STANDARD_STEPS = new HashSet<>(
+            Arrays.asList(LabelStep.class,
+                    IdStep.class,
+                    PathStep.class,
+                    SackStep.class));
+
     private OrderLimitStrategy() {
     }
 
     @Override
     public void apply(final Traversal.Admin<?, ?> traversal) {
-        if (!TraversalHelper.onGraphComputer(traversal))
-            return;
-
+        final Set<Class<? extends Step>> legalSteps = TraversalHelper.onGraphComputer(traversal) ?
+                LEGAL_STEPS : LEGAL_STANDARD_STEPS;
         final List<OrderGlobalStep> orders = TraversalHelper.getStepsOfClass(OrderGlobalStep.class, traversal);
         for (final OrderGlobalStep order : orders) {
             RangeGlobalStep range = null;
@@ -90,7 +98,7 @@ public final class OrderLimitStrategy extends AbstractTraversalStrategy<Traversa
                 if (currentStep instanceof RangeGlobalStep) {
                     range = (RangeGlobalStep) currentStep;
                     break;
-                } else if (!LEGAL_STEPS.contains(currentStep.getClass()))
+                } else if (!legalSteps.contains(currentStep.getClass()))
                     break;
                 else
                     currentStep = currentStep.getNextStep();
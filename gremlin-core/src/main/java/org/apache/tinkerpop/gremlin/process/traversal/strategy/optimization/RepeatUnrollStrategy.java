@@ -30,6 +30,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.branch.RepeatStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.DedupGlobalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.LoopsStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.NoOpBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.WithOptions;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 
@@ -40,7 +41,8 @@ import java.util.Set;
 /**
  * {@code RepeatUnrollStrategy} is an OLTP-only strategy that unrolls any {@link RepeatStep} if it uses a constant
  * number of loops ({@code times(x)}) and doesn't emit intermittent elements. If any of the following 3 steps appears
- * within the repeat-traversal, the strategy will not be applied:
+ * within the repeat-traversal, or if the {@link RepeatStep} is configured with {@link WithOptions#visited}, the
+ * strategy will not be applied:
  * <p/>
  * <ul>
  *     <li>{@link DedupGlobalStep}</li>
@@ -74,6 +76,7 @@ public final class RepeatUnrollStrategy extends AbstractTraversalStrategy<Traver
             if (traversal.getSteps().get(i) instanceof RepeatStep) {
                 final RepeatStep<?> repeatStep = (RepeatStep) traversal.getSteps().get(i);
                 if (null == repeatStep.getEmitTraversal() && null != repeatStep.getRepeatTraversal() &&
+                        !repeatStep.isTrackingVisited() &&
                         repeatStep.getUntilTraversal() instanceof LoopTraversal && ((LoopTraversal) repeatStep.getUntilTraversal()).getMaxLoops() > 0 &&
                         !TraversalHelper.hasStepOfAssignableClassRecursively(Scope.global, DedupGlobalStep.class, repeatStep.getRepeatTraversal()) &&
                         !TraversalHelper.hasStepOfAssignableClassRecursively(INVALIDATING_STEPS, repeatStep.getRepeatTraversal())) {
@@ -26,6 +26,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
 import org.apache.tinkerpop.gremlin.process.traversal.step.PathProcessor;
+import org.apache.tinkerpop.gremlin.process.traversal.step.branch.RepeatStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.ElementStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.InjectStep;
@@ -80,6 +81,10 @@ public final class ComputerVerificationStrategy extends AbstractTraversalStrateg
 
             if (UNSUPPORTED_STEPS.stream().filter(c -> c.isAssignableFrom(step.getClass())).findFirst().isPresent())
                 throw new VerificationException("The following step is currently not supported on GraphComputer: " + step, traversal);
+
+            // the visited objects of a repeat() would be split across the workers
+            if (step instanceof RepeatStep && ((RepeatStep<?>) step).isTrackingVisited())
+                throw new VerificationException("A repeat() configured with WithOptions.visited is currently not supported on GraphComputer: " + step, traversal);
         }
 
         Step<?, ?> nextParentStep = traversal.getParent().asStep();
@@ -41,17 +41,27 @@ import java.util.Spliterator;
  */
 public class TraverserSet<S> extends AbstractSet<Traverser.Admin<S>> implements Set<Traverser.Admin<S>>, Queue<Traverser.Admin<S>>, Serializable {
 
-    private final Map<Traverser.Admin<S>, Traverser.Admin<S>> map = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final Map<Traverser.Admin<S>, Traverser.Admin<S>> map;
 
     public TraverserSet() {
-
+        this(true);
     }
 
     public TraverserSet(final Traverser.Admin<S> traverser) {
+        this(true);
         if (traverser != null)
             this.map.put(traverser, traverser);
     }
 
+    /**
+     * Creates an empty set which is only safe for use by more than one thread if {@code synchronize} is {@code true}.
+     * The monitor is needed where {@code GraphComputer} workers share a set but is pure overhead for the sets of
+     * the steps of a traversal as those are only ever driven by a single thread.
+     */
+    public TraverserSet(final boolean synchronize) {
+        this.map = synchronize ? Collections.synchronizedMap(new LinkedHashMap<>()) : new LinkedHashMap<>();
+    }
+
     @Override
     public Iterator<Traverser.Admin<S>> iterator() {
         return this.map.values().iterator();
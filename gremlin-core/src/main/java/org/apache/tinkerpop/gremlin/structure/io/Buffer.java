@@ -21,6 +21,7 @@ package org.apache.tinkerpop.gremlin.structure.io;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Represents an abstract view for one or more primitive byte arrays and NIO buffers.
@@ -198,6 +199,19 @@ public interface Buffer {
      */
     Buffer writeBytes(final byte[] src, final int srcIndex, final int length);
 
+    /**
+     * Encodes the specified character sequence as UTF-8 starting at the current writer index and advances the
+     * index. Implementations should override this to encode directly into their storage rather than through an
+     * intermediate byte array.
+     *
+     * @return the number of bytes written
+     */
+    default int writeUtf8(final CharSequence value) {
+        final byte[] bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+        writeBytes(bytes);
+        return bytes.length;
+    }
+
     /**
      * Decreases the reference count by {@code 1} and deallocates this object if the reference count reaches at
      * {@code 0}.
@@ -40,7 +40,12 @@ public class StringSerializer extends SimpleTypeSerializer<String> {
 
     @Override
     protected void writeValue(final String value, final Buffer buffer, final GraphBinaryWriter context) {
-        final byte[] stringBytes = value.getBytes(StandardCharsets.UTF_8);
-        buffer.writeInt(stringBytes.length).writeBytes(stringBytes);
+        // encode straight into the buffer and then fill in the length that precedes the bytes, which avoids
+        // allocating a byte array for every string written
+        final int lengthIndex = buffer.writerIndex();
+        buffer.writeInt(0);
+        final int length = buffer.writeUtf8(value);
+        final int endIndex = buffer.writerIndex();
+        buffer.writerIndex(lengthIndex).writeInt(length).writerIndex(endIndex);
     }
 }
@@ -28,17 +28,31 @@ import java.util.function.Supplier;
  */
 public final class TraverserSetSupplier<S> implements Supplier<TraverserSet<S>>, Serializable {
 
-    private static final TraverserSetSupplier INSTANCE = new TraverserSetSupplier();
+    private static final TraverserSetSupplier INSTANCE = new TraverserSetSupplier(true);
+    private static final TraverserSetSupplier UNSYNCHRONIZED_INSTANCE = new TraverserSetSupplier(false);
 
-    private TraverserSetSupplier() {
+    private final boolean synchronize;
+
+    private TraverserSetSupplier(final boolean synchronize) {
+        this.synchronize = synchronize;
     }
 
     @Override
     public TraverserSet<S> get() {
-        return new TraverserSet<>();
+        return new TraverserSet<>(this.synchronize);
     }
 
+    /**
+     * Gets a supplier of {@link TraverserSet} instances that are safe to share between threads.
+     */
     public static <S> TraverserSetSupplier<S> instance() {
         return INSTANCE;
     }
+
+    /**
+     * Gets a supplier of {@link TraverserSet} instances that must only be used by one thread at a time.
+     */
+    public static <S> TraverserSetSupplier<S> unsynchronizedInstance() {
+        return UNSYNCHRONIZED_INSTANCE;
+    }
 }
@@ -29,6 +29,7 @@ import javax.script.ScriptException;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.IsInstanceOf.instanceOf;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
 
 public class GremlinLangScriptEngineTest {
 
@@ -46,6 +47,18 @@ public class GremlinLangScriptEngineTest {
         assertEquals(g.V().asAdmin().getBytecode(), ((Traversal.Admin) result).getBytecode());
     }
 
+    @Test
+    public void shouldEvalSameGremlinScriptFromCache() throws ScriptException {
+        final GremlinLangScriptEngine engine = new GremlinLangScriptEngine();
+        engine.put("g", g);
+
+        final Object first = engine.eval("g.V().out('knows')");
+        final Object second = engine.eval("g.V().out('knows')");
+        assertNotSame(first, second);
+        assertEquals(g.V().out("knows").asAdmin().getBytecode(), ((Traversal.Admin) second).getBytecode());
+        assertEquals(1, engine.getQueryCache().getHitCount());
+    }
+
     @Test
     public void shouldEvalGremlinBytecode() throws ScriptException {
         final Object result = scriptEngine.eval(g.V().asAdmin().getBytecode(), "g");
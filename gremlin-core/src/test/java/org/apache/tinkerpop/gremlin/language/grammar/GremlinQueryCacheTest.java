@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.language.grammar;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class GremlinQueryCacheTest {
+
+    private final GraphTraversalSource g = EmptyGraph.instance().traversal();
+
+    @Test
+    public void shouldReuseParseTree() {
+        final GremlinQueryCache cache = new GremlinQueryCache(10);
+        final GremlinParser.QueryListContext first = cache.parseQueryList("g.V().has('name','marko').out()");
+        final GremlinParser.QueryListContext second = cache.parseQueryList("g.V().has('name','marko').out()");
+
+        assertSame(first, second);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getEstimatedSize());
+        assertEquals(0.5, cache.getHitRate(), 0.0001);
+    }
+
+    @Test
+    public void shouldProduceNewTraversalOnEachParse() {
+        final GremlinQueryCache cache = new GremlinQueryCache(10);
+        final String query = "g.V().has('name','marko').out('knows').values('name')";
+        final Traversal.Admin<?, ?> first = (Traversal.Admin<?, ?>) cache.parse(query, new GremlinAntlrToJava(g));
+        final Traversal.Admin<?, ?> second = (Traversal.Admin<?, ?>) cache.parse(query, new GremlinAntlrToJava(g));
+
+        assertNotSame(first, second);
+        assertEquals(g.V().has("name", "marko").out("knows").values("name").asAdmin().getBytecode(), first.getBytecode());
+        assertEquals(first.getBytecode(), second.getBytecode());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsed() {
+        final GremlinQueryCache cache = new GremlinQueryCache(2);
+        final GremlinParser.QueryListContext v = cache.parseQueryList("g.V()");
+        cache.parseQueryList("g.E()");
+        cache.parseQueryList("g.V()");
+        cache.parseQueryList("g.V().count()");
+
+        assertEquals(2, cache.getEstimatedSize());
+        assertEquals(1, cache.getEvictionCount());
+        assertSame(v, cache.parseQueryList("g.V()"));
+
+        cache.parseQueryList("g.E()");
+        assertEquals(4, cache.getMissCount());
+    }
+
+    @Test
+    public void shouldNotCacheWhenDisabled() {
+        final GremlinQueryCache cache = new GremlinQueryCache(0);
+        assertNotSame(cache.parseQueryList("g.V()"), cache.parseQueryList("g.V()"));
+        assertEquals(0, cache.getEstimatedSize());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    public void shouldNotCacheFailedParse() {
+        final GremlinQueryCache cache = new GremlinQueryCache(10);
+        try {
+            cache.parseQueryList("g.V().notAStep(");
+            fail("Query should not have parsed");
+        } catch (GremlinParserException ignored) {
+            // expected
+        }
+
+        assertEquals(0, cache.getEstimatedSize());
+    }
+}
@@ -19,14 +19,22 @@
 package org.apache.tinkerpop.gremlin.process.traversal.step.branch;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.StepTest;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.WithOptions;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.hasLabel;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.out;
+import static org.junit.Assert.assertEquals;
 
 /**
  * @author Daniel Kuppitz (http://gremlin.guru)
@@ -41,7 +49,54 @@ public class RepeatStepTest extends StepTest {
                 __.out().emit().repeat(out()).times(3),
                 __.repeat(out()).until(hasLabel("x")),
                 __.repeat("a", __.out()).times(3),
-                __.repeat(out().repeat(out()).times(1)).times(1).limit(1)
+                __.repeat(out().repeat(out()).times(1)).times(1).limit(1),
+                __.repeat(out()).times(3).with(WithOptions.visited)
         );
     }
+
+    @Test
+    public void shouldExpandEachObjectOnceWhenTrackingVisited() {
+        final GraphTraversalSource g = EmptyGraph.instance().traversal();
+
+        // the paths double in number at each loop while only five numbers are ever reached
+        assertEquals(30L, g.inject(0).repeat(nextTwo()).emit().times(4).count().next().longValue());
+        assertEquals(Arrays.asList(1, 2, 3, 4), g.inject(0).repeat(nextTwo()).emit().times(4).with(WithOptions.visited).order().toList());
+        assertEquals(Arrays.asList(3, 4), g.inject(0).repeat(nextTwo()).times(2).with(WithOptions.visited).order().toList());
+    }
+
+    @Test
+    public void shouldTrackVisitedSeparatelyForEachStart() {
+        final GraphTraversalSource g = EmptyGraph.instance().traversal();
+
+        // from 0 the second loop reaches 3 and 4 while from 3 it reaches 1 and 2, whichever start comes first
+        assertEquals(Arrays.asList(1, 2, 3, 4), g.inject(0, 3).repeat(nextTwo()).times(2).with(WithOptions.visited).order().toList());
+        assertEquals(Arrays.asList(1, 2, 3, 4), g.inject(3, 0).repeat(nextTwo()).times(2).with(WithOptions.visited).order().toList());
+
+        // a bulked start still counts once for each time it was given
+        assertEquals(4L, g.inject(0, 0).barrier().repeat(nextTwo()).times(2).with(WithOptions.visited).count().next().longValue());
+    }
+
+    @Test
+    public void shouldEmitEachObjectOnceForEachStartWhenTrackingVisited() {
+        final GraphTraversalSource g = EmptyGraph.instance().traversal();
+        final Map<String, List<String>> adjacency = new HashMap<>();
+        adjacency.put("a", Arrays.asList("x", "y"));
+        adjacency.put("x", Collections.singletonList("z"));
+        adjacency.put("y", Collections.singletonList("z"));
+        adjacency.put("b", Collections.singletonList("z"));
+
+        // z is reached along two paths from a but only emitted once for it
+        assertEquals(Arrays.asList("x", "y", "z"), g.inject("a").repeat(next(adjacency)).emit().with(WithOptions.visited).order().toList());
+        assertEquals(Arrays.asList("x", "y", "z", "z"), g.inject("a", "b").repeat(next(adjacency)).emit().with(WithOptions.visited).order().toList());
+        assertEquals(Arrays.asList("x", "y", "z", "z"), g.inject("b", "a").repeat(next(adjacency)).emit().with(WithOptions.visited).order().toList());
+        assertEquals(Arrays.asList("a", "b", "x", "y", "z", "z"), g.inject("b", "a").emit().repeat(next(adjacency)).with(WithOptions.visited).order().toList());
+    }
+
+    private static Traversal<String, String> next(final Map<String, List<String>> adjacency) {
+        return __.<String, String>flatMap(t -> adjacency.getOrDefault(t.get(), Collections.emptyList()).iterator());
+    }
+
+    private static Traversal<Integer, Integer> nextTwo() {
+        return __.<Integer, Integer>flatMap(t -> Arrays.asList((t.get() + 1) % 5, (t.get() + 2) % 5).iterator());
+    }
 }
@@ -19,12 +19,21 @@
 package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.DefaultGraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.StepTest;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
 /**
  * @author Daniel Kuppitz (http://gremlin.guru)
  */
@@ -38,4 +47,23 @@ public class GraphStepTest extends StepTest {
                 __.V(2,3)
         );
     }
+
+    @Test
+    public void shouldReadIdsOfCloneRatherThanOriginal() {
+        final Graph graph = mock(Graph.class);
+        final Vertex one = mock(Vertex.class);
+        final Vertex two = mock(Vertex.class);
+        when(graph.vertices(1)).thenAnswer(invocation -> IteratorUtils.of(one));
+        when(graph.vertices(2)).thenAnswer(invocation -> IteratorUtils.of(two));
+
+        final Traversal.Admin<Vertex, Vertex> traversal = new DefaultGraphTraversal<Vertex, Vertex>(graph).addStep(
+                new GraphStep<>(new DefaultGraphTraversal<>(graph), Vertex.class, true, 1)).asAdmin();
+        final Traversal.Admin<Vertex, Vertex> clone = traversal.clone();
+        final GraphStep<?, ?> step = (GraphStep<?, ?>) clone.getStartStep();
+        step.clearIds();
+        step.addIds(2);
+
+        assertEquals(Arrays.asList(two), IteratorUtils.list(clone));
+        assertEquals(Arrays.asList(one), IteratorUtils.list(traversal));
+    }
 }
@@ -20,15 +20,20 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Order;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.StepTest;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.OrderLimitStrategy;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
 import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.outE;
+import static org.junit.Assert.assertEquals;
 
 /**
  * @author Daniel Kuppitz (http://gremlin.guru)
@@ -49,6 +54,25 @@ public class OrderGlobalStepTest extends StepTest {
         );
     }
 
+    @Test
+    public void shouldOrderWithLimitSameAsWithoutLimit() {
+        final GraphTraversalSource g = EmptyGraph.instance().traversal();
+        final GraphTraversalSource gWithoutLimit = g.withoutStrategies(OrderLimitStrategy.class);
+        final Random random = new Random(1234567890L);
+        final List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(random.nextInt(200));
+        }
+
+        for (final int limit : Arrays.asList(0, 1, 10, 100, 999, 1000, 2000)) {
+            assertEquals(gWithoutLimit.inject(list).unfold().order().by(Order.desc).limit(limit).toList(),
+                    g.inject(list).unfold().order().by(Order.desc).limit(limit).toList());
+            // ties on the projection are resolved by arrival order
+            assertEquals(gWithoutLimit.inject(list).unfold().order().by(__.math("_ % 10")).range(5, limit + 5).toList(),
+                    g.inject(list).unfold().order().by(__.math("_ % 10")).range(5, limit + 5).toList());
+        }
+    }
+
     @Test
     public void shouldNotThrowContractException() {
         for (int x = 0; x < 1000; x++) {
@@ -50,6 +50,9 @@ public class OrderLimitStrategyTest {
     @Parameterized.Parameter(value = 1)
     public long limit;
 
+    @Parameterized.Parameter(value = 2)
+    public long standardLimit;
+
     void applyOrderLimitStrategyStrategy(final Traversal traversal) {
         final TraversalStrategies strategies = new DefaultTraversalStrategies();
         strategies.addStrategies(OrderLimitStrategy.instance());
@@ -60,17 +63,27 @@ public class OrderLimitStrategyTest {
     @Test
     public void doTest() {
         final String repr = translator.translate(traversal.getBytecode()).getScript();
-        traversal.asAdmin().setParent(new TraversalVertexProgramStep(EmptyTraversal.instance(), EmptyTraversal.instance())); // trick it
-        applyOrderLimitStrategyStrategy(traversal);
-        assertEquals(repr, limit, TraversalHelper.getFirstStepOfAssignableClass(OrderGlobalStep.class, traversal.asAdmin()).get().getLimit());
+        final Traversal.Admin<?, ?> computerTraversal = traversal.clone();
+        computerTraversal.setParent(new TraversalVertexProgramStep(EmptyTraversal.instance(), EmptyTraversal.instance())); // trick it
+        applyOrderLimitStrategyStrategy(computerTraversal);
+        assertEquals(repr, limit, TraversalHelper.getFirstStepOfAssignableClass(OrderGlobalStep.class, computerTraversal).get().getLimit());
+    }
+
+    @Test
+    public void doStandardTest() {
+        final String repr = translator.translate(traversal.getBytecode()).getScript();
+        final Traversal.Admin<?, ?> standardTraversal = traversal.clone();
+        applyOrderLimitStrategyStrategy(standardTraversal);
+        assertEquals(repr, standardLimit, TraversalHelper.getFirstStepOfAssignableClass(OrderGlobalStep.class, standardTraversal).get().getLimit());
     }
 
     @Parameterized.Parameters(name = "{0}")
     public static Iterable<Object[]> generateTestParameters() {
         return Arrays.asList(new Object[][]{
-                {__.order().limit(1), 1l},
-                {__.out().order().range(7, 15), 15l},
-                {__.order().select("a").limit(7), 7l},
-                {__.order().out().limit(10), Long.MAX_VALUE}});
+                {__.order().limit(1), 1l, 1l},
+                {__.out().order().range(7, 15), 15l, 15l},
+                {__.order().select("a").limit(7), 7l, Long.MAX_VALUE},
+                {__.order().path().limit(7), 7l, 7l},
+                {__.order().out().limit(10), Long.MAX_VALUE, Long.MAX_VALUE}});
     }
 }
@@ -24,6 +24,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.Translator;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.WithOptions;
 import org.apache.tinkerpop.gremlin.process.traversal.translator.GroovyTranslator;
 import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalStrategies;
 import org.apache.tinkerpop.gremlin.process.traversal.util.EmptyTraversal;
@@ -53,11 +54,13 @@ public class ComputerVerificationStrategyTest {
                 // illegal
                 {__.where(__.out().values("name")), false},
                 {__.local(out().out()), false},
+                {__.repeat(out()).times(2).with(WithOptions.visited), false},
                 // legal
                 {__.values("age").union(max(), min(), sum()), true},
                 {__.count().sum(), true},
                 {__.where("a", P.eq("b")).out(), true},
                 {__.where(__.and(outE("knows"), outE("created"))).values("name"), true},
+                {__.repeat(out()).times(2), true},
 
         });
     }
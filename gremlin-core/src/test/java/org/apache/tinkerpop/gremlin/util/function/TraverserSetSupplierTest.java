@@ -52,4 +52,13 @@ public class TraverserSetSupplierTest {
         assertThat(ts1, not(sameInstance(ts3)));
         assertThat(ts2, not(sameInstance(ts3)));
     }
+
+    @Test
+    public void shouldSupplyNewUnsynchronizedTraverserSetOnEachInvocation() {
+        final TraverserSet<Object> ts1 = TraverserSetSupplier.unsynchronizedInstance().get();
+        final TraverserSet<Object> ts2 = TraverserSetSupplier.unsynchronizedInstance().get();
+
+        assertThat(ts1, hasSize(0));
+        assertThat(ts1, not(sameInstance(ts2)));
+    }
 }
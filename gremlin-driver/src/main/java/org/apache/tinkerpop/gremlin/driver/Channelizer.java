@@ -34,6 +34,7 @@ import io.netty.handler.codec.http.DefaultHttpHeaders;
 import io.netty.handler.codec.http.websocketx.CloseWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.WebSocketVersion;
 import io.netty.handler.codec.http.websocketx.extensions.compression.WebSocketClientCompressionHandler;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.timeout.IdleStateHandler;
@@ -88,6 +89,7 @@ public interface Channelizer extends ChannelHandler {
         protected static final String PIPELINE_GREMLIN_SASL_HANDLER = "gremlin-sasl-handler";
         protected static final String PIPELINE_GREMLIN_HANDLER = "gremlin-handler";
         public static final String PIPELINE_SSL_HANDLER = "gremlin-ssl-handler";
+        public static final String PIPELINE_FLUSH_CONSOLIDATION_HANDLER = "gremlin-flush-consolidation-handler";
 
         public boolean supportsSsl() {
             return cluster.connectionPoolSettings().enableSsl;
@@ -134,6 +136,11 @@ public interface Channelizer extends ChannelHandler {
                 pipeline.addLast(PIPELINE_SSL_HANDLER, sslHandler);
             }
 
+            // hold back flushes of requests written at about the same time so that they go out together
+            final int maxRequestsPerFlush = cluster.connectionPoolSettings().maxRequestsPerFlush;
+            if (maxRequestsPerFlush > 0)
+                pipeline.addLast(PIPELINE_FLUSH_CONSOLIDATION_HANDLER, new FlushConsolidationHandler(maxRequestsPerFlush, true));
+
             configure(pipeline);
             pipeline.addLast(PIPELINE_GREMLIN_SASL_HANDLER, new Handler.GremlinSaslAuthenticationHandler(cluster.authProperties()));
             pipeline.addLast(PIPELINE_GREMLIN_HANDLER, new Handler.GremlinResponseHandler(pending));
@@ -154,7 +161,8 @@ public interface Channelizer extends ChannelHandler {
         public void init(final Connection connection) {
             super.init(connection);
             webSocketGremlinRequestEncoder = new WebSocketGremlinRequestEncoder(true, cluster.getSerializer());
-            webSocketGremlinResponseDecoder = new WebSocketGremlinResponseDecoder(cluster.getSerializer());
+            webSocketGremlinResponseDecoder = new WebSocketGremlinResponseDecoder(cluster.getSerializer(),
+                    cluster.connectionPoolSettings().maxRetainedResultBytes);
         }
 
         /**
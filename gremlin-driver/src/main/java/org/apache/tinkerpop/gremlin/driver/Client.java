@@ -201,6 +201,26 @@ public abstract class Client {
         throw new UnsupportedOperationException("This implementation does not support Traversal submission - use a sessionless Client created with from the alias() method");
     }
 
+    /**
+     * Submits each {@link Traversal} to the server as its own request, where requests are written to the same
+     * connection for as long as it can take more of them and are flushed to the network together. Results are
+     * returned as {@link Traverser} instances in the same way as {@link #submitAsync(Traversal)} and each future in
+     * the returned list completes when the write of the request for the {@link Traversal} at the same position
+     * completes. Should a request fail to be written, for example because no connection became available in time,
+     * its future and those of the requests after it complete exceptionally while the requests before it are sent.
+     */
+    public List<CompletableFuture<ResultSet>> submitBatch(final List<Traversal> traversals) {
+        return submitBatch(traversals, RequestOptions.EMPTY);
+    }
+
+    /**
+     * A version of {@link #submitBatch(List)} which provides the ability to set options that apply to each request
+     * of the batch. An override of the request identifier is not allowed as each request needs its own.
+     */
+    public List<CompletableFuture<ResultSet>> submitBatch(final List<Traversal> traversals, final RequestOptions options) {
+        throw new UnsupportedOperationException("This implementation does not support Traversal submission - use a sessionless Client created with from the alias() method");
+    }
+
     /**
      * Initializes the client which typically means that a connection is established to the server.  Depending on the
      * implementation and configuration this blocking call may take some time.  This method will be called
@@ -357,6 +377,7 @@ public abstract class Client {
                 .add(Tokens.ARGS_BATCH_SIZE, batchSize);
 
         // apply settings if they were made available
+        options.getCredits().ifPresent(credits -> request.add(Tokens.ARGS_CREDITS, credits));
         options.getTimeout().ifPresent(timeout -> request.add(Tokens.ARGS_EVAL_TIMEOUT, timeout));
         options.getParameters().ifPresent(params -> request.addArg(Tokens.ARGS_BINDINGS, params));
         options.getAliases().ifPresent(aliases -> request.addArg(Tokens.ARGS_ALIASES, aliases));
@@ -394,6 +415,55 @@ public abstract class Client {
         }
     }
 
+    /**
+     * A low-level method that writes several manually constructed {@link RequestMessage} instances with as few
+     * flushes as possible, moving to another connection only when the current one cannot take more requests. The
+     * returned list always has a future for each message. If a connection cannot be chosen or a request cannot be
+     * written, the requests before it are still sent and the futures of it and the requests after it are completed
+     * exceptionally.
+     */
+    protected List<CompletableFuture<ResultSet>> submitBatchAsync(final List<RequestMessage> msgs) {
+        if (isClosing()) throw new IllegalStateException("Client is closed");
+
+        if (!initialized)
+            init();
+
+        final List<CompletableFuture<ResultSet>> futures = new ArrayList<>(msgs.size());
+        for (int i = 0; i < msgs.size(); i++) {
+            futures.add(new CompletableFuture<>());
+        }
+
+        Connection connection = null;
+        int written = 0;
+        try {
+            for (RequestMessage msg : msgs) {
+                // each request borrows the connection so that it is returned to the pool once for each response
+                if (null == connection || !connection.tryBorrow()) {
+                    if (connection != null) connection.flush();
+                    connection = chooseConnection(msg);
+                }
+
+                try {
+                    connection.write(msg, futures.get(written), false);
+                } catch (RuntimeException re) {
+                    // nothing was written so there will be no response to return the borrow for this request
+                    connection.returnToPool();
+                    throw re;
+                }
+                written++;
+            }
+        } catch (Exception ex) {
+            futures.subList(written, futures.size()).forEach(f -> f.completeExceptionally(ex));
+        } finally {
+            // requests that were written before a failure still need to be sent
+            if (connection != null) connection.flush();
+
+            if (logger.isDebugEnabled())
+                logger.debug("Submitted batch of {} requests of which {} were written", msgs.size(), written);
+        }
+        return futures;
+    }
+
     public abstract boolean isClosing();
 
     /**
@@ -649,19 +719,7 @@ public abstract class Client {
         @Override
         public CompletableFuture<ResultSet> submitAsync(final Bytecode bytecode, final RequestOptions options) {
             try {
-                // need to call buildMessage() right away to get client specific configurations, that way request specific
-                // ones can override as needed
-                final RequestMessage.Builder request = buildMessage(RequestMessage.build(Tokens.OPS_BYTECODE)
-                        .processor("traversal")
-                        .addArg(Tokens.ARGS_GREMLIN, bytecode));
-
-                // apply settings if they were made available
-                options.getBatchSize().ifPresent(batchSize -> request.add(Tokens.ARGS_BATCH_SIZE, batchSize));
-                options.getTimeout().ifPresent(timeout -> request.add(Tokens.ARGS_EVAL_TIMEOUT, timeout));
-                options.getOverrideRequestId().ifPresent(request::overrideRequestId);
-                options.getUserAgent().ifPresent(userAgent -> request.add(Tokens.ARGS_USER_AGENT, userAgent));
-
-                return submitAsync(request.create());
+                return submitAsync(buildBytecodeMessage(bytecode, options));
             } catch (RuntimeException re) {
                 throw re;
             } catch (Exception ex) {
@@ -669,8 +727,40 @@ public abstract class Client {
             }
         }
 
+        @Override
+        public List<CompletableFuture<ResultSet>> submitBatch(final List<Traversal> traversals, final RequestOptions options) {
+            if (options.getOverrideRequestId().isPresent())
+                throw new IllegalArgumentException("A request identifier cannot be overridden for a batch of requests");
+
+            final List<RequestMessage> msgs = new ArrayList<>(traversals.size());
+            for (Traversal traversal : traversals) {
+                msgs.add(withAliases(buildBytecodeMessage(traversal.asAdmin().getBytecode(), options)));
+            }
+            return submitBatchAsync(msgs);
+        }
+
+        private RequestMessage buildBytecodeMessage(final Bytecode bytecode, final RequestOptions options) {
+            // need to call buildMessage() right away to get client specific configurations, that way request specific
+            // ones can override as needed
+            final RequestMessage.Builder request = buildMessage(RequestMessage.build(Tokens.OPS_BYTECODE)
+                    .processor("traversal")
+                    .addArg(Tokens.ARGS_GREMLIN, bytecode));
+
+            // apply settings if they were made available
+            options.getBatchSize().ifPresent(batchSize -> request.add(Tokens.ARGS_BATCH_SIZE, batchSize));
+            options.getCredits().ifPresent(credits -> request.add(Tokens.ARGS_CREDITS, credits));
+            options.getTimeout().ifPresent(timeout -> request.add(Tokens.ARGS_EVAL_TIMEOUT, timeout));
+            options.getOverrideRequestId().ifPresent(request::overrideRequestId);
+            options.getUserAgent().ifPresent(userAgent -> request.add(Tokens.ARGS_USER_AGENT, userAgent));
+            return request.create();
+        }
+
         @Override
         public CompletableFuture<ResultSet> submitAsync(final RequestMessage msg) {
+            return super.submitAsync(withAliases(msg));
+        }
+
+        private RequestMessage withAliases(final RequestMessage msg) {
             final RequestMessage.Builder builder = RequestMessage.from(msg);
 
             // only add aliases which aren't already present. if they are present then they represent request level
@@ -683,7 +773,7 @@ public abstract class Client {
                 });
             }
 
-            return super.submitAsync(builder.create());
+            return builder.create();
         }
 
         @Override
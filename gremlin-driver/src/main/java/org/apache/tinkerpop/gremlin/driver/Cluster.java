@@ -208,6 +208,8 @@ public final class Cluster {
                 .maxConnectionPoolSize(settings.connectionPool.maxSize)
                 .minConnectionPoolSize(settings.connectionPool.minSize)
                 .connectionSetupTimeoutMillis(settings.connectionPool.connectionSetupTimeoutMillis)
+                .maxRequestsPerFlush(settings.connectionPool.maxRequestsPerFlush)
+                .maxRetainedResultBytes(settings.connectionPool.maxRetainedResultBytes)
                 .enableUserAgentOnConnect(settings.enableUserAgentOnConnect)
                 .validationRequest(settings.connectionPool.validationRequest);
 
@@ -398,6 +400,20 @@ public final class Cluster {
         return manager.connectionPoolSettings.maxWaitForConnection;
     }
 
+    /**
+     * Gets the maximum number of requests written to a connection that may be flushed together.
+     */
+    public int getMaxRequestsPerFlush() {
+        return manager.connectionPoolSettings.maxRequestsPerFlush;
+    }
+
+    /**
+     * Gets the maximum number of bytes of response frames a connection may hold for results that were not read yet.
+     */
+    public long getMaxRetainedResultBytes() {
+        return manager.connectionPoolSettings.maxRetainedResultBytes;
+    }
+
     /**
      * Gets how long a connection will wait for all pending messages to be returned from the server before closing.
      */
@@ -595,6 +611,8 @@ public final class Cluster {
         private int maxContentLength = Connection.MAX_CONTENT_LENGTH;
         private int reconnectInterval = Connection.RECONNECT_INTERVAL;
         private int resultIterationBatchSize = Connection.RESULT_ITERATION_BATCH_SIZE;
+        private int maxRequestsPerFlush = 0;
+        private long maxRetainedResultBytes = 0;
         private long keepAliveInterval = Connection.KEEP_ALIVE_INTERVAL;
         private String channelizer = Channelizer.WebSocketChannelizer.class.getName();
         private boolean enableSsl = false;
@@ -862,6 +880,29 @@ public final class Cluster {
             return this;
         }
 
+        /**
+         * The maximum number of requests written to a connection that may be flushed to the network together. When
+         * greater than zero, requests submitted at about the same time share one flush, which happens once this many
+         * are waiting or once there are no more writes queued for the connection. The default of zero flushes each
+         * request as it is written.
+         */
+        public Builder maxRequestsPerFlush(final int maxRequestsPerFlush) {
+            this.maxRequestsPerFlush = maxRequestsPerFlush;
+            return this;
+        }
+
+        /**
+         * The maximum number of bytes of response frames a connection may hold so that results are only deserialized
+         * as they are read from the {@link ResultSet}, which spares the work for results that are never read and
+         * keeps it off of the network threads. When the limit is reached the oldest frames are deserialized so that
+         * they can be released. This only applies to the {@code GraphBinaryMessageSerializerV1} and the default of
+         * zero deserializes results as they arrive.
+         */
+        public Builder maxRetainedResultBytes(final long maxRetainedResultBytes) {
+            this.maxRetainedResultBytes = maxRetainedResultBytes;
+            return this;
+        }
+
         /**
          * The amount of time in milliseconds to wait the connection to close before timing out where the default
          * value is 3000. This timeout allows for a delay to occur in waiting for remaining messages that may still
@@ -1112,6 +1153,8 @@ public final class Cluster {
             connectionPoolSettings.maxContentLength = builder.maxContentLength;
             connectionPoolSettings.reconnectInterval = builder.reconnectInterval;
             connectionPoolSettings.resultIterationBatchSize = builder.resultIterationBatchSize;
+            connectionPoolSettings.maxRequestsPerFlush = builder.maxRequestsPerFlush;
+            connectionPoolSettings.maxRetainedResultBytes = builder.maxRetainedResultBytes;
             connectionPoolSettings.enableSsl = builder.enableSsl;
             connectionPoolSettings.keyStore = builder.keyStore;
             connectionPoolSettings.keyStorePassword = builder.keyStorePassword;
@@ -1199,6 +1242,12 @@ public final class Cluster {
             if (builder.resultIterationBatchSize < 1)
                 throw new IllegalArgumentException("resultIterationBatchSize must be greater than zero");
 
+            if (builder.maxRequestsPerFlush < 0)
+                throw new IllegalArgumentException("maxRequestsPerFlush must be zero or greater");
+
+            if (builder.maxRetainedResultBytes < 0)
+                throw new IllegalArgumentException("maxRetainedResultBytes must be zero or greater");
+
             if (builder.nioPoolSize < 1)
                 throw new IllegalArgumentException("nioPoolSize must be greater than zero");
 
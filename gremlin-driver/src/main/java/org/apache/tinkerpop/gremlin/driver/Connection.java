@@ -210,6 +210,15 @@ final class Connection {
     }
 
     public ChannelPromise write(final RequestMessage requestMessage, final CompletableFuture<ResultSet> resultQueueSetup) {
+        return write(requestMessage, resultQueueSetup, true);
+    }
+
+    /**
+     * Writes a request to the connection where it is only flushed to the network if {@code flush} is {@code true}.
+     * Requests that are not flushed are sent with the next call to {@link #flush()} or with the next request that is.
+     */
+    ChannelPromise write(final RequestMessage requestMessage, final CompletableFuture<ResultSet> resultQueueSetup,
+                         final boolean flush) {
         // dont allow the same request id to be used as one that is already in the queue
         if (pending.containsKey(requestMessage.getRequestId()))
             throw new IllegalStateException(String.format("There is already a request pending with an id of: %s", requestMessage.getRequestId()));
@@ -218,6 +227,11 @@ final class Connection {
         // the promise so that the client knows that that it can start checking for results.
         final Connection thisConnection = this;
 
+        // let the load balancer know how long the host takes to respond
+        final LoadBalancingStrategy loadBalancingStrategy = cluster.loadBalancingStrategy();
+        final long requestStart = System.nanoTime();
+        loadBalancingStrategy.onRequestSent(pool.host);
+
         final ChannelPromise requestPromise = channel.newPromise()
                 .addListener(f -> {
                     if (!f.isSuccess()) {
@@ -225,12 +239,15 @@ final class Connection {
                             logger.debug(String.format("Write on connection %s failed",
                                     thisConnection.getConnectionInfo()), f.cause());
 
+                        loadBalancingStrategy.onResponseComplete(pool.host, System.nanoTime() - requestStart);
                         handleConnectionCleanupOnError(thisConnection);
 
                         cluster.executor().submit(() -> resultQueueSetup.completeExceptionally(f.cause()));
                     } else {
                         final LinkedBlockingQueue<Result> resultLinkedBlockingQueue = new LinkedBlockingQueue<>();
                         final CompletableFuture<Void> readCompleted = new CompletableFuture<>();
+                        readCompleted.whenComplete((v, t) ->
+                                loadBalancingStrategy.onResponseComplete(pool.host, System.nanoTime() - requestStart));
 
                         readCompleted.whenCompleteAsync((v, t) -> {
                             if (t != null) {
@@ -253,6 +270,8 @@ final class Connection {
                         }, cluster.executor());
 
                         final ResultQueue handler = new ResultQueue(resultLinkedBlockingQueue, readCompleted);
+                        if (requestMessage.optionalArgs(Tokens.ARGS_CREDITS).isPresent())
+                            handler.enableCredits(credits -> grantCredits(requestMessage.getRequestId(), credits));
                         pending.put(requestMessage.getRequestId(), handler);
 
                         // resultQueueSetup should only be completed by a worker since the application code might have sync
@@ -262,12 +281,45 @@ final class Connection {
                                 new ResultSet(handler, cluster.executor(), readCompleted, requestMessage, pool.host)));
                     }
                 });
-        channel.writeAndFlush(requestMessage, requestPromise);
+        if (flush)
+            channel.writeAndFlush(requestMessage, requestPromise);
+        else
+            channel.write(requestMessage, requestPromise);
 
         return requestPromise;
     }
 
-    private void returnToPool() {
+    /**
+     * Lets the server send more partial responses for a request that was sent with {@link Tokens#ARGS_CREDITS}.
+     */
+    private void grantCredits(final UUID requestId, final int credits) {
+        final RequestMessage msg = RequestMessage.build(Tokens.OPS_CREDIT)
+                .overrideRequestId(requestId)
+                .addArg(Tokens.ARGS_CREDITS, credits).create();
+        channel.writeAndFlush(msg, channel.voidPromise());
+    }
+
+    /**
+     * Flushes requests that were written without being flushed.
+     */
+    void flush() {
+        channel.flush();
+    }
+
+    /**
+     * Borrows this connection from its pool again so that another request can be written to it.
+     *
+     * @return {@code true} if the connection was borrowed and {@code false} if it cannot take more requests
+     */
+    boolean tryBorrow() {
+        return pool != null && pool.borrowAgain(this);
+    }
+
+    /**
+     * Returns this connection to its pool once, which is done for each response and must also be done for a borrow
+     * that was not followed by a request.
+     */
+    void returnToPool() {
         try {
             if (pool != null) pool.returnConnection(this);
         } catch (ConnectionException ce) {
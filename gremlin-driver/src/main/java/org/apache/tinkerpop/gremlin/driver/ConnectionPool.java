@@ -556,6 +556,23 @@ final class ConnectionPool {
         }
     }
 
+    /**
+     * Borrows a connection that is already borrowed from this pool once more so that another request of a batch can
+     * be written to it. It is only borrowed if it is still part of the pool, is open and has not reached the
+     * {@code maxSimultaneousUsagePerConnection}, so each request of a batch counts toward that limit just as it would
+     * if it were submitted alone.
+     */
+    synchronized boolean borrowAgain(final Connection connection) {
+        if (isClosed() || connection.isDead() || connection.isClosing() || !connections.contains(connection))
+            return false;
+
+        if (connection.borrowed.get() >= maxSimultaneousUsagePerConnection)
+            return false;
+
+        connection.borrowed.incrementAndGet();
+        return true;
+    }
+
     /**
      * Get the least-used connection from the pool. Also triggers consideration of a new connection if the least-used
      * connection has hit the usage maximum or no valid connection could be retrieved from the pool.
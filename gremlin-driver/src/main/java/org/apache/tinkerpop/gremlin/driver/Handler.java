@@ -21,6 +21,7 @@ package org.apache.tinkerpop.gremlin.driver;
 import io.netty.util.AttributeMap;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.tinkerpop.gremlin.driver.exception.ResponseException;
+import org.apache.tinkerpop.gremlin.driver.handler.LazyResults;
 import org.apache.tinkerpop.gremlin.util.Tokens;
 import org.apache.tinkerpop.gremlin.util.message.RequestMessage;
 import org.apache.tinkerpop.gremlin.util.message.ResponseMessage;
@@ -226,14 +227,27 @@ final class Handler {
 
                 // this is a "result" from the server which is either the result of a script or a
                 // serialized traversal
-                if (data instanceof List) {
+                final int results;
+                if (data instanceof LazyResults) {
+                    // results that are not deserialized until they are read from the queue
+                    final LazyResults lazyResults = (LazyResults) data;
+                    for (int i = 0; i < lazyResults.size(); i++) {
+                        queue.add(new Result(lazyResults, i));
+                    }
+                    results = lazyResults.size();
+                } else if (data instanceof List) {
                     // unrolls the collection into individual results to be handled by the queue.
                     final List<Object> listToUnroll = (List<Object>) data;
                     listToUnroll.forEach(item -> queue.add(new Result(item)));
+                    results = listToUnroll.size();
                 } else {
                     // since this is not a list it can just be added to the queue
                     queue.add(new Result(response.getResult().getData()));
+                    results = 1;
                 }
+
+                // lets the queue grant more credit once these results are read if the server is waiting on it
+                if (statusCode == ResponseStatusCode.PARTIAL_CONTENT) queue.markPartialResponse(results);
             } else {
                 // this is a "success" but represents no results otherwise it is an error
                 if (statusCode != ResponseStatusCode.NO_CONTENT) {
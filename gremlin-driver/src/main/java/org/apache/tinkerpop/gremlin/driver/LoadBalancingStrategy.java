@@ -25,7 +25,11 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -45,6 +49,20 @@ public interface LoadBalancingStrategy extends Host.Listener {
      */
     public Iterator<Host> select(final RequestMessage msg);
 
+    /**
+     * Called when a request is about to be written to a {@link Host}.
+     */
+    public default void onRequestSent(final Host host) {
+    }
+
+    /**
+     * Called when the response to a request that was written to a {@link Host} has been completely read, whether
+     * successfully or not, or when the request could not be written, with the time in nanoseconds since
+     * {@link #onRequestSent(Host)} was called.
+     */
+    public default void onResponseComplete(final Host host, final long latencyNanos) {
+    }
+
     /**
      * A simple round-robin strategy that simply selects the next host in the {@link Cluster} to send the
      * {@link RequestMessage} to.
@@ -116,4 +134,157 @@ public interface LoadBalancingStrategy extends Host.Listener {
             onUnavailable(host);
         }
     }
+
+    /**
+     * A strategy that favors the hosts that are least loaded, which is measured as the number of requests in flight
+     * to a host multiplied by an exponentially weighted moving average of its response times. Rather than compare
+     * every host for each request, two available hosts are picked at random and the less loaded one is selected,
+     * which avoids all clients sending their requests to the same host when they observe similar loads. A host that
+     * has requests in flight but has not completed any yet is considered the most loaded.
+     */
+    public static class LeastLoaded implements LoadBalancingStrategy {
+
+        private final CopyOnWriteArrayList<Host> availableHosts = new CopyOnWriteArrayList<>();
+        private final ConcurrentMap<Host, Load> loads = new ConcurrentHashMap<>();
+        private final long decayNanos;
+
+        /**
+         * Creates the strategy with response times that decay over 10 seconds.
+         */
+        public LeastLoaded() {
+            this(10000);
+        }
+
+        /**
+         * Creates the strategy where the weight of a response time in the average decays exponentially over
+         * {@code decayMillis}, so that a host that was slow recovers once it responds quickly again.
+         */
+        public LeastLoaded(final long decayMillis) {
+            if (decayMillis <= 0) throw new IllegalArgumentException("decayMillis must be greater than zero");
+            this.decayNanos = TimeUnit.MILLISECONDS.toNanos(decayMillis);
+        }
+
+        @Override
+        public void initialize(final Cluster cluster, final Collection<Host> hosts) {
+            this.availableHosts.addAll(hosts);
+        }
+
+        @Override
+        public Iterator<Host> select(final RequestMessage msg) {
+            final List<Host> hosts = new ArrayList<>();
+            availableHosts.iterator().forEachRemaining(host -> {
+                if (host.isAvailable()) hosts.add(host);
+            });
+
+            if (hosts.size() > 1) {
+                final ThreadLocalRandom random = ThreadLocalRandom.current();
+                final int first = random.nextInt(hosts.size());
+                final int second = (first + 1 + random.nextInt(hosts.size() - 1)) % hosts.size();
+                final int selected = getLoad(hosts.get(second)) < getLoad(hosts.get(first)) ? second : first;
+
+                // the remaining hosts follow the selected one in case it cannot be used
+                if (selected != 0) hosts.add(0, hosts.remove(selected));
+            }
+
+            return hosts.iterator();
+        }
+
+        @Override
+        public void onRequestSent(final Host host) {
+            load(host).inFlight.incrementAndGet();
+        }
+
+        @Override
+        public void onResponseComplete(final Host host, final long latencyNanos) {
+            final Load load = load(host);
+            final int inFlight = load.inFlight.decrementAndGet();
+            load.update(latencyNanos, decayNanos);
+            if (load.removed && inFlight <= 0) loads.remove(host, load);
+        }
+
+        /**
+         * Gets the number of requests that were sent to the host and have not completed.
+         */
+        public int getInFlight(final Host host) {
+            final Load load = loads.get(host);
+            return null == load ? 0 : load.inFlight.get();
+        }
+
+        /**
+         * Gets the moving average of the response times of the host in nanoseconds, which is zero if no request to
+         * the host has completed yet.
+         */
+        public double getAverageLatency(final Host host) {
+            final Load load = loads.get(host);
+            return null == load ? 0 : load.averageNanos;
+        }
+
+        /**
+         * Gets the load of the host that is used to compare it to others.
+         */
+        public double getLoad(final Host host) {
+            final Load load = loads.get(host);
+            if (null == load) return 0;
+
+            final int inFlight = load.inFlight.get();
+            final double average = load.averageNanos;
+            if (average == 0) return inFlight == 0 ? 0 : Double.MAX_VALUE;
+            return average * (inFlight + 1);
+        }
+
+        private Load load(final Host host) {
+            return loads.computeIfAbsent(host, h -> new Load());
+        }
+
+        @Override
+        public void onAvailable(final Host host) {
+            this.availableHosts.addIfAbsent(host);
+        }
+
+        @Override
+        public void onUnavailable(final Host host) {
+            this.availableHosts.remove(host);
+        }
+
+        @Override
+        public void onNew(final Host host) {
+            loads.computeIfPresent(host, (h, load) -> {
+                load.removed = false;
+                return load;
+            });
+            onAvailable(host);
+        }
+
+        /**
+         * Stops selecting the host. Its load is kept until the requests that are still in flight to it complete, as
+         * dropping it sooner would leave those completions to count down from zero in a new entry, which would make
+         * the host look less loaded than it is should it be added again.
+         */
+        @Override
+        public void onRemove(final Host host) {
+            onUnavailable(host);
+            loads.computeIfPresent(host, (h, load) -> {
+                load.removed = true;
+                return load.inFlight.get() > 0 ? load : null;
+            });
+        }
+
+        private static final class Load {
+            private final AtomicInteger inFlight = new AtomicInteger();
+            private volatile double averageNanos;
+            private volatile boolean removed;
+            private long lastUpdateNanos;
+
+            synchronized void update(final long latencyNanos, final long decayNanos) {
+                final long now = System.nanoTime();
+                if (averageNanos == 0) {
+                    averageNanos = Math.max(1, latencyNanos);
+                } else {
+                    final double weight = Math.exp(-(double) Math.max(0, now - lastUpdateNanos) / decayNanos);
+                    averageNanos = Math.max(1, averageNanos * weight + latencyNanos * (1 - weight));
+                }
+                lastUpdateNanos = now;
+            }
+        }
+    }
 }
@@ -37,6 +37,7 @@ public final class RequestOptions {
     private final Map<String,String> aliases;
     private final Map<String, Object> parameters;
     private final Integer batchSize;
+    private final Integer credits;
     private final Long timeout;
     private final UUID overrideRequestId;
     private final String userAgent;
@@ -46,6 +47,7 @@ public final class RequestOptions {
         this.aliases = builder.aliases;
         this.parameters = builder.parameters;
         this.batchSize = builder.batchSize;
+        this.credits = builder.credits;
         this.timeout = builder.timeout;
         this.overrideRequestId = builder.overrideRequestId;
         this.userAgent = builder.userAgent;
@@ -68,6 +70,10 @@ public final class RequestOptions {
         return Optional.ofNullable(batchSize);
     }
 
+    public Optional<Integer> getCredits() {
+        return Optional.ofNullable(credits);
+    }
+
     public Optional<Long> getTimeout() {
         return Optional.ofNullable(timeout);
     }
@@ -88,6 +94,7 @@ public final class RequestOptions {
         private Map<String,String> aliases = null;
         private Map<String, Object> parameters = null;
         private Integer batchSize = null;
+        private Integer credits = null;
         private Long timeout = null;
         private UUID overrideRequestId = null;
         private String userAgent = null;
@@ -134,6 +141,18 @@ public final class RequestOptions {
             return this;
         }
 
+        /**
+         * The number of batches of results the server may send ahead of the {@link ResultSet} before it waits for
+         * results to be read, which bounds the results held by the client to roughly {@code credits} times the
+         * {@link #batchSize(int)}. The server pauses iteration while it waits and the time spent waiting counts
+         * toward the timeout of the request. If this value is not set, then the server sends results as fast as the
+         * connection allows.
+         */
+        public Builder credits(final int credits) {
+            this.credits = credits;
+            return this;
+        }
+
         /**
          * The per client request override in milliseconds for the server configured {@code evaluationTimeout}.
          * If this value is not set, then the configuration for the server is used.
@@ -18,6 +18,7 @@
  */
 package org.apache.tinkerpop.gremlin.driver;
 
+import org.apache.tinkerpop.gremlin.driver.handler.LazyResults;
 import org.apache.tinkerpop.gremlin.util.message.ResponseResult;
 import org.apache.tinkerpop.gremlin.process.traversal.Path;
 import org.apache.tinkerpop.gremlin.structure.Edge;
@@ -36,20 +37,31 @@ import java.util.Iterator;
  * @author Stephen Mallette (http://stephen.genoprime.com)
  */
 public final class Result {
-    final Object resultObject;
+    private Object resultObject;
+    private volatile LazyResults lazyResults;
+    private final int index;
 
     /**
      * Constructs a "result" from data found in {@link ResponseResult#getData()}.
      */
     public Result(final Object responseData) {
         this.resultObject = responseData;
+        this.index = -1;
+    }
+
+    /**
+     * Constructs a "result" that is only deserialized from the response when it is first accessed.
+     */
+    Result(final LazyResults lazyResults, final int index) {
+        this.lazyResults = lazyResults;
+        this.index = index;
     }
 
     /**
      * Gets the result item by coercing it to a {@code String} via {@code toString()}.
      */
     public String getString() {
-        return resultObject.toString();
+        return getObject().toString();
     }
 
     /**
@@ -58,7 +70,7 @@ public final class Result {
      * @throws NumberFormatException if the value is not parsable as an {@code int}.
      */
     public int getInt() {
-        return Integer.parseInt(resultObject.toString());
+        return Integer.parseInt(getObject().toString());
     }
 
     /**
@@ -67,7 +79,7 @@ public final class Result {
      * @throws NumberFormatException if the value is not parsable as an {@code byte}.
      */
     public byte getByte() {
-        return Byte.parseByte(resultObject.toString());
+        return Byte.parseByte(getObject().toString());
     }
 
     /**
@@ -76,7 +88,7 @@ public final class Result {
      * @throws NumberFormatException if the value is not parsable as an {@code short}.
      */
     public short getShort() {
-        return Short.parseShort(resultObject.toString());
+        return Short.parseShort(getObject().toString());
     }
 
     /**
@@ -85,7 +97,7 @@ public final class Result {
      * @throws NumberFormatException if the value is not parsable as an {@code long}.
      */
     public long getLong() {
-        return Long.parseLong(resultObject.toString());
+        return Long.parseLong(getObject().toString());
     }
 
     /**
@@ -94,7 +106,7 @@ public final class Result {
      * @throws NumberFormatException if the value is not parsable as an {@code float}.
      */
     public float getFloat() {
-        return Float.parseFloat(resultObject.toString());
+        return Float.parseFloat(getObject().toString());
     }
 
     /**
@@ -103,7 +115,7 @@ public final class Result {
      * @throws NumberFormatException if the value is not parsable as an {@code double}.
      */
     public double getDouble() {
-        return Double.parseDouble(resultObject.toString());
+        return Double.parseDouble(getObject().toString());
     }
 
     /**
@@ -112,7 +124,7 @@ public final class Result {
      * @throws NumberFormatException if the value is not parsable as an {@code boolean}.
      */
     public boolean getBoolean() {
-        return Boolean.parseBoolean(resultObject.toString());
+        return Boolean.parseBoolean(getObject().toString());
     }
 
     /**
@@ -121,65 +133,71 @@ public final class Result {
      * {@code null}.
      */
     public boolean isNull() {
-        return null == resultObject;
+        return null == getObject();
     }
 
     /**
      * Gets the result item by casting it to a {@link Vertex}.
      */
     public Vertex getVertex() {
-        return (Vertex) resultObject;
+        return (Vertex) getObject();
     }
     /**
      * Gets the result item by casting it to an {@link Edge}.
      */
     public Edge getEdge() {
-        return (Edge) resultObject;
+        return (Edge) getObject();
     }
     /**
      * Gets the result item by casting it to an {@link Element}.
      */
     public Element getElement() {
-        return (Element) resultObject;
+        return (Element) getObject();
     }
 
     /**
      * Gets the result item by casting it to a {@link Path}.
      */
     public Path getPath() {
-        return (Path) resultObject;
+        return (Path) getObject();
     }
 
     /**
      * Gets the result item by casting it to a {@link Property}.
      */
     public <V> Property<V> getProperty() {
-        return (Property<V>) resultObject;
+        return (Property<V>) getObject();
     }
 
     /**
      * Gets the result item by casting it to a {@link VertexProperty}.
      */
     public <V> VertexProperty<V> getVertexProperty() {
-        return (VertexProperty<V>) resultObject;
+        return (VertexProperty<V>) getObject();
     }
 
     /**
      * Gets the result item by casting it to the specified {@link Class}.
      */
     public <T> T get(final Class<? extends T> clazz) {
-        return clazz.cast(this.resultObject);
+        return clazz.cast(getObject());
     }
 
     /**
      * Gets the result item.
      */
     public Object getObject() {
+        final LazyResults lazy = lazyResults;
+        if (lazy != null) {
+            resultObject = lazy.get(index);
+            lazyResults = null;
+        }
         return this.resultObject;
     }
 
     @Override
     public String toString() {
+        final Object resultObject = getObject();
         final String c = resultObject != null ? resultObject.getClass().getCanonicalName() : "null";
         return "result{" +
                 "object=" + resultObject + " " +
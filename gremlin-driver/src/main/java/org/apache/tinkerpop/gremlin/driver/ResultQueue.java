@@ -21,9 +21,11 @@ package org.apache.tinkerpop.gremlin.driver;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.javatuples.Pair;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
@@ -31,6 +33,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
 
 /**
  * A queue of incoming {@link Result} objects.  The queue is updated by the {@link Handler.GremlinResponseHandler}
@@ -53,6 +56,16 @@ final class ResultQueue {
 
     private Map<String,Object> statusAttributes = null;
 
+    private volatile IntConsumer creditGranter = null;
+
+    /**
+     * The number of results in each partial response that was not completely read yet when the server waits for
+     * credit before sending more.
+     */
+    private final Deque<Integer> unreadFrames = new ArrayDeque<>();
+
+    private int readFromFrames = 0;
+
     public ResultQueue(final LinkedBlockingQueue<Result> resultLinkedBlockingQueue, final CompletableFuture<Void> readComplete) {
         this.resultLinkedBlockingQueue = resultLinkedBlockingQueue;
         this.readComplete = readComplete;
@@ -68,6 +81,54 @@ final class ResultQueue {
         tryDrainNextWaiting(false);
     }
 
+    /**
+     * Has the queue grant more credit to the server through the {@code creditGranter} as results of partial responses
+     * are read.
+     */
+    void enableCredits(final IntConsumer creditGranter) {
+        this.creditGranter = creditGranter;
+    }
+
+    /**
+     * Marks the end of a partial response that added the given number of results to the queue. Once all of them
+     * are read the server is granted credit for another one.
+     */
+    void markPartialResponse(final int results) {
+        if (null == creditGranter) return;
+        synchronized (unreadFrames) {
+            unreadFrames.add(results);
+        }
+        grantCredits(0);
+    }
+
+    /**
+     * Lets the server send all remaining results without waiting for them to be read, which is needed when nothing
+     * is read until the response is complete.
+     */
+    void waiveCredits() {
+        final IntConsumer granter = creditGranter;
+        if (null == granter) return;
+
+        creditGranter = null;
+        if (!isComplete()) granter.accept(Integer.MAX_VALUE);
+    }
+
+    private void grantCredits(final int read) {
+        final IntConsumer creditGranter = this.creditGranter;
+        if (null == creditGranter) return;
+
+        int credits = 0;
+        synchronized (unreadFrames) {
+            readFromFrames += read;
+            while (!unreadFrames.isEmpty() && unreadFrames.peek() <= readFromFrames) {
+                readFromFrames -= unreadFrames.poll();
+                credits++;
+            }
+        }
+
+        if (credits > 0 && !isComplete()) creditGranter.accept(credits);
+    }
+
     private <V> V validate(final String aggregateTo, final Class<?> expected) {
         if (!(expected.isAssignableFrom(aggregatedResult.getClass())))
             throw new IllegalStateException(String.format("Side-effect \"%s\" contains the type %s that is not acceptable for %s",
@@ -101,7 +162,7 @@ final class ResultQueue {
 
     void drainTo(final Collection<Result> collection) {
         if (error.get() != null) throw new RuntimeException(error.get());
-        resultLinkedBlockingQueue.drainTo(collection);
+        grantCredits(resultLinkedBlockingQueue.drainTo(collection));
     }
 
     void markComplete(final Map<String,Object> statusAttributes) {
@@ -138,7 +199,7 @@ final class ResultQueue {
             final int items = nextWaiting.getValue1();
             final CompletableFuture<List<Result>> future = nextWaiting.getValue0();
             final List<Result> results = new ArrayList<>(items);
-            resultLinkedBlockingQueue.drainTo(results, items);
+            grantCredits(resultLinkedBlockingQueue.drainTo(results, items));
 
             // it's important to check for error here because a future may have already been queued in "waiting" prior
             // to the first response back from the server. if that happens, any "waiting" futures should be completed
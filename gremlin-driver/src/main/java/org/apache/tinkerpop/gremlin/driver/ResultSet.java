@@ -140,9 +140,11 @@ public final class ResultSet implements Iterable<Result> {
      * The returned {@link CompletableFuture} completes when all reads are complete for this request and the
      * entire result has been accounted for on the client. While this method is named "all" it really refers to
      * retrieving all remaining items in the set.  For large result sets it is preferred to use
-     * {@link Iterator} or {@link Stream} options, as the results will be held in memory at once.
+     * {@link Iterator} or {@link Stream} options, as the results will be held in memory at once. For the same reason
+     * a request sent with {@link RequestOptions.Builder#credits(int)} no longer waits for results to be read.
      */
     public CompletableFuture<List<Result>> all() {
+        resultQueue.waiveCredits();
         return readCompleted.thenApplyAsync(unusedInput -> {
             final List<Result> list = new ArrayList<>();
             resultQueue.drainTo(list);
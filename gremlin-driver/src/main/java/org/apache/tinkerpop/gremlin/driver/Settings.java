@@ -252,6 +252,12 @@ final class Settings {
             if (connectionPoolConf.containsKey("connectionSetupTimeoutMillis"))
                 cpSettings.connectionSetupTimeoutMillis = connectionPoolConf.getLong("connectionSetupTimeoutMillis");
 
+            if (connectionPoolConf.containsKey("maxRequestsPerFlush"))
+                cpSettings.maxRequestsPerFlush = connectionPoolConf.getInt("maxRequestsPerFlush");
+
+            if (connectionPoolConf.containsKey("maxRetainedResultBytes"))
+                cpSettings.maxRetainedResultBytes = connectionPoolConf.getLong("maxRetainedResultBytes");
+
             settings.connectionPool = cpSettings;
         }
 
@@ -409,6 +415,21 @@ final class Settings {
          * complete by then.
          */
         public long connectionSetupTimeoutMillis = Connection.CONNECTION_SETUP_TIMEOUT_MILLIS;
+
+        /**
+         * The maximum number of requests written to a connection that may be flushed to the network together. When
+         * greater than zero, requests submitted at about the same time are written with one flush rather than one
+         * each, where the flush happens once this many requests are waiting or once there are no more writes queued
+         * for the connection. The default of zero flushes each request as it is written.
+         */
+        public int maxRequestsPerFlush = 0;
+
+        /**
+         * The maximum number of bytes of response frames a connection may hold so that results are only deserialized
+         * when they are read from the {@link ResultSet}. When the limit is reached the oldest frames are deserialized
+         * to release them. Only applies to GraphBinary and the default of zero deserializes results as they arrive.
+         */
+        public long maxRetainedResultBytes = 0;
     }
 
     public static class SerializerSettings {
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.driver.handler;
+
+import io.netty.buffer.ByteBuf;
+import org.apache.tinkerpop.gremlin.structure.io.Buffer;
+import org.apache.tinkerpop.gremlin.structure.io.binary.GraphBinaryReader;
+import org.apache.tinkerpop.gremlin.util.ser.NettyBufferFactory;
+
+import java.util.function.Consumer;
+
+/**
+ * The undecoded items of a GraphBinary list that was returned in a response frame. The items are held as a retained
+ * slice of the frame and are only deserialized as they are requested, in order, as GraphBinary gives no way to find
+ * an item without reading the ones before it. The slice is released as soon as the last item is read, when decoding
+ * fails or when {@link #materialize()} is called.
+ */
+public final class LazyResults {
+    private static final NettyBufferFactory bufferFactory = new NettyBufferFactory();
+
+    private final ByteBuf content;
+    private final int retainedBytes;
+    private final GraphBinaryReader reader;
+    private final Object[] values;
+    private final Consumer<LazyResults> onRelease;
+    private Buffer buffer;
+    private int decoded = 0;
+    private Exception error;
+
+    /**
+     * Takes ownership of the {@code content}, which must be positioned at the first item and contain {@code size}
+     * fully-qualified values. The {@code onRelease} callback is called once the {@code content} is released.
+     */
+    public LazyResults(final ByteBuf content, final int size, final GraphBinaryReader reader,
+                       final Consumer<LazyResults> onRelease) {
+        this.content = content;
+        this.retainedBytes = content.readableBytes();
+        this.reader = reader;
+        this.values = new Object[size];
+        this.onRelease = onRelease;
+        this.buffer = bufferFactory.create(content);
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Gets the number of bytes of the frame held by this instance until it is released.
+     */
+    public int getRetainedBytes() {
+        return retainedBytes;
+    }
+
+    public synchronized boolean isReleased() {
+        return null == buffer;
+    }
+
+    /**
+     * Gets the item at the {@code index}, deserializing it and any unread item before it.
+     *
+     * @throws IllegalStateException if the item could not be deserialized
+     */
+    public synchronized Object get(final int index) {
+        decodeTo(index + 1);
+        if (index >= decoded)
+            throw new IllegalStateException(String.format("Could not deserialize result %s of %s", index, values.length), error);
+        return values[index];
+    }
+
+    /**
+     * Deserializes all unread items so that the frame can be released.
+     */
+    public synchronized void materialize() {
+        decodeTo(values.length);
+    }
+
+    private void decodeTo(final int count) {
+        while (decoded < count && null == error) {
+            try {
+                values[decoded] = reader.read(buffer);
+                decoded++;
+            } catch (Exception ex) {
+                error = ex;
+            }
+        }
+
+        if (buffer != null && (decoded == values.length || error != null)) {
+            buffer = null;
+            content.release();
+            onRelease.accept(this);
+        }
+    }
+}
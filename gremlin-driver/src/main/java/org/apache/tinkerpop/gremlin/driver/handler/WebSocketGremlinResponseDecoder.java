@@ -18,8 +18,17 @@
  */
 package org.apache.tinkerpop.gremlin.driver.handler;
 
+import io.netty.buffer.ByteBuf;
+import org.apache.tinkerpop.gremlin.structure.io.Buffer;
+import org.apache.tinkerpop.gremlin.structure.io.binary.DataType;
+import org.apache.tinkerpop.gremlin.structure.io.binary.GraphBinaryReader;
 import org.apache.tinkerpop.gremlin.util.MessageSerializer;
+import org.apache.tinkerpop.gremlin.util.message.ResponseMessage;
+import org.apache.tinkerpop.gremlin.util.message.ResponseStatusCode;
+import org.apache.tinkerpop.gremlin.util.ser.GraphBinaryMessageSerializerV1;
 import org.apache.tinkerpop.gremlin.util.ser.MessageTextSerializer;
+import org.apache.tinkerpop.gremlin.util.ser.NettyBufferFactory;
+import org.apache.tinkerpop.gremlin.util.ser.SerializationException;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToMessageDecoder;
@@ -27,24 +36,61 @@ import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.WebSocketFrame;
 
+import java.util.Deque;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
+ * Decodes response frames into a {@link ResponseMessage}. When given a positive {@code maxRetainedBytes} and a
+ * {@link GraphBinaryMessageSerializerV1}, the list of results in a frame is not deserialized here but is returned as
+ * {@link LazyResults} that hold on to the frame until the results are read. Once the frames held for the channel
+ * would exceed {@code maxRetainedBytes} the oldest of them are deserialized and released to make room.
+ *
  * @author Stephen Mallette (http://stephen.genoprime.com)
  */
 @ChannelHandler.Sharable
 public final class WebSocketGremlinResponseDecoder extends MessageToMessageDecoder<WebSocketFrame> {
+    private static final NettyBufferFactory bufferFactory = new NettyBufferFactory();
+
     private final MessageSerializer<?> serializer;
+    private final long maxRetainedBytes;
+    private final AtomicLong retainedBytes = new AtomicLong();
+    private final Deque<LazyResults> retained = new ConcurrentLinkedDeque<>();
 
     public WebSocketGremlinResponseDecoder(final MessageSerializer<?> serializer) {
+        this(serializer, 0);
+    }
+
+    public WebSocketGremlinResponseDecoder(final MessageSerializer<?> serializer, final long maxRetainedBytes) {
         this.serializer = serializer;
+        this.maxRetainedBytes = serializer instanceof GraphBinaryMessageSerializerV1 ? maxRetainedBytes : 0;
+    }
+
+    /**
+     * Gets the number of bytes of response frames held for results that were not read yet.
+     */
+    public long getRetainedBytes() {
+        return retainedBytes.get();
+    }
+
+    @Override
+    public void channelInactive(final ChannelHandlerContext ctx) throws Exception {
+        // results can still be read after the channel closes so make sure nothing holds on to its buffers
+        LazyResults oldest;
+        while ((oldest = retained.poll()) != null) {
+            oldest.materialize();
+        }
+        super.channelInactive(ctx);
     }
 
     @Override
     protected void decode(final ChannelHandlerContext channelHandlerContext, final WebSocketFrame webSocketFrame, final List<Object> objects) throws Exception {
         if (webSocketFrame instanceof BinaryWebSocketFrame) {
             final BinaryWebSocketFrame tf = (BinaryWebSocketFrame) webSocketFrame;
-            objects.add(serializer.deserializeResponse(tf.content()));
+            objects.add(maxRetainedBytes > 0 ? deserializeResponseLazily(tf.content()) : serializer.deserializeResponse(tf.content()));
         } else if (webSocketFrame instanceof TextWebSocketFrame) {
             final TextWebSocketFrame tf = (TextWebSocketFrame) webSocketFrame;
             final MessageTextSerializer<?> textSerializer = (MessageTextSerializer<?>) serializer;
@@ -53,4 +99,52 @@ public final class WebSocketGremlinResponseDecoder extends MessageToMessageDecod
             throw new RuntimeException(String.format("WebSocket channel does not handle this type of message: %s", webSocketFrame.getClass().getName()));
         }
     }
+
+    private ResponseMessage deserializeResponseLazily(final ByteBuf content) throws Exception {
+        final GraphBinaryReader reader = ((GraphBinaryMessageSerializerV1) serializer).getMapper().getReader();
+        final Buffer buffer = bufferFactory.create(content);
+        final int version = buffer.readByte() & 0xff;
+        if (version >>> 7 != 1)
+            throw new SerializationException("The most significant bit should be set according to the format");
+
+        final ResponseMessage.Builder builder = ResponseMessage.build(reader.readValue(buffer, UUID.class, true))
+                .code(ResponseStatusCode.getFromValue(reader.readValue(buffer, Integer.class, false)))
+                .statusMessage(reader.readValue(buffer, String.class, true))
+                .statusAttributes(reader.readValue(buffer, Map.class, false))
+                .responseMetaData(reader.readValue(buffer, Map.class, false));
+
+        // a non-null list is written as {type_code}{value_flag}{length}{items} so the items start six bytes in
+        final int start = content.readerIndex();
+        final int length = content.readableBytes() - 6;
+        if (length > 0 && content.getByte(start) == DataType.LIST.getCodeByte() && content.getByte(start + 1) == 0) {
+            final int size = content.getInt(start + 2);
+            if (size > 0 && reserve(length)) {
+                final LazyResults results = new LazyResults(content.retainedSlice(start + 6, length), size, reader, this::release);
+                retained.add(results);
+                return builder.result(results).create();
+            }
+        }
+
+        return builder.result(reader.read(buffer)).create();
+    }
+
+    /**
+     * Makes room for a frame of the given length by deserializing the oldest retained frames if needed.
+     */
+    private boolean reserve(final int length) {
+        if (length > maxRetainedBytes) return false;
+
+        LazyResults oldest;
+        while (retainedBytes.get() + length > maxRetainedBytes && (oldest = retained.poll()) != null) {
+            oldest.materialize();
+        }
+
+        retainedBytes.addAndGet(length);
+        return true;
+    }
+
+    private void release(final LazyResults results) {
+        retained.remove(results);
+        retainedBytes.addAndGet(-results.getRetainedBytes());
+    }
 }
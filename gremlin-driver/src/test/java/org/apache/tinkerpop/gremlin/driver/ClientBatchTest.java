@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.driver;
+
+import org.apache.tinkerpop.gremlin.driver.exception.ConnectionException;
+import org.apache.tinkerpop.gremlin.util.Tokens;
+import org.apache.tinkerpop.gremlin.util.message.RequestMessage;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ClientBatchTest {
+
+    @Test
+    public void shouldReturnFuturesOfWrittenRequestsWhenChoosingConnectionFails() {
+        final Connection connection = mock(Connection.class);
+        when(connection.tryBorrow()).thenReturn(true, false);
+        final Client client = new BatchClient(connection);
+
+        final List<RequestMessage> msgs = messages(4);
+        final List<CompletableFuture<ResultSet>> futures = client.submitBatchAsync(msgs);
+
+        assertEquals(4, futures.size());
+        verify(connection).write(eq(msgs.get(0)), eq(futures.get(0)), eq(false));
+        verify(connection).write(eq(msgs.get(1)), eq(futures.get(1)), eq(false));
+        assertThat(futures.get(0).isDone(), is(false));
+        assertThat(futures.get(1).isDone(), is(false));
+        assertFailedWith(futures.get(2), TimeoutException.class);
+        assertFailedWith(futures.get(3), TimeoutException.class);
+
+        // the written requests are still sent
+        verify(connection, times(2)).flush();
+        verify(connection, never()).returnToPool();
+    }
+
+    @Test
+    public void shouldReturnBorrowWhenWriteFails() {
+        final Connection connection = mock(Connection.class);
+        when(connection.tryBorrow()).thenReturn(true);
+        final List<RequestMessage> msgs = messages(3);
+        doThrow(new IllegalStateException("duplicate request id")).when(connection).write(eq(msgs.get(1)), any(), eq(false));
+        final Client client = new BatchClient(connection);
+
+        final List<CompletableFuture<ResultSet>> futures = client.submitBatchAsync(msgs);
+
+        assertEquals(3, futures.size());
+        assertThat(futures.get(0).isDone(), is(false));
+        assertFailedWith(futures.get(1), IllegalStateException.class);
+        assertFailedWith(futures.get(2), IllegalStateException.class);
+        verify(connection, never()).write(eq(msgs.get(2)), any(), eq(false));
+        verify(connection).returnToPool();
+        verify(connection).flush();
+    }
+
+    private static List<RequestMessage> messages(final int count) {
+        final List<RequestMessage> msgs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            msgs.add(RequestMessage.build(Tokens.OPS_EVAL).add(Tokens.ARGS_GREMLIN, "1+" + i).create());
+        }
+        return msgs;
+    }
+
+    private static void assertFailedWith(final CompletableFuture<ResultSet> future, final Class<? extends Throwable> cause) {
+        try {
+            future.join();
+            fail("The request should not have been submitted");
+        } catch (CompletionException ce) {
+            assertThat(ce.getCause(), instanceOf(cause));
+        }
+    }
+
+    /**
+     * A {@link Client} that hands out its connection once and then times out waiting for another.
+     */
+    private static class BatchClient extends Client {
+        private final Connection connection;
+        private boolean chosen = false;
+
+        BatchClient(final Connection connection) {
+            super(null, Client.Settings.build().create());
+            this.connection = connection;
+            this.initialized = true;
+        }
+
+        @Override
+        protected void initializeImplementation() {
+        }
+
+        @Override
+        protected Connection chooseConnection(final RequestMessage msg) throws TimeoutException, ConnectionException {
+            if (chosen) throw new TimeoutException("Timed out while waiting for an available host");
+            chosen = true;
+            return connection;
+        }
+
+        @Override
+        public CompletableFuture<Void> closeAsync() {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public boolean isClosing() {
+            return false;
+        }
+    }
+}
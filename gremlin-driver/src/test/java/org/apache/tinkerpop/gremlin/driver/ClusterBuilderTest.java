@@ -60,6 +60,8 @@ public class ClusterBuilderTest {
                 {"reconnectIntervalNeg1", Cluster.build().reconnectInterval(-1), "reconnectInterval must be greater than zero"},
                 {"resultIterationBatchSize0", Cluster.build().resultIterationBatchSize(0), "resultIterationBatchSize must be greater than zero"},
                 {"resultIterationBatchSizeNeg1", Cluster.build().resultIterationBatchSize(-1), "resultIterationBatchSize must be greater than zero"},
+                {"maxRequestsPerFlushNeg1", Cluster.build().maxRequestsPerFlush(-1), "maxRequestsPerFlush must be zero or greater"},
+                {"maxRetainedResultBytesNeg1", Cluster.build().maxRetainedResultBytes(-1), "maxRetainedResultBytes must be zero or greater"},
                 {"nioPoolSize0", Cluster.build().nioPoolSize(0), "nioPoolSize must be greater than zero"},
                 {"nioPoolSizeNeg1", Cluster.build().nioPoolSize(-1), "nioPoolSize must be greater than zero"},
                 {"connectionSetupTimeoutMillis0", Cluster.build().connectionSetupTimeoutMillis(0), "connectionSetupTimeoutMillis must be greater than zero"},
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.driver;
+
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import org.apache.tinkerpop.gremlin.util.message.RequestMessage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertEquals;
+
+public class LoadBalancingStrategyTest {
+
+    private final RequestMessage msg = RequestMessage.build("eval").create();
+    private Cluster cluster;
+    private Host fast;
+    private Host slow;
+
+    @Before
+    public void setUp() {
+        cluster = Cluster.open();
+        fast = new Host(new InetSocketAddress("localhost", 8182), cluster);
+        slow = new Host(new InetSocketAddress("localhost", 8183), cluster);
+        fast.makeAvailable();
+        slow.makeAvailable();
+    }
+
+    @After
+    public void tearDown() {
+        cluster.close();
+    }
+
+    @Test
+    public void shouldSelectAllAvailableHosts() {
+        final LoadBalancingStrategy.LeastLoaded strategy = new LoadBalancingStrategy.LeastLoaded();
+        strategy.initialize(cluster, Arrays.asList(fast, slow));
+        assertThat(IteratorUtils.list(strategy.select(msg)), containsInAnyOrder(fast, slow));
+
+        strategy.onUnavailable(slow);
+        assertEquals(Arrays.asList(fast), IteratorUtils.list(strategy.select(msg)));
+    }
+
+    @Test
+    public void shouldPreferHostWithLowerLatency() {
+        final LoadBalancingStrategy.LeastLoaded strategy = new LoadBalancingStrategy.LeastLoaded();
+        strategy.initialize(cluster, Arrays.asList(fast, slow));
+        complete(strategy, fast, 1);
+        complete(strategy, slow, 50);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(fast, strategy.select(msg).next());
+        }
+    }
+
+    @Test
+    public void shouldPreferHostWithFewerRequestsInFlight() {
+        final LoadBalancingStrategy.LeastLoaded strategy = new LoadBalancingStrategy.LeastLoaded();
+        strategy.initialize(cluster, Arrays.asList(fast, slow));
+        complete(strategy, fast, 10);
+        complete(strategy, slow, 10);
+
+        for (int i = 0; i < 3; i++) {
+            strategy.onRequestSent(fast);
+        }
+        assertEquals(3, strategy.getInFlight(fast));
+        assertEquals(slow, strategy.select(msg).next());
+
+        strategy.onResponseComplete(fast, TimeUnit.MILLISECONDS.toNanos(10));
+        assertEquals(2, strategy.getInFlight(fast));
+    }
+
+    @Test
+    public void shouldAvoidHostWithRequestsInFlightButNoResponses() {
+        final LoadBalancingStrategy.LeastLoaded strategy = new LoadBalancingStrategy.LeastLoaded();
+        strategy.initialize(cluster, Arrays.asList(fast, slow));
+        complete(strategy, slow, 1000);
+        strategy.onRequestSent(fast);
+
+        final List<Host> selected = IteratorUtils.list(strategy.select(msg));
+        assertEquals(Arrays.asList(slow, fast), selected);
+    }
+
+    @Test
+    public void shouldDecayLatencyOverTime() throws Exception {
+        final LoadBalancingStrategy.LeastLoaded strategy = new LoadBalancingStrategy.LeastLoaded(1);
+        complete(strategy, slow, 1000);
+        Thread.sleep(20);
+        complete(strategy, slow, 1);
+
+        assertThat(strategy.getAverageLatency(slow) < TimeUnit.MILLISECONDS.toNanos(2), is(true));
+    }
+
+    @Test
+    public void shouldKeepRequestsInFlightOfRemovedHost() {
+        final LoadBalancingStrategy.LeastLoaded strategy = new LoadBalancingStrategy.LeastLoaded();
+        strategy.initialize(cluster, Arrays.asList(fast, slow));
+        strategy.onRequestSent(slow);
+        strategy.onRequestSent(slow);
+
+        strategy.onRemove(slow);
+        assertEquals(Arrays.asList(fast), IteratorUtils.list(strategy.select(msg)));
+        assertEquals(2, strategy.getInFlight(slow));
+
+        strategy.onNew(slow);
+        strategy.onResponseComplete(slow, TimeUnit.MILLISECONDS.toNanos(10));
+        assertEquals(1, strategy.getInFlight(slow));
+        strategy.onRequestSent(slow);
+        assertEquals(2, strategy.getInFlight(slow));
+        strategy.onResponseComplete(slow, TimeUnit.MILLISECONDS.toNanos(10));
+        strategy.onResponseComplete(slow, TimeUnit.MILLISECONDS.toNanos(10));
+        assertEquals(0, strategy.getInFlight(slow));
+        assertThat(strategy.getAverageLatency(slow) > 0, is(true));
+    }
+
+    @Test
+    public void shouldDropLoadOfRemovedHostOnceRequestsComplete() {
+        final LoadBalancingStrategy.LeastLoaded strategy = new LoadBalancingStrategy.LeastLoaded();
+        strategy.initialize(cluster, Arrays.asList(fast, slow));
+        complete(strategy, fast, 10);
+        strategy.onRemove(fast);
+        assertEquals(0, strategy.getAverageLatency(fast), 0);
+
+        strategy.onRequestSent(slow);
+        strategy.onRemove(slow);
+        strategy.onResponseComplete(slow, TimeUnit.MILLISECONDS.toNanos(10));
+        assertEquals(0, strategy.getInFlight(slow));
+        assertEquals(0, strategy.getAverageLatency(slow), 0);
+
+        // once added again the host starts from nothing rather than from a negative count
+        strategy.onNew(slow);
+        strategy.onRequestSent(slow);
+        assertEquals(1, strategy.getInFlight(slow));
+    }
+
+    private static void complete(final LoadBalancingStrategy strategy, final Host host, final long latencyMillis) {
+        strategy.onRequestSent(host);
+        strategy.onResponseComplete(host, TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+    }
+}
@@ -67,6 +67,64 @@ public class ResultQueueTest extends AbstractResultQueueTest {
         }
     }
 
+    @Test
+    public void shouldGrantCreditsAsPartialResponsesAreRead() throws Exception {
+        final List<Integer> granted = new ArrayList<>();
+        resultQueue.enableCredits(granted::add);
+
+        for (int i = 0; i < 3; i++) {
+            resultQueue.add(new Result("test" + i));
+        }
+        resultQueue.markPartialResponse(3);
+        for (int i = 3; i < 6; i++) {
+            resultQueue.add(new Result("test" + i));
+        }
+        resultQueue.markPartialResponse(3);
+        assertThat(granted.isEmpty(), is(true));
+
+        assertEquals(2, resultQueue.await(2).get().size());
+        assertThat(granted.isEmpty(), is(true));
+
+        assertEquals(2, resultQueue.await(2).get().size());
+        assertEquals(1, granted.size());
+        assertEquals(1, granted.get(0).intValue());
+
+        final List<Result> rest = new ArrayList<>();
+        resultQueue.drainTo(rest);
+        assertEquals(2, rest.size());
+        assertEquals(2, granted.size());
+
+        // results that were read before their partial response was marked still count
+        resultQueue.add(new Result("test6"));
+        assertEquals(1, resultQueue.await(1).get().size());
+        resultQueue.markPartialResponse(1);
+        assertEquals(3, granted.size());
+
+        // no credit is needed once the server is done with the request
+        resultQueue.add(new Result("test7"));
+        resultQueue.markPartialResponse(1);
+        resultQueue.markComplete(ATTRIBUTES);
+        resultQueue.drainTo(rest);
+        assertEquals(3, granted.size());
+    }
+
+    @Test
+    public void shouldWaiveCreditsOnce() {
+        final List<Integer> granted = new ArrayList<>();
+        resultQueue.enableCredits(granted::add);
+
+        resultQueue.waiveCredits();
+        resultQueue.waiveCredits();
+        assertEquals(1, granted.size());
+        assertEquals(Integer.MAX_VALUE, granted.get(0).intValue());
+
+        // nothing more needs to be granted as results are read
+        resultQueue.add(new Result("test"));
+        resultQueue.markPartialResponse(1);
+        resultQueue.drainTo(new ArrayList<>());
+        assertEquals(1, granted.size());
+    }
+
     @Test
     public void shouldBeEmptyThenNotEmpty() {
         assertThat(resultQueue.isEmpty(), is(true));
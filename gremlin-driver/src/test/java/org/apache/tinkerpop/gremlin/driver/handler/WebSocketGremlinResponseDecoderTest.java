@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.driver.handler;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.tinkerpop.gremlin.util.message.ResponseMessage;
+import org.apache.tinkerpop.gremlin.util.message.ResponseStatusCode;
+import org.apache.tinkerpop.gremlin.util.ser.GraphBinaryMessageSerializerV1;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.junit.Assert.assertEquals;
+
+public class WebSocketGremlinResponseDecoderTest {
+
+    private final GraphBinaryMessageSerializerV1 serializer = new GraphBinaryMessageSerializerV1();
+
+    @Test
+    public void shouldDecodeEagerlyByDefault() throws Exception {
+        final EmbeddedChannel channel = new EmbeddedChannel(new WebSocketGremlinResponseDecoder(serializer));
+        final ByteBuf frame = frame(Arrays.asList(1, "two", 3.0d));
+        channel.writeInbound(new BinaryWebSocketFrame(frame));
+
+        final ResponseMessage response = channel.readInbound();
+        assertEquals(Arrays.asList(1, "two", 3.0d), response.getResult().getData());
+        assertEquals(0, frame.refCnt());
+    }
+
+    @Test
+    public void shouldDecodeResultsWhenRead() throws Exception {
+        final WebSocketGremlinResponseDecoder decoder = new WebSocketGremlinResponseDecoder(serializer, 1024);
+        final EmbeddedChannel channel = new EmbeddedChannel(decoder);
+        final ByteBuf frame = frame(Arrays.asList(1, "two", 3.0d));
+        channel.writeInbound(new BinaryWebSocketFrame(frame));
+
+        final ResponseMessage response = channel.readInbound();
+        assertEquals(ResponseStatusCode.SUCCESS, response.getStatus().getCode());
+        assertThat(response.getResult().getData(), instanceOf(LazyResults.class));
+
+        final LazyResults results = (LazyResults) response.getResult().getData();
+        assertEquals(3, results.size());
+        assertEquals(1, frame.refCnt());
+        assertThat(decoder.getRetainedBytes() > 0, is(true));
+
+        assertEquals("two", results.get(1));
+        assertEquals(1, results.get(0));
+        assertThat(results.isReleased(), is(false));
+
+        assertEquals(3.0d, results.get(2));
+        assertThat(results.isReleased(), is(true));
+        assertEquals(0, frame.refCnt());
+        assertEquals(0, decoder.getRetainedBytes());
+    }
+
+    @Test
+    public void shouldDecodeOldestResultsToStayWithinLimit() throws Exception {
+        final ByteBuf first = frame(Arrays.asList("a", StringUtils.repeat('b', 100)));
+        final ByteBuf second = frame(Arrays.asList("c", StringUtils.repeat('d', 100)));
+        final WebSocketGremlinResponseDecoder decoder = new WebSocketGremlinResponseDecoder(serializer, first.readableBytes());
+        final EmbeddedChannel channel = new EmbeddedChannel(decoder);
+
+        channel.writeInbound(new BinaryWebSocketFrame(first));
+        final LazyResults firstResults = (LazyResults) ((ResponseMessage) channel.readInbound()).getResult().getData();
+        channel.writeInbound(new BinaryWebSocketFrame(second));
+        final LazyResults secondResults = (LazyResults) ((ResponseMessage) channel.readInbound()).getResult().getData();
+
+        assertThat(firstResults.isReleased(), is(true));
+        assertEquals(0, first.refCnt());
+        assertThat(secondResults.isReleased(), is(false));
+        assertEquals(StringUtils.repeat('b', 100), firstResults.get(1));
+
+        channel.finishAndReleaseAll();
+        assertThat(secondResults.isReleased(), is(true));
+        assertEquals(0, second.refCnt());
+        assertEquals(StringUtils.repeat('d', 100), secondResults.get(1));
+        assertEquals(0, decoder.getRetainedBytes());
+    }
+
+    @Test
+    public void shouldDecodeEagerlyWhenFrameExceedsLimit() throws Exception {
+        final EmbeddedChannel channel = new EmbeddedChannel(new WebSocketGremlinResponseDecoder(serializer, 4));
+        channel.writeInbound(new BinaryWebSocketFrame(frame(Arrays.asList("a", "b"))));
+
+        final ResponseMessage response = channel.readInbound();
+        assertEquals(Arrays.asList("a", "b"), response.getResult().getData());
+    }
+
+    @Test
+    public void shouldDecodeNonListResultsEagerly() throws Exception {
+        final EmbeddedChannel channel = new EmbeddedChannel(new WebSocketGremlinResponseDecoder(serializer, 1024));
+        final UUID requestId = UUID.randomUUID();
+        channel.writeInbound(new BinaryWebSocketFrame(serializer.serializeResponseAsBinary(
+                ResponseMessage.build(requestId).code(ResponseStatusCode.NO_CONTENT).create(), ByteBufAllocator.DEFAULT)));
+
+        final ResponseMessage response = channel.readInbound();
+        assertEquals(requestId, response.getRequestId());
+        assertEquals(ResponseStatusCode.NO_CONTENT, response.getStatus().getCode());
+        assertEquals(null, response.getResult().getData());
+    }
+
+    private ByteBuf frame(final List<Object> results) throws Exception {
+        return serializer.serializeResponseAsBinary(
+                ResponseMessage.build(UUID.randomUUID()).code(ResponseStatusCode.SUCCESS).result(results).create(),
+                ByteBufAllocator.DEFAULT);
+    }
+}
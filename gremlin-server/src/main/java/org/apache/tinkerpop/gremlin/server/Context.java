@@ -23,10 +23,14 @@ import org.apache.tinkerpop.gremlin.util.message.RequestMessage;
 import org.apache.tinkerpop.gremlin.util.message.ResponseMessage;
 import org.apache.tinkerpop.gremlin.util.message.ResponseStatusCode;
 import org.apache.tinkerpop.gremlin.groovy.engine.GremlinExecutor;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.tinkerpop.gremlin.jsr223.GremlinScriptChecker;
 import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
 import org.apache.tinkerpop.gremlin.server.handler.Frame;
+import org.apache.tinkerpop.gremlin.server.handler.ResultCredits;
+import org.apache.tinkerpop.gremlin.server.handler.WritabilityHandler;
 import org.apache.tinkerpop.gremlin.server.handler.WsUserAgentHandler;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.slf4j.Logger;
@@ -36,6 +40,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * The context of Gremlin Server within which a particular request is made.
@@ -55,6 +60,8 @@ public class Context {
     private final RequestContentType requestContentType;
     private final Object gremlinArgument;
     private final AtomicBoolean startedResponse = new AtomicBoolean(false);
+    private final AtomicLong inFlightBytes = new AtomicLong();
+    private final AtomicLong credits;
 
     /**
      * The type of the request as determined by the contents of {@link Tokens#ARGS_GREMLIN}.
@@ -90,6 +97,7 @@ public class Context {
         this.gremlinArgument = requestMessage.getArgs().get(Tokens.ARGS_GREMLIN);
         this.requestContentType = determineRequestContents();
         this.requestTimeout = determineTimeout();
+        this.credits = determineCredits();
     }
 
     /**
@@ -173,6 +181,43 @@ public class Context {
      */
     public void setStartedResponse() { startedResponse.set(true); }
 
+    /**
+     * Gets the number of bytes of serialized response frames for this request that have been written but are not yet
+     * flushed to the client.
+     */
+    public long getInFlightBytes() {
+        return inFlightBytes.get();
+    }
+
+    /**
+     * Determines if another response frame can be written for this request, which requires the channel to be below
+     * its {@link Settings#writeBufferHighWaterMark} and the request to be below
+     * {@link Settings#maxInFlightBytesPerRequest}.
+     */
+    public boolean isWritable() {
+        return channelHandlerContext.channel().isActive() && channelHandlerContext.channel().isWritable() &&
+                (settings.maxInFlightBytesPerRequest <= 0 || inFlightBytes.get() < settings.maxInFlightBytesPerRequest) &&
+                hasCredit();
+    }
+
+    /**
+     * Determines if the client allows another response frame to be written for this request, which is always the
+     * case unless the request was sent with {@link Tokens#ARGS_CREDITS} and all of them were used by partial
+     * responses. Time spent waiting for more credit counts toward the timeout of the request.
+     */
+    public boolean hasCredit() {
+        return null == credits || credits.get() > 0;
+    }
+
+    /**
+     * Waits for the client to catch up so that {@link #isWritable()} may be {@code true} again. The wait ends when
+     * the channel drains, when frames for this request are flushed, when the client grants more credit or after one
+     * second, whichever comes first.
+     */
+    public void awaitWritable() throws InterruptedException {
+        WritabilityHandler.await(channelHandlerContext.channel(), this::isWritable, 1000);
+    }
+
     /**
      * Writes a default timeout error response message to the underlying channel.
      */
@@ -234,7 +279,25 @@ public class Context {
     private void writeAndMaybeFlush(final ResponseStatusCode code, final Object responseMessage, final boolean flush) {
         final boolean messageIsFinal = code.isFinalResponse();
         if (finalResponseWritten.compareAndSet(false, messageIsFinal)) {
-            this.getChannelHandlerContext().write(responseMessage);
+            if (credits != null) {
+                if (messageIsFinal)
+                    ResultCredits.close(this.getChannelHandlerContext().channel(), requestMessage.getRequestId());
+                else if (code == ResponseStatusCode.PARTIAL_CONTENT)
+                    credits.decrementAndGet();
+            }
+
+            final long size = sizeOf(responseMessage);
+            if (size > 0) {
+                // track the bytes until they are flushed so that the iteration of results can be held back by
+                // maxInFlightBytesPerRequest
+                inFlightBytes.addAndGet(size);
+                this.getChannelHandlerContext().write(responseMessage).addListener(f -> {
+                    inFlightBytes.addAndGet(-size);
+                    WritabilityHandler.signal(this.getChannelHandlerContext().channel());
+                });
+            } else {
+                this.getChannelHandlerContext().write(responseMessage);
+            }
             if (flush) this.getChannelHandlerContext().flush();
         } else {
             if (responseMessage instanceof Frame) {
@@ -247,6 +310,15 @@ public class Context {
         }
     }
 
+    private static long sizeOf(final Object responseMessage) {
+        if (!(responseMessage instanceof Frame)) return 0;
+        final Object msg = ((Frame) responseMessage).getMsg();
+        if (msg instanceof ByteBuf) return ((ByteBuf) msg).readableBytes();
+        // text frames go out as UTF-8 so count the encoded bytes rather than the chars
+        if (msg instanceof String) return ByteBufUtil.utf8Bytes((String) msg);
+        return 0;
+    }
+
     private RequestContentType determineRequestContents() {
         if (gremlinArgument instanceof Bytecode)
             return RequestContentType.BYTECODE;
@@ -270,4 +342,14 @@ public class Context {
 
         return timeoutDefinedInScript.orElse(seto);
     }
+
+    private AtomicLong determineCredits() {
+        final Object initialCredits = requestMessage.getArgs().get(Tokens.ARGS_CREDITS);
+        if (!(initialCredits instanceof Number) || ((Number) initialCredits).longValue() <= 0)
+            return null;
+
+        // the same request may be given more than one Context on its way to an OpProcessor so they share the credits
+        return ResultCredits.open(channelHandlerContext.channel(), requestMessage.getRequestId(),
+                ((Number) initialCredits).longValue());
+    }
 }
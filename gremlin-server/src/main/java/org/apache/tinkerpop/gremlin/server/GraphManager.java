@@ -25,6 +25,7 @@ import org.apache.tinkerpop.gremlin.structure.Graph;
 import javax.script.Bindings;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -155,4 +156,34 @@ public interface GraphManager {
     default void onQuerySuccess(final RequestMessage msg) {
 
     }
+
+    /**
+     * Adds a listener that is called with each {@link Graph} passed to {@link #onGraphChange(Graph)}. The default
+     * implementation does not keep the listener and returns {@code false} to signal that this {@code GraphManager}
+     * does not report changes.
+     *
+     * @return {@code true} if the listener will be called on changes
+     */
+    default boolean addGraphChangeListener(final Consumer<Graph> listener) {
+        return false;
+    }
+
+    /**
+     * This method will be called once a request that may have changed the {@link Graph} completes, which is after
+     * any transaction that the request committed. In a session it is also called once the session commits. Rolling
+     * back does not change what other requests can see so it is not reported.
+     *
+     * @param graph the {@link Graph} that may have changed.
+     */
+    default void onGraphChange(final Graph graph) {
+
+    }
+
+    /**
+     * Calls {@link #onGraphChange(Graph)} for every {@link Graph}, which is for requests like scripts that may change
+     * any of them.
+     */
+    default void onAllGraphsChange() {
+        getGraphNames().forEach(graphName -> onGraphChange(getGraph(graphName)));
+    }
 }
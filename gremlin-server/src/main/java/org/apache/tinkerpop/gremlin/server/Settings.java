@@ -100,6 +100,15 @@ public class Settings {
      */
     public int gremlinPool = 0;
 
+    /**
+     * Runs each request evaluated by the Gremlin thread pool on its own virtual thread rather than on one of the
+     * {@link #gremlinPool} platform threads. Requests are rejected once {@link #gremlinPool} plus
+     * {@link #maxWorkQueueSize} of them are in flight, which is the same number the platform pool accepts. Virtual
+     * threads require Java 21 or later and the platform pool is used when they are not available. Defaults to
+     * {@code false}.
+     */
+    public boolean useVirtualThreads = false;
+
     /**
      * Size of the boss thread pool.  Defaults to 1 and should likely stay at 1.  The bossy thread accepts incoming
      * connections on a port until it is unbound. Once a connection is accepted successfully, the boss thread
@@ -156,6 +165,14 @@ public class Settings {
      */
     public int writeBufferHighWaterMark = 1024 * 64;
 
+    /**
+     * The maximum number of bytes of serialized results for a single request that may be written to a channel but not
+     * yet flushed to the client. Iteration of the request pauses once this is reached and resumes when the client
+     * catches up. This limit keeps one request on a channel from using the whole {@link #writeBufferHighWaterMark}
+     * that is shared by all requests on that channel. The default of zero only applies the channel limit.
+     */
+    public long maxInFlightBytesPerRequest = 0;
+
     /**
      * Once the number of bytes queued in the network send buffer exceeds the high water mark, the channel will not
      * become writeable again until the buffer is drained and it drops below this value.
@@ -254,6 +271,54 @@ public class Settings {
      */
     public boolean useCommonEngineForSessions = true;
 
+    /**
+     * The maximum number of traversals to cache for bytecode requests. A cached traversal has already been translated
+     * from its bytecode and had its strategies applied, so identical requests only need to clone it before iterating.
+     * Bytecode with bindings is not cached because a compiled traversal cannot be re-bound to new values and neither
+     * is bytecode that uses {@code withSideEffect()} or {@code withSack()} as clones share their initial values. The
+     * default of zero disables the cache.
+     */
+    public long traversalCacheMaxSize = 0;
+
+    /**
+     * The time in milliseconds that a traversal can go unused before it is evicted from the cache configured by
+     * {@link #traversalCacheMaxSize}. A value of zero means that traversals are only evicted based on size. The
+     * default is 10 minutes.
+     */
+    public long traversalCacheExpireAfterAccess = 600000;
+
+    /**
+     * The maximum number of results, summed across all entries, held by the cache of results of read-only bytecode
+     * traversals that are not in a session. Repeated requests for the same bytecode against the same traversal source
+     * are answered from the cache without executing the traversal until the entry expires or the {@link GraphManager}
+     * reports through {@link GraphManager#onGraphChange(Graph)} that a request may have changed the graph. The cache
+     * is disabled with a warning if the {@link GraphManager} does not report changes. The default of zero disables
+     * the cache.
+     */
+    public long resultCacheMaxSize = 0;
+
+    /**
+     * The time in milliseconds after which results are evicted from the cache configured by
+     * {@link #resultCacheMaxSize}, which bounds how stale cached results can be when the graph is changed outside of
+     * the server. A value of zero means that results are only evicted based on size or invalidation. The default is
+     * 10 seconds.
+     */
+    public long resultCacheExpireAfterWrite = 10000;
+
+    /**
+     * The fraction of bytecode traversals, between zero and one, that are profiled so that the latency of their steps
+     * is recorded to histograms in the server metrics. A sampled traversal bypasses the traversal cache. The default
+     * of zero disables sampling.
+     */
+    public double traversalProfileSampleRate = 0.0;
+
+    /**
+     * The number of distinct traversal shapes that {@link #traversalProfileSampleRate} keeps histograms for. Shapes
+     * come from client traversals, so once this limit is reached the histograms of the least recently sampled shape
+     * are removed from the server metrics to make room for a new one. The default is 100.
+     */
+    public int traversalProfileMaxShapes = 100;
+
     /**
      * Configured metrics for Gremlin Server.
      */
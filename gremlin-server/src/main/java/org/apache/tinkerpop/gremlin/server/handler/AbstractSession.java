@@ -46,6 +46,9 @@ import org.apache.tinkerpop.gremlin.server.GremlinServer;
 import org.apache.tinkerpop.gremlin.server.Settings;
 import org.apache.tinkerpop.gremlin.server.auth.AuthenticatedUser;
 import org.apache.tinkerpop.gremlin.util.ExceptionHelper;
+import org.apache.tinkerpop.gremlin.server.util.ResultCache;
+import org.apache.tinkerpop.gremlin.server.util.TraversalCache;
+import org.apache.tinkerpop.gremlin.server.util.TraversalProfileSampler;
 import org.apache.tinkerpop.gremlin.server.util.TraverserIterator;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Transaction;
@@ -72,7 +75,6 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
@@ -284,6 +286,13 @@ public abstract class AbstractSession implements Session, AutoCloseable {
             handleException(sessionTask, t);
         } finally {
             timer.stop();
+
+            // a request may have changed the graph even if it failed part way through where the graph does not
+            // support transactions. a script may have changed any graph.
+            if (gremlinToExecute instanceof Bytecode)
+                sessionTask.getMutatedGraph().ifPresent(graphManager::onGraphChange);
+            else
+                graphManager.onAllGraphsChange();
         }
     }
 
@@ -451,8 +460,24 @@ public abstract class AbstractSession implements Session, AutoCloseable {
             return Optional.empty();
         } else {
 
+            final TraversalCache traversalCache = sessionTask.getTraversalCache();
+            final ResultCache resultCache = sessionTask.getResultCache();
+            final boolean sampled = TraversalProfileSampler.sample(sessionTask.getSettings().traversalProfileSampleRate);
+
+            // a sampled traversal must execute to be profiled and a traversal in a session might read changes that
+            // are not yet committed so only sessionless requests use cached results
+            final boolean cacheResults = !sampled && isTransactionManaged() && resultCache.isEnabled();
+            final Optional<List<Object>> cachedResults = cacheResults ?
+                    resultCache.get(traversalSourceName, g, bytecode) : Optional.empty();
+            if (cachedResults.isPresent())
+                return Optional.of(cachedResults.get().iterator());
+
+            final Optional<Traversal.Admin<?, ?>> cached = sampled ?
+                    Optional.empty() : traversalCache.get(traversalSourceName, g, bytecode);
             final Optional<String> lambdaLanguage = BytecodeHelper.getLambdaLanguage(bytecode);
-            if (!lambdaLanguage.isPresent())
+            if (cached.isPresent())
+                traversal = cached.get();
+            else if (!lambdaLanguage.isPresent())
                 traversal = JavaTranslator.of(g).translate(bytecode);
             else {
                 final SimpleBindings bindings = new SimpleBindings();
@@ -461,10 +486,23 @@ public abstract class AbstractSession implements Session, AutoCloseable {
                         getEngineByName(lambdaLanguage.get()).eval(bytecode, bindings, traversalSourceName);
             }
 
-            // compile the traversal - without it getEndStep() has nothing in it
-            traversal.applyStrategies();
+            // compile the traversal - without it getEndStep() has nothing in it. a cached traversal is already
+            // compiled so it can go straight to iteration.
+            if (!traversal.isLocked()) {
+                if (sampled) TraversalProfileSampler.instrument(traversal);
+                traversal.applyStrategies();
+                if (!sampled) traversalCache.put(traversalSourceName, g, bytecode, traversal);
+            }
+
+            if (!ResultCache.isReadOnly(traversal)) sessionTask.setMutatedGraph(g.getGraph());
 
-            return Optional.of(new TraverserIterator(traversal));
+            Iterator<Object> itty = sampled ?
+                    TraversalProfileSampler.record(traversal, new TraverserIterator(traversal),
+                            sessionTask.getSettings().traversalProfileMaxShapes) :
+                    new TraverserIterator(traversal);
+            if (cacheResults && resultCache.isCacheable(bytecode) && resultCache.isCacheable(traversal))
+                itty = resultCache.record(traversalSourceName, g, bytecode, resultCache.generation(g.getGraph()), itty);
+            return Optional.of(itty);
         }
     }
 
@@ -593,7 +631,7 @@ public abstract class AbstractSession implements Session, AutoCloseable {
             // executor threads waiting for watermark to clear which will not clear in these cases since client has
             // already given up on these requests. This leads to these executors waiting for the client to consume
             // results till the timeout. checking for isActive() should help prevent that.
-            if (nettyContext.channel().isActive() && nettyContext.channel().isWritable()) {
+            if (sessionTask.isWritable()) {
                 if (forceFlush || aggregate.size() == resultIterationBatchSize || !itty.hasNext()) {
                     final ResponseStatusCode code = itty.hasNext() ? ResponseStatusCode.PARTIAL_CONTENT : ResponseStatusCode.SUCCESS;
                     Frame frame = null;
@@ -650,15 +688,17 @@ public abstract class AbstractSession implements Session, AutoCloseable {
                     sessionTask.writeAndFlush(code, frame);
                 }
             } else {
-                // don't keep triggering this warning over and over again for the same request
-                if (!warnOnce) {
-                    logger.warn("Pausing response writing as writeBufferHighWaterMark exceeded on {} - writing will continue once client has caught up", msg);
+                // don't keep triggering this warning over and over again for the same request. waiting for the client
+                // to grant more credit is expected so it is not worth a warning
+                if (!warnOnce && sessionTask.hasCredit()) {
+                    logger.warn("Pausing response writing as writeBufferHighWaterMark or maxInFlightBytesPerRequest exceeded on {} - writing will continue once client has caught up", msg);
                     warnOnce = true;
                 }
 
-                // since the client is lagging we can hold here for a period of time for the client to catch up.
-                // this isn't blocking the IO thread - just a worker.
-                TimeUnit.MILLISECONDS.sleep(10);
+                // since the client is lagging hold here until the channel signals that it has drained, that frames for
+                // this request have been flushed or that the client granted more credit. this isn't blocking the IO
+                // thread - just a worker.
+                sessionTask.awaitWritable();
             }
         }
     }
@@ -844,6 +884,10 @@ public abstract class AbstractSession implements Session, AutoCloseable {
             else
                 graphManager.rollbackAll();
         }
+
+        // requests in a session report the graphs they change before those changes are committed so the commit
+        // has to be reported as well. a sessionless request reports its changes once it completes.
+        if (commit && !transactionManaged) graphManager.onAllGraphsChange();
     }
 
     private Timer.Context getMetricsTimer(final SessionTask sessionTask) {
@@ -242,6 +242,10 @@ public class HttpGremlinEndpointHandler extends ChannelInboundHandlerAdapter {
                             }
                         }));
 
+                // a script may have changed any graph, even if it failed part way through where a graph does not
+                // support transactions, and the commit happened before the future completed
+                evalFuture.whenComplete((r, t) -> graphManager.onAllGraphsChange());
+
                 evalFuture.exceptionally(t -> {
                     if (t.getMessage() != null)
                         HttpHandlerUtil.sendError(ctx, INTERNAL_SERVER_ERROR, t.getMessage(), Optional.of(t), keepAlive);
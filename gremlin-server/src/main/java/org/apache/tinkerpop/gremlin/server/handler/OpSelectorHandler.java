@@ -20,6 +20,7 @@ package org.apache.tinkerpop.gremlin.server.handler;
 
 import io.netty.handler.timeout.IdleState;
 import io.netty.handler.timeout.IdleStateEvent;
+import org.apache.tinkerpop.gremlin.util.Tokens;
 import org.apache.tinkerpop.gremlin.util.message.RequestMessage;
 import org.apache.tinkerpop.gremlin.util.message.ResponseMessage;
 import org.apache.tinkerpop.gremlin.util.message.ResponseStatusCode;
@@ -68,6 +69,12 @@ public class OpSelectorHandler extends MessageToMessageDecoder<RequestMessage> {
     @Override
     protected void decode(final ChannelHandlerContext ctx, final RequestMessage msg,
                           final List<Object> objects) throws Exception {
+        // credit is granted to a request that is already running so there is nothing for an OpProcessor to do
+        if (msg.getOp().equals(Tokens.OPS_CREDIT)) {
+            ResultCredits.grant(ctx.channel(), msg);
+            return;
+        }
+
         final Context gremlinServerContext = new Context(msg, ctx, settings,
                 graphManager, gremlinExecutor, this.scheduledExecutorService);
         try {
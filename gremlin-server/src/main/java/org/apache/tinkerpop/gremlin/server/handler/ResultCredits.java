@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.handler;
+
+import io.netty.channel.Channel;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
+import org.apache.tinkerpop.gremlin.util.Tokens;
+import org.apache.tinkerpop.gremlin.util.message.RequestMessage;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the {@link Tokens#ARGS_CREDITS} of the requests on a channel, which is the number of partial responses the
+ * server may still write for a request before it has to wait for the client to grant more with a
+ * {@link Tokens#OPS_CREDIT} message.
+ */
+public final class ResultCredits {
+
+    private static final AttributeKey<ConcurrentMap<UUID, AtomicLong>> CREDITS = AttributeKey.valueOf("resultCredits");
+
+    private ResultCredits() {}
+
+    /**
+     * Gets the credits of a request, starting them at {@code initialCredits} if the request is not tracked yet.
+     */
+    public static AtomicLong open(final Channel channel, final UUID requestId, final long initialCredits) {
+        return creditsOf(channel).computeIfAbsent(requestId, k -> new AtomicLong(initialCredits));
+    }
+
+    /**
+     * Stops tracking the credits of a request once its final response is written.
+     */
+    public static void close(final Channel channel, final UUID requestId) {
+        creditsOf(channel).remove(requestId);
+    }
+
+    /**
+     * Adds credits to a request and wakes the thread that may be waiting for them to write more results.
+     *
+     * @return {@code false} if the request is not tracked, which is normal if it completed before the grant arrived
+     */
+    public static boolean grant(final Channel channel, final UUID requestId, final long credits) {
+        final AtomicLong current = creditsOf(channel).get(requestId);
+        if (null == current) return false;
+
+        current.addAndGet(credits);
+        WritabilityHandler.signal(channel);
+        return true;
+    }
+
+    /**
+     * Applies a {@link Tokens#OPS_CREDIT} message to the request with the same identifier. Messages without a
+     * positive number of {@link Tokens#ARGS_CREDITS} are ignored.
+     */
+    public static boolean grant(final Channel channel, final RequestMessage msg) {
+        final Object credits = msg.getArgs().get(Tokens.ARGS_CREDITS);
+        return credits instanceof Number && ((Number) credits).longValue() > 0 &&
+                grant(channel, msg.getRequestId(), ((Number) credits).longValue());
+    }
+
+    private static ConcurrentMap<UUID, AtomicLong> creditsOf(final Channel channel) {
+        final Attribute<ConcurrentMap<UUID, AtomicLong>> attr = channel.attr(CREDITS);
+        final ConcurrentMap<UUID, AtomicLong> credits = attr.get();
+        if (credits != null) return credits;
+
+        final ConcurrentMap<UUID, AtomicLong> created = new ConcurrentHashMap<>();
+        final ConcurrentMap<UUID, AtomicLong> existing = attr.setIfAbsent(created);
+        return null == existing ? created : existing;
+    }
+}
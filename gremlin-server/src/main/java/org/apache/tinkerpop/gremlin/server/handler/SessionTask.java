@@ -25,7 +25,11 @@ import org.apache.tinkerpop.gremlin.server.Context;
 import org.apache.tinkerpop.gremlin.server.GraphManager;
 import org.apache.tinkerpop.gremlin.server.OpProcessor;
 import org.apache.tinkerpop.gremlin.server.Settings;
+import org.apache.tinkerpop.gremlin.server.util.ResultCache;
+import org.apache.tinkerpop.gremlin.server.util.TraversalCache;
+import org.apache.tinkerpop.gremlin.structure.Graph;
 
+import java.util.Optional;
 import java.util.concurrent.ScheduledExecutorService;
 
 /**
@@ -33,10 +37,53 @@ import java.util.concurrent.ScheduledExecutorService;
  * a {@link Context} in the {@link OpProcessor} approach to handling requests to the server.
  */
 public class SessionTask extends Context {
+    private final TraversalCache traversalCache;
+    private final ResultCache resultCache;
+    private Graph mutatedGraph;
+
     public SessionTask(final RequestMessage requestMessage, final ChannelHandlerContext ctx,
                        final Settings settings, final GraphManager graphManager,
                        final GremlinExecutor gremlinExecutor,
                        final ScheduledExecutorService scheduledExecutorService) {
+        this(requestMessage, ctx, settings, graphManager, gremlinExecutor, scheduledExecutorService,
+                new TraversalCache(0, 0), new ResultCache(0, 0));
+    }
+
+    public SessionTask(final RequestMessage requestMessage, final ChannelHandlerContext ctx,
+                       final Settings settings, final GraphManager graphManager,
+                       final GremlinExecutor gremlinExecutor,
+                       final ScheduledExecutorService scheduledExecutorService,
+                       final TraversalCache traversalCache, final ResultCache resultCache) {
         super(requestMessage, ctx, settings, graphManager, gremlinExecutor, scheduledExecutorService);
+        this.traversalCache = traversalCache;
+        this.resultCache = resultCache;
+    }
+
+    /**
+     * Gets the cache of traversals translated from bytecode that is shared by all requests to the
+     * {@link UnifiedHandler}.
+     */
+    public TraversalCache getTraversalCache() {
+        return traversalCache;
+    }
+
+    /**
+     * Gets the cache of results of read-only traversals that is shared by all sessionless requests to the
+     * {@link UnifiedHandler}.
+     */
+    public ResultCache getResultCache() {
+        return resultCache;
+    }
+
+    /**
+     * Marks the {@link Graph} as one that the request may change so that {@link GraphManager#onGraphChange(Graph)} is
+     * called for it once the request completes.
+     */
+    public void setMutatedGraph(final Graph graph) {
+        this.mutatedGraph = graph;
+    }
+
+    public Optional<Graph> getMutatedGraph() {
+        return Optional.ofNullable(mutatedGraph);
     }
 }
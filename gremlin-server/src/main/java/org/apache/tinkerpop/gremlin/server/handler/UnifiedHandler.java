@@ -38,6 +38,9 @@ import org.apache.tinkerpop.gremlin.server.Channelizer;
 import org.apache.tinkerpop.gremlin.server.GraphManager;
 import org.apache.tinkerpop.gremlin.server.Settings;
 import org.apache.tinkerpop.gremlin.server.channel.UnifiedChannelizer;
+import org.apache.tinkerpop.gremlin.server.util.MetricManager;
+import org.apache.tinkerpop.gremlin.server.util.ResultCache;
+import org.apache.tinkerpop.gremlin.server.util.TraversalCache;
 import org.apache.tinkerpop.gremlin.structure.Column;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
@@ -71,6 +74,8 @@ public class UnifiedHandler extends SimpleChannelInboundHandler<RequestMessage>
     protected final ScheduledExecutorService scheduledExecutorService;
     protected final ExecutorService sessionExecutor;
     protected final Channelizer channelizer;
+    protected final TraversalCache traversalCache;
+    protected final ResultCache resultCache;
 
     protected final ConcurrentMap<String, Session> sessions = new ConcurrentHashMap<>();
 
@@ -124,11 +129,22 @@ public class UnifiedHandler extends SimpleChannelInboundHandler<RequestMessage>
         this.scheduledExecutorService = scheduledExecutorService;
         this.channelizer = channelizer;
         this.sessionExecutor = gremlinExecutor.getExecutorService();
+        this.traversalCache = new TraversalCache(settings);
+        MetricManager.INSTANCE.registerTraversalCacheMetrics(traversalCache, "unified", "traversal", "cache");
+        this.resultCache = new ResultCache(settings);
+        this.resultCache.listenTo(graphManager);
+        MetricManager.INSTANCE.registerResultCacheMetrics(resultCache, "unified", "traversal", "results");
     }
 
     @Override
     protected void channelRead0(final ChannelHandlerContext ctx, final RequestMessage msg) throws Exception {
         try {
+            // credit is granted to a request that is already running so it must not wait behind it in a session
+            if (msg.getOp().equals(Tokens.OPS_CREDIT)) {
+                ResultCredits.grant(ctx.channel(), msg);
+                return;
+            }
+
             try {
                 validateRequest(msg, graphManager);
             } catch (SessionException we) {
@@ -154,7 +170,7 @@ public class UnifiedHandler extends SimpleChannelInboundHandler<RequestMessage>
             // we have here. when we drop OpProcessor stuff and rid ourselves of GremlinExecutor then we can probably
             // pare down the constructor for SessionTask further.
             final SessionTask sessionTask = new SessionTask(msg, ctx, settings, graphManager,
-                    gremlinExecutor, scheduledExecutorService);
+                    gremlinExecutor, scheduledExecutorService, traversalCache, resultCache);
 
             if (sessions.containsKey(sessionId)) {
                 final Session session = sessions.get(sessionId);
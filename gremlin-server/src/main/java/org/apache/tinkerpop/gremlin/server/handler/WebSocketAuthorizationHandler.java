@@ -79,6 +79,10 @@ public class WebSocketAuthorizationHandler extends ChannelInboundHandlerAdapter
                         authorizer.authorize(user, requestMessage);
                         ctx.fireChannelRead(requestMessage);
                         break;
+                    case Tokens.OPS_CREDIT:
+                        // only affects requests on this channel which were already authorized
+                        ctx.fireChannelRead(requestMessage);
+                        break;
                     default:
                         throw new AuthorizationException("This AuthorizationHandler only handles requests with OPS_BYTECODE or OPS_EVAL.");
                 }
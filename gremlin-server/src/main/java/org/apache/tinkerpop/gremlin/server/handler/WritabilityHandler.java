@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.handler;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.AttributeKey;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Allows threads that iterate results back to a client to wait for the channel to drain rather than poll it. The
+ * handler signals waiting threads when Netty fires {@code channelWritabilityChanged} or when the channel closes and
+ * other writes can signal it with {@link #signal(Channel)} when they complete.
+ */
+@ChannelHandler.Sharable
+public class WritabilityHandler extends ChannelInboundHandlerAdapter {
+
+    private static final AttributeKey<Monitor> MONITOR = AttributeKey.valueOf("writabilityMonitor");
+
+    /**
+     * The time to wait between checks of the channel when this handler is not in its pipeline.
+     */
+    private static final long POLL_INTERVAL_MS = 10;
+
+    @Override
+    public void handlerAdded(final ChannelHandlerContext ctx) {
+        ctx.channel().attr(MONITOR).setIfAbsent(new Monitor());
+    }
+
+    @Override
+    public void channelWritabilityChanged(final ChannelHandlerContext ctx) throws Exception {
+        signal(ctx.channel());
+        super.channelWritabilityChanged(ctx);
+    }
+
+    @Override
+    public void channelInactive(final ChannelHandlerContext ctx) throws Exception {
+        signal(ctx.channel());
+        super.channelInactive(ctx);
+    }
+
+    /**
+     * Wakes threads waiting in {@link #await(Channel, BooleanSupplier, long)} on the channel so that they check their
+     * condition again.
+     */
+    public static void signal(final Channel channel) {
+        final Monitor monitor = channel.attr(MONITOR).get();
+        if (monitor != null) monitor.signal();
+    }
+
+    /**
+     * Waits until the condition is met, the channel is closed or the maximum wait elapses. If this handler is not in
+     * the pipeline of the channel there is nothing to signal a change so the channel is polled instead.
+     */
+    public static void await(final Channel channel, final BooleanSupplier condition, final long maxWaitMillis) throws InterruptedException {
+        final Monitor monitor = channel.attr(MONITOR).get();
+        if (null == monitor) {
+            TimeUnit.MILLISECONDS.sleep(Math.min(POLL_INTERVAL_MS, maxWaitMillis));
+            return;
+        }
+
+        monitor.await(() -> !channel.isActive() || condition.getAsBoolean(), TimeUnit.MILLISECONDS.toNanos(maxWaitMillis));
+    }
+
+    private static final class Monitor {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition changed = lock.newCondition();
+
+        void signal() {
+            lock.lock();
+            try {
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void await(final BooleanSupplier condition, final long maxWaitNanos) throws InterruptedException {
+            lock.lock();
+            try {
+                long remaining = maxWaitNanos;
+                while (remaining > 0 && !condition.getAsBoolean()) {
+                    remaining = changed.awaitNanos(remaining);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -235,9 +235,13 @@ public abstract class AbstractEvalOpProcessor extends AbstractOpProcessor {
                 .afterFailure((b,t) -> {
                     graphManager.onQueryError(msg, t);
                     if (managedTransactionsForRequest) attemptRollback(msg, ctx.getGraphManager(), settings.strictTransactionManagement);
+
+                    // a script may have changed any graph before it failed where a graph does not support transactions
+                    graphManager.onAllGraphsChange();
                 })
                 .afterTimeout((b, t) -> {
                   graphManager.onQueryError(msg, t);
+                  graphManager.onAllGraphsChange();
                 })
                 .beforeEval(b -> {
                     graphManager.beforeQueryStart(msg);
@@ -272,6 +276,9 @@ public abstract class AbstractEvalOpProcessor extends AbstractOpProcessor {
                         // wrap up the exception and rethrow. the error will be written to the client by the evalFuture
                         // as it will completeExceptionally in the GremlinExecutor
                         throw new RuntimeException(ex);
+                    } finally {
+                        // a script may have changed any graph and any transaction it used is closed by now
+                        graphManager.onAllGraphsChange();
                     }
                 }).create();
 
@@ -46,7 +46,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 /**
@@ -156,7 +155,7 @@ public abstract class AbstractOpProcessor implements OpProcessor {
             // executor threads waiting for watermark to clear which will not clear in these cases since client has
             // already given up on these requests. This leads to these executors waiting for the client to consume
             // results till the timeout. checking for isActive() should help prevent that.
-            if (nettyContext.channel().isActive() && nettyContext.channel().isWritable()) {
+            if (context.isWritable()) {
                 if (forceFlush || aggregate.size() == resultIterationBatchSize || !itty.hasNext()) {
                     final ResponseStatusCode code = itty.hasNext() ? ResponseStatusCode.PARTIAL_CONTENT : ResponseStatusCode.SUCCESS;
 
@@ -213,15 +212,17 @@ public abstract class AbstractOpProcessor implements OpProcessor {
                     context.writeAndFlush(code, frame);
                 }
             } else {
-                // don't keep triggering this warning over and over again for the same request
-                if (!warnOnce) {
-                    logger.warn("Pausing response writing as writeBufferHighWaterMark exceeded on {} - writing will continue once client has caught up", msg);
+                // don't keep triggering this warning over and over again for the same request. waiting for the client
+                // to grant more credit is expected so it is not worth a warning
+                if (!warnOnce && context.hasCredit()) {
+                    logger.warn("Pausing response writing as writeBufferHighWaterMark or maxInFlightBytesPerRequest exceeded on {} - writing will continue once client has caught up", msg);
                     warnOnce = true;
                 }
 
-                // since the client is lagging we can hold here for a period of time for the client to catch up.
-                // this isn't blocking the IO thread - just a worker.
-                TimeUnit.MILLISECONDS.sleep(10);
+                // since the client is lagging hold here until the channel signals that it has drained, that frames for
+                // this request have been flushed or that the client granted more credit. this isn't blocking the IO
+                // thread - just a worker.
+                context.awaitWritable();
             }
         }
     }
@@ -43,6 +43,7 @@ import org.apache.tinkerpop.gremlin.server.handler.StateKey;
 import org.apache.tinkerpop.gremlin.server.op.AbstractEvalOpProcessor;
 import org.apache.tinkerpop.gremlin.server.op.OpProcessorException;
 import org.apache.tinkerpop.gremlin.server.util.MetricManager;
+import org.apache.tinkerpop.gremlin.server.util.ResultCache;
 import org.apache.tinkerpop.gremlin.server.util.TraverserIterator;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONMapper;
@@ -412,9 +413,11 @@ public class SessionOpProcessor extends AbstractEvalOpProcessor {
             try {
                 beforeProcessing(graph, context);
 
+                boolean mutating = false;
                 try {
                     // compile the traversal - without it getEndStep() has nothing in it
                     traversal.applyStrategies();
+                    mutating = !ResultCache.isReadOnly(traversal);
                     handleIterator(context, new TraverserIterator(traversal), graph);
                 } catch (Exception ex) {
                     Throwable t = ex;
@@ -450,6 +453,10 @@ public class SessionOpProcessor extends AbstractEvalOpProcessor {
                                 .statusAttributeException(ex).create());
                     }
                     onError(graph, context);
+                } finally {
+                    // a mutating traversal may have changed the graph even if it failed part way through where
+                    // the graph does not support transactions
+                    if (mutating) graphManager.onGraphChange(graph);
                 }
             } catch (Throwable t) {
                 onError(graph, context);
@@ -518,10 +525,12 @@ public class SessionOpProcessor extends AbstractEvalOpProcessor {
                 submitToGremlinExecutor(context, 0, session, new FutureTask<>(() -> {
                     try {
                         if (graph.tx().isOpen()) {
-                            if (commit)
+                            if (commit) {
                                 graph.tx().commit();
-                            else
+                                context.getGraphManager().onGraphChange(graph);
+                            } else {
                                 graph.tx().rollback();
+                            }
                         }
 
                         // write back a no-op for success
@@ -662,7 +671,7 @@ public class SessionOpProcessor extends AbstractEvalOpProcessor {
             // executor threads waiting for watermark to clear which will not clear in these cases since client has
             // already given up on these requests. This leads to these executors waiting for the client to consume
             // results till the timeout. checking for isActive() should help prevent that.
-            if (nettyContext.channel().isActive() && nettyContext.channel().isWritable()) {
+            if (context.isWritable()) {
                 if (forceFlush || aggregate.size() == resultIterationBatchSize || !itty.hasNext()) {
                     final ResponseStatusCode code = itty.hasNext() ? ResponseStatusCode.PARTIAL_CONTENT : ResponseStatusCode.SUCCESS;
 
@@ -719,15 +728,17 @@ public class SessionOpProcessor extends AbstractEvalOpProcessor {
                     context.writeAndFlush(code, frame);
                 }
             } else {
-                // don't keep triggering this warning over and over again for the same request
-                if (!warnOnce) {
-                    logger.warn("Pausing response writing as writeBufferHighWaterMark exceeded on {} - writing will continue once client has caught up", msg);
+                // don't keep triggering this warning over and over again for the same request. waiting for the client
+                // to grant more credit is expected so it is not worth a warning
+                if (!warnOnce && context.hasCredit()) {
+                    logger.warn("Pausing response writing as writeBufferHighWaterMark or maxInFlightBytesPerRequest exceeded on {} - writing will continue once client has caught up", msg);
                     warnOnce = true;
                 }
 
-                // since the client is lagging we can hold here for a period of time for the client to catch up.
-                // this isn't blocking the IO thread - just a worker.
-                TimeUnit.MILLISECONDS.sleep(10);
+                // since the client is lagging hold here until the channel signals that it has drained, that frames for
+                // this request have been flushed or that the client granted more credit. this isn't blocking the IO
+                // thread - just a worker.
+                context.awaitWritable();
             }
         }
     }
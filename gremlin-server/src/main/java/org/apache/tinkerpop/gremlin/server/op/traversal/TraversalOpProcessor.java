@@ -44,6 +44,9 @@ import org.apache.tinkerpop.gremlin.server.handler.StateKey;
 import org.apache.tinkerpop.gremlin.server.op.AbstractOpProcessor;
 import org.apache.tinkerpop.gremlin.server.op.OpProcessorException;
 import org.apache.tinkerpop.gremlin.server.util.MetricManager;
+import org.apache.tinkerpop.gremlin.server.util.ResultCache;
+import org.apache.tinkerpop.gremlin.server.util.TraversalCache;
+import org.apache.tinkerpop.gremlin.server.util.TraversalProfileSampler;
 import org.apache.tinkerpop.gremlin.server.util.TraverserIterator;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.util.TemporaryException;
@@ -80,10 +83,21 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
 
     private static final Bindings EMPTY_BINDINGS = new SimpleBindings();
 
+    private TraversalCache traversalCache = new TraversalCache(0, 0);
+    private ResultCache resultCache = new ResultCache(0, 0);
+
     public TraversalOpProcessor() {
         super(false);
     }
 
+    @Override
+    public void init(final Settings settings) {
+        this.traversalCache = new TraversalCache(settings);
+        MetricManager.INSTANCE.registerTraversalCacheMetrics(this.traversalCache, "op", "traversal", "cache");
+        this.resultCache = new ResultCache(settings);
+        MetricManager.INSTANCE.registerResultCacheMetrics(this.resultCache, "op", "traversal", "results");
+    }
+
     @Override
     public String getName() {
         return OP_PROCESSOR_NAME;
@@ -178,10 +192,23 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
         final String traversalSourceName = aliases.entrySet().iterator().next().getValue();
         final TraversalSource g = graphManager.getTraversalSource(traversalSourceName);
 
+        final boolean sampled = TraversalProfileSampler.sample(context.getSettings().traversalProfileSampleRate);
+
+        // a sampled traversal must execute to be profiled
+        final boolean cacheResults = !sampled && resultCache.listenTo(graphManager);
+        final Optional<List<Object>> cachedResults = cacheResults ?
+                resultCache.get(traversalSourceName, g, bytecode) : Optional.empty();
+
         final Traversal.Admin<?, ?> traversal;
-        try {
+        if (cachedResults.isPresent())
+            traversal = null;
+        else try {
+            final Optional<Traversal.Admin<?, ?>> cachedTraversal = sampled ?
+                    Optional.empty() : traversalCache.get(traversalSourceName, g, bytecode);
             final Optional<String> lambdaLanguage = BytecodeHelper.getLambdaLanguage(bytecode);
-            if (!lambdaLanguage.isPresent())
+            if (cachedTraversal.isPresent())
+                traversal = cachedTraversal.get();
+            else if (!lambdaLanguage.isPresent())
                 traversal = JavaTranslator.of(g).translate(bytecode);
             else
                 traversal = context.getGremlinExecutor().eval(bytecode, EMPTY_BINDINGS, lambdaLanguage.get(), traversalSourceName);
@@ -216,10 +243,29 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
             try {
                 beforeProcessing(graph, context);
 
+                boolean mutating = false;
                 try {
-                    // compile the traversal - without it getEndStep() has nothing in it
-                    traversal.applyStrategies();
-                    handleIterator(context, new TraverserIterator(traversal), graph);
+                    if (cachedResults.isPresent()) {
+                        handleIterator(context, cachedResults.get().iterator(), graph);
+                        return null;
+                    }
+
+                    // compile the traversal - without it getEndStep() has nothing in it. a traversal that came
+                    // from the cache is already compiled
+                    if (!traversal.isLocked()) {
+                        if (sampled) TraversalProfileSampler.instrument(traversal);
+                        traversal.applyStrategies();
+                        if (!sampled) traversalCache.put(traversalSourceName, g, bytecode, traversal);
+                    }
+
+                    Iterator<Object> itty = sampled ?
+                            TraversalProfileSampler.record(traversal, new TraverserIterator(traversal),
+                                    context.getSettings().traversalProfileMaxShapes) :
+                            new TraverserIterator(traversal);
+                    mutating = !ResultCache.isReadOnly(traversal);
+                    if (cacheResults && resultCache.isCacheable(bytecode) && resultCache.isCacheable(traversal))
+                        itty = resultCache.record(traversalSourceName, g, bytecode, resultCache.generation(graph), itty);
+                    handleIterator(context, itty, graph);
                 } catch (Exception ex) {
                     Throwable t = ex;
                     if (ex instanceof UndeclaredThrowableException)
@@ -255,6 +301,10 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
                                                              .statusAttributeException(ex).create());
                     }
                     onError(graph, context, ex);
+                } finally {
+                    // a mutating traversal may have changed the graph even if it failed part way through where
+                    // the graph does not support transactions. any commit has happened by now
+                    if (mutating) graphManager.onGraphChange(graph);
                 }
             } catch (Throwable t) {
                 onError(graph, context, t);
@@ -398,7 +448,7 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
             // executor threads waiting for watermark to clear which will not clear in these cases since client has
             // already given up on these requests. This leads to these executors waiting for the client to consume
             // results till the timeout. checking for isActive() should help prevent that.
-            if (nettyContext.channel().isActive() && nettyContext.channel().isWritable()) {
+            if (context.isWritable()) {
                 if (forceFlush || aggregate.size() == resultIterationBatchSize || !itty.hasNext()) {
                     final ResponseStatusCode code = itty.hasNext() ? ResponseStatusCode.PARTIAL_CONTENT : ResponseStatusCode.SUCCESS;
 
@@ -455,15 +505,17 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
                     context.writeAndFlush(code, frame);
                 }
             } else {
-                // don't keep triggering this warning over and over again for the same request
-                if (!warnOnce) {
-                    logger.warn("Pausing response writing as writeBufferHighWaterMark exceeded on {} - writing will continue once client has caught up", msg);
+                // don't keep triggering this warning over and over again for the same request. waiting for the client
+                // to grant more credit is expected so it is not worth a warning
+                if (!warnOnce && context.hasCredit()) {
+                    logger.warn("Pausing response writing as writeBufferHighWaterMark or maxInFlightBytesPerRequest exceeded on {} - writing will continue once client has caught up", msg);
                     warnOnce = true;
                 }
 
-                // since the client is lagging we can hold here for a period of time for the client to catch up.
-                // this isn't blocking the IO thread - just a worker.
-                TimeUnit.MILLISECONDS.sleep(10);
+                // since the client is lagging hold here until the channel signals that it has drained, that frames for
+                // this request have been flushed or that the client granted more credit. this isn't blocking the IO
+                // thread - just a worker.
+                context.awaitWritable();
             }
         }
     }
@@ -37,6 +37,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -50,6 +52,7 @@ public class DefaultGraphManager implements GraphManager {
 
     private final Map<String, Graph> graphs = new ConcurrentHashMap<>();
     private final Map<String, TraversalSource> traversalSources = new ConcurrentHashMap<>();
+    private final List<Consumer<Graph>> graphChangeListeners = new CopyOnWriteArrayList<>();
 
     /**
      * Create a new instance using the {@link Settings} from Gremlin Server.
@@ -166,6 +169,21 @@ public class DefaultGraphManager implements GraphManager {
         return graph;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    public boolean addGraphChangeListener(final Consumer<Graph> listener) {
+        graphChangeListeners.add(listener);
+        return true;
+    }
+
+    /**
+     * Calls the listeners added with {@link #addGraphChangeListener(Consumer)}.
+     */
+    public void onGraphChange(final Graph graph) {
+        graphChangeListeners.forEach(listener -> listener.accept(graph));
+    }
+
     /**
      * Selectively close transactions on the specified graphs or the graphs of traversal sources.
      */
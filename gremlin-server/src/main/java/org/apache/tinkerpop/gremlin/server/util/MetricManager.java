@@ -25,6 +25,7 @@ import com.codahale.metrics.Gauge;
 import com.codahale.metrics.Histogram;
 import com.codahale.metrics.JmxReporter;
 import com.codahale.metrics.Meter;
+import com.codahale.metrics.Metric;
 import com.codahale.metrics.MetricFilter;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Slf4jReporter;
@@ -35,7 +36,9 @@ import com.codahale.metrics.graphite.GraphiteReporter;
 import info.ganglia.gmetric4j.gmetric.GMetric;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.tinkerpop.gremlin.groovy.jsr223.GremlinGroovyScriptEngine;
+import org.apache.tinkerpop.gremlin.jsr223.GremlinLangScriptEngine;
 import org.apache.tinkerpop.gremlin.jsr223.GremlinScriptEngine;
+import org.apache.tinkerpop.gremlin.language.grammar.GremlinQueryCache;
 import org.apache.tinkerpop.gremlin.server.GremlinServer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -440,10 +443,53 @@ public enum MetricManager {
         return getRegistry().histogram(MetricRegistry.name(prefix, names));
     }
 
+    /**
+     * Registers the hit and miss metrics of a {@link TraversalCache}. Metrics that were registered for a cache under
+     * the same prefix are replaced as the {@code MetricManager} is static and may outlive the server that created
+     * the old cache.
+     */
+    public void registerTraversalCacheMetrics(final TraversalCache traversalCache, final String... prefix) {
+        registerReplacing(MetricRegistry.name(GremlinServer.class, ArrayUtils.add(prefix, "estimated-size")),
+                (Gauge<Long>) traversalCache::getEstimatedSize);
+        registerReplacing(MetricRegistry.name(GremlinServer.class, ArrayUtils.add(prefix, "eviction-count")),
+                (Gauge<Long>) traversalCache::getEvictionCount);
+        registerReplacing(MetricRegistry.name(GremlinServer.class, ArrayUtils.add(prefix, "hit-count")),
+                (Gauge<Long>) traversalCache::getHitCount);
+        registerReplacing(MetricRegistry.name(GremlinServer.class, ArrayUtils.add(prefix, "hit-rate")),
+                (Gauge<Double>) traversalCache::getHitRate);
+        registerReplacing(MetricRegistry.name(GremlinServer.class, ArrayUtils.add(prefix, "miss-count")),
+                (Gauge<Long>) traversalCache::getMissCount);
+    }
+
+    /**
+     * Registers the hit, miss and invalidation metrics of a {@link ResultCache}. Metrics that were registered for a
+     * cache under the same prefix are replaced.
+     */
+    public void registerResultCacheMetrics(final ResultCache resultCache, final String... prefix) {
+        registerReplacing(MetricRegistry.name(GremlinServer.class, ArrayUtils.add(prefix, "estimated-size")),
+                (Gauge<Long>) resultCache::getEstimatedSize);
+        registerReplacing(MetricRegistry.name(GremlinServer.class, ArrayUtils.add(prefix, "eviction-count")),
+                (Gauge<Long>) resultCache::getEvictionCount);
+        registerReplacing(MetricRegistry.name(GremlinServer.class, ArrayUtils.add(prefix, "hit-count")),
+                (Gauge<Long>) resultCache::getHitCount);
+        registerReplacing(MetricRegistry.name(GremlinServer.class, ArrayUtils.add(prefix, "hit-rate")),
+                (Gauge<Double>) resultCache::getHitRate);
+        registerReplacing(MetricRegistry.name(GremlinServer.class, ArrayUtils.add(prefix, "invalidation-count")),
+                (Gauge<Long>) resultCache::getInvalidationCount);
+        registerReplacing(MetricRegistry.name(GremlinServer.class, ArrayUtils.add(prefix, "miss-count")),
+                (Gauge<Long>) resultCache::getMissCount);
+    }
+
+    private void registerReplacing(final String name, final Metric metric) {
+        getRegistry().remove(name);
+        getRegistry().register(name, metric);
+    }
+
     /**
      * Registers metrics from a {@link GremlinScriptEngine}. At this point, this only works for the
-     * {@link GremlinGroovyScriptEngine} as it is the only one that collects metrics at this point. As the
-     * {@link GremlinScriptEngine} implementations achieve greater parity these metrics will get expanded.
+     * {@link GremlinGroovyScriptEngine}, which reports on its class cache, and the {@link GremlinLangScriptEngine},
+     * which reports on its cache of parse trees. As the {@link GremlinScriptEngine} implementations achieve greater
+     * parity these metrics will get expanded.
      */
     public void registerGremlinScriptEngineMetrics(final GremlinScriptEngine engine, final String... prefix) {
         // only register if metrics aren't already registered. typically only happens in testing where two gremlin
@@ -496,6 +542,18 @@ public enum MetricManager {
             getRegistry().register(
                     MetricRegistry.name(GremlinServer.class, ArrayUtils.add(prefix, "total-load-time")),
                     (Gauge<Long>) gremlinGroovyScriptEngine::getClassCacheTotalLoadTime);
+        } else if (engine instanceof GremlinLangScriptEngine) {
+            final GremlinQueryCache queryCache = ((GremlinLangScriptEngine) engine).getQueryCache();
+            registerReplacing(MetricRegistry.name(GremlinServer.class, ArrayUtils.add(prefix, "estimated-size")),
+                    (Gauge<Long>) queryCache::getEstimatedSize);
+            registerReplacing(MetricRegistry.name(GremlinServer.class, ArrayUtils.add(prefix, "eviction-count")),
+                    (Gauge<Long>) queryCache::getEvictionCount);
+            registerReplacing(MetricRegistry.name(GremlinServer.class, ArrayUtils.add(prefix, "hit-count")),
+                    (Gauge<Long>) queryCache::getHitCount);
+            registerReplacing(MetricRegistry.name(GremlinServer.class, ArrayUtils.add(prefix, "hit-rate")),
+                    (Gauge<Double>) queryCache::getHitRate);
+            registerReplacing(MetricRegistry.name(GremlinServer.class, ArrayUtils.add(prefix, "miss-count")),
+                    (Gauge<Long>) queryCache::getMissCount);
         }
     }
 }
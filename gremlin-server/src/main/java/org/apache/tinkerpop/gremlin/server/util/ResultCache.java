@@ -0,0 +1,281 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.step.ComparatorHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.CoinStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.SampleGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.TimeLimitStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.CallStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.SampleLocalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.IoStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.ProfileSideEffectStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.verification.ReadOnlyStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.BytecodeHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.server.GraphManager;
+import org.apache.tinkerpop.gremlin.server.Settings;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.javatuples.Pair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the results of read-only traversals that were translated from {@link Bytecode} so that repeated requests for
+ * the same {@link Bytecode} against the same {@link TraversalSource} can be answered without executing the traversal
+ * again. Results are held in the form they are handed to the serializer, which means that graph elements are already
+ * detached or referenced as configured by the {@code HaltedTraverserStrategy}.
+ * <p/>
+ * Entries are evicted once they are older than {@link Settings#resultCacheExpireAfterWrite} or once the total number
+ * of cached results exceeds {@link Settings#resultCacheMaxSize}. All entries for a {@link Graph} are invalidated
+ * when the {@link GraphManager} given to {@link #listenTo(GraphManager)} reports that a request may have changed it
+ * through {@link GraphManager#onGraphChange(Graph)}. Changes made to the graph outside of the server are only
+ * observed once entries expire.
+ */
+public class ResultCache {
+    private static final Logger logger = LoggerFactory.getLogger(ResultCache.class);
+
+    private static final Collection<Class> NON_DETERMINISTIC_STEPS = Arrays.asList(
+            CoinStep.class, SampleGlobalStep.class, SampleLocalStep.class, CallStep.class, IoStep.class,
+            ProfileSideEffectStep.class, LambdaHolder.class, TimeLimitStep.class);
+
+    private final Cache<Pair<String, Bytecode>, Pair<TraversalSource, List<Object>>> cache;
+    private final long maxSize;
+    private final Map<Graph, AtomicLong> generations = Collections.synchronizedMap(new WeakHashMap<>());
+    private final Map<GraphManager, Boolean> graphManagers = Collections.synchronizedMap(new WeakHashMap<>());
+    private final AtomicLong invalidationCount = new AtomicLong();
+    private volatile boolean unreported = false;
+
+    public ResultCache(final Settings settings) {
+        this(settings.resultCacheMaxSize, settings.resultCacheExpireAfterWrite);
+    }
+
+    /**
+     * Creates a cache that holds up to {@code maxSize} results across all entries and evicts entries that were
+     * created more than {@code expireAfterWrite} milliseconds ago. A {@code maxSize} of zero or less disables the
+     * cache.
+     */
+    public ResultCache(final long maxSize, final long expireAfterWrite) {
+        this.maxSize = maxSize;
+        if (maxSize > 0) {
+            final Caffeine<Pair<String, Bytecode>, Pair<TraversalSource, List<Object>>> builder = Caffeine.newBuilder()
+                    .maximumWeight(maxSize)
+                    .weigher((Pair<String, Bytecode> k, Pair<TraversalSource, List<Object>> v) -> Math.max(1, v.getValue1().size()))
+                    .recordStats();
+            if (expireAfterWrite > 0) builder.expireAfterWrite(expireAfterWrite, TimeUnit.MILLISECONDS);
+            this.cache = builder.build();
+        } else {
+            this.cache = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return null != this.cache && !this.unreported;
+    }
+
+    /**
+     * Invalidates the entries for each {@link Graph} that the {@link GraphManager} reports as changed. Cached results
+     * could never be invalidated with a {@link GraphManager} that does not report changes, so the cache disables
+     * itself in that case. Calling this method again for the same {@link GraphManager} has no further effect.
+     *
+     * @return {@code true} if the cache is enabled
+     */
+    public boolean listenTo(final GraphManager graphManager) {
+        if (!isEnabled()) return false;
+        final boolean reported = graphManagers.computeIfAbsent(graphManager, gm -> {
+            final boolean listening = gm.addGraphChangeListener(this::invalidate);
+            if (!listening)
+                logger.warn("The result cache is disabled as {} does not report graph changes - resultCacheMaxSize is ignored",
+                        gm.getClass().getName());
+            return listening;
+        });
+        if (!reported) this.unreported = true;
+        return isEnabled();
+    }
+
+    /**
+     * Determines if the results for the {@link Bytecode} might be cached, which is not the case for lambdas or for
+     * graph operations like commit and rollback.
+     */
+    public boolean isCacheable(final Bytecode bytecode) {
+        return isEnabled() && !BytecodeHelper.getLambdaLanguage(bytecode).isPresent() &&
+                !BytecodeHelper.isGraphOperation(bytecode);
+    }
+
+    /**
+     * Determines if a traversal that had its strategies applied is read-only and deterministic so that its results
+     * can be cached. A traversal source configured with {@link ReadOnlyStrategy} will already have failed to apply
+     * strategies to a traversal with a {@link Mutating} step, but any other source is checked as well.
+     */
+    public static boolean isReadOnly(final Traversal.Admin<?, ?> traversal) {
+        return !TraversalHelper.hasStepOfAssignableClassRecursively(Mutating.class, traversal);
+    }
+
+    /**
+     * Determines if a traversal that had its strategies applied is one whose results can be cached, which excludes
+     * steps with random or time-dependent results like {@code coin()}, {@code sample()}, {@code timeLimit()} and
+     * {@code order()} by {@link Order#shuffle}.
+     */
+    public boolean isCacheable(final Traversal.Admin<?, ?> traversal) {
+        return isEnabled() && traversal.isLocked() && isReadOnly(traversal) &&
+                !TraversalHelper.hasStepOfAssignableClassRecursively(NON_DETERMINISTIC_STEPS, traversal) &&
+                !isShuffled(traversal);
+    }
+
+    private static boolean isShuffled(final Traversal.Admin<?, ?> traversal) {
+        return TraversalHelper.anyStepRecursively(step -> step instanceof ComparatorHolder &&
+                ((ComparatorHolder<?, ?>) step).getComparators().stream().anyMatch(p -> p.getValue1() == Order.shuffle),
+                traversal);
+    }
+
+    /**
+     * Gets the results cached for the {@link Bytecode}. An entry that was cached for a different instance of the
+     * {@link TraversalSource} with the same name, as may happen if the source was replaced, is treated as a miss.
+     */
+    public Optional<List<Object>> get(final String traversalSourceName, final TraversalSource g, final Bytecode bytecode) {
+        if (!isCacheable(bytecode)) return Optional.empty();
+
+        final Pair<TraversalSource, List<Object>> cached = this.cache.getIfPresent(Pair.with(traversalSourceName, bytecode));
+        if (null == cached || cached.getValue0() != g) return Optional.empty();
+        return Optional.of(cached.getValue1());
+    }
+
+    /**
+     * Gets a marker for the current state of the cache with respect to a {@link Graph} which must be taken before a
+     * traversal starts executing and passed to {@link #record(String, TraversalSource, Bytecode, long, Iterator)}.
+     * It prevents results that were read before the {@link Graph} was changed from being cached afterward.
+     */
+    public long generation(final Graph graph) {
+        return generationOf(graph).get();
+    }
+
+    private AtomicLong generationOf(final Graph graph) {
+        return generations.computeIfAbsent(graph, k -> new AtomicLong());
+    }
+
+    /**
+     * Wraps the iterator of results of a cacheable traversal so that the results are cached once it is exhausted.
+     * Results are not cached if there are more of them than the cache can hold or if the {@link Graph} of the
+     * {@link TraversalSource} was changed after the {@code generation} was taken.
+     */
+    public Iterator<Object> record(final String traversalSourceName, final TraversalSource g, final Bytecode bytecode,
+                                   final long generation, final Iterator<Object> iterator) {
+        return new Iterator<Object>() {
+            private List<Object> results = new ArrayList<>();
+
+            @Override
+            public boolean hasNext() {
+                final boolean hasNext = iterator.hasNext();
+                if (!hasNext && results != null) {
+                    final List<Object> toCache = results;
+                    results = null;
+                    final AtomicLong current = generationOf(g.getGraph());
+                    synchronized (current) {
+                        if (current.get() == generation)
+                            cache.put(Pair.with(traversalSourceName, bytecode), Pair.with(g, Collections.unmodifiableList(toCache)));
+                    }
+                }
+                return hasNext;
+            }
+
+            @Override
+            public Object next() {
+                final Object result = iterator.next();
+                if (results != null) {
+                    if (results.size() < maxSize)
+                        results.add(result);
+                    else
+                        results = null;
+                }
+                return result;
+            }
+        };
+    }
+
+    /**
+     * Removes all entries for traversal sources of the {@link Graph}.
+     */
+    public void invalidate(final Graph graph) {
+        if (!isEnabled()) return;
+        final AtomicLong current = generationOf(graph);
+        synchronized (current) {
+            current.incrementAndGet();
+            this.cache.asMap().values().removeIf(v -> v.getValue0().getGraph() == graph);
+        }
+        invalidationCount.incrementAndGet();
+    }
+
+    public void invalidateAll() {
+        if (!isEnabled()) return;
+        synchronized (generations) {
+            generations.values().forEach(AtomicLong::incrementAndGet);
+        }
+        this.cache.invalidateAll();
+        invalidationCount.incrementAndGet();
+    }
+
+    public long getEstimatedSize() {
+        return isEnabled() ? this.cache.estimatedSize() : 0L;
+    }
+
+    public long getHitCount() {
+        return stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return stats().missCount();
+    }
+
+    public double getHitRate() {
+        return stats().hitRate();
+    }
+
+    public long getEvictionCount() {
+        return stats().evictionCount();
+    }
+
+    public long getInvalidationCount() {
+        return invalidationCount.get();
+    }
+
+    private CacheStats stats() {
+        return isEnabled() ? this.cache.stats() : CacheStats.empty();
+    }
+}
@@ -36,12 +36,14 @@ import java.lang.reflect.Constructor;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -97,7 +99,20 @@ public class ServerGremlinExecutor {
             throw new RuntimeException(e);
         }
 
-        if (null == gremlinExecutorService) {
+        final Optional<ThreadFactory> virtualThreadFactory = null == gremlinExecutorService && settings.useVirtualThreads ?
+                ThreadFactoryUtil.createVirtual("exec-") : Optional.empty();
+        if (settings.useVirtualThreads && null == gremlinExecutorService && !virtualThreadFactory.isPresent())
+            logger.warn("The useVirtualThreads setting requires Java 21 or later - using a gremlinPool of {} platform threads instead",
+                    settings.gremlinPool);
+
+        if (virtualThreadFactory.isPresent()) {
+            // a virtual thread is cheap to park while a request waits on the client so each request can get its own
+            // thread rather than wait in the queue. the limit on requests in flight matches what the platform pool
+            // would accept before it started rejecting them
+            this.gremlinExecutorService = new ThreadPoolExecutor(0, settings.gremlinPool + settings.maxWorkQueueSize,
+                    60L, TimeUnit.SECONDS, new SynchronousQueue<>(), virtualThreadFactory.get(),
+                    new ThreadPoolExecutor.AbortPolicy());
+        } else if (null == gremlinExecutorService) {
             final ThreadFactory threadFactoryGremlin = ThreadFactoryUtil.create("exec-%d");
             final BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(settings.maxWorkQueueSize);
             this.gremlinExecutorService = new ThreadPoolExecutor(settings.gremlinPool, settings.gremlinPool,
@@ -184,7 +199,8 @@ public class ServerGremlinExecutor {
 
     private void registerMetrics(final String engineName) {
         final GremlinScriptEngine engine = gremlinExecutor.getScriptEngineManager().getEngineByName(engineName);
-        MetricManager.INSTANCE.registerGremlinScriptEngineMetrics(engine, engineName, "sessionless", "class-cache");
+        MetricManager.INSTANCE.registerGremlinScriptEngineMetrics(engine, engineName, "sessionless",
+                engine instanceof GremlinLangScriptEngine ? "query-cache" : "class-cache");
     }
 
     public void addHostOption(final String key, final Object value) {
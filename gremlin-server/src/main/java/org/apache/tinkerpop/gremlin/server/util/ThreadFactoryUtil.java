@@ -20,6 +20,8 @@ package org.apache.tinkerpop.gremlin.server.util;
 
 import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 
+import java.lang.reflect.Method;
+import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 
 /**
@@ -32,4 +34,21 @@ public final class ThreadFactoryUtil {
     public static ThreadFactory create(final String pattern) {
         return new BasicThreadFactory.Builder().namingPattern(SERVER_THREAD_PREFIX + pattern).build();
     }
+
+    /**
+     * Creates a factory of virtual threads named with the given prefix followed by a counter. Virtual threads are
+     * only available on Java 21 or later, so the factory is looked up reflectively and is empty when the running JVM
+     * does not support them.
+     */
+    public static Optional<ThreadFactory> createVirtual(final String prefix) {
+        try {
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            final Method name = builderClass.getMethod("name", String.class, long.class);
+            final Method factory = builderClass.getMethod("factory");
+            final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return Optional.of((ThreadFactory) factory.invoke(name.invoke(builder, SERVER_THREAD_PREFIX + prefix, 0L)));
+        } catch (ReflectiveOperationException | UnsupportedOperationException ex) {
+            return Optional.empty();
+        }
+    }
 }
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.util.BytecodeHelper;
+import org.apache.tinkerpop.gremlin.server.Settings;
+import org.javatuples.Pair;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds traversals that were translated from {@link Bytecode} and had their strategies applied so that repeated
+ * requests for the same {@link Bytecode} against the same {@link TraversalSource} can skip both steps and simply
+ * execute a clone of the cached traversal. Strategies may fold argument values into the steps they produce, so a
+ * compiled traversal cannot be re-bound to new argument values and the gain is limited to exact repeats of the
+ * {@link Bytecode}. For that reason {@link Bytecode} with {@link Bytecode.Binding} arguments is not cached at all, as
+ * its bindings mark it as a parameterized traversal whose values are expected to vary from request to request and
+ * each set of values would only take up an entry that is unlikely to be used again. The cache is disabled when
+ * {@link Settings#traversalCacheMaxSize} is zero.
+ */
+public class TraversalCache {
+
+    private static final Collection<String> SHARED_STATE_SOURCES = Arrays.asList(
+            TraversalSource.Symbols.withSideEffect, TraversalSource.Symbols.withSack);
+
+    private final Cache<Pair<String, Bytecode>, Pair<TraversalSource, Traversal.Admin<?, ?>>> cache;
+
+    public TraversalCache(final Settings settings) {
+        this(settings.traversalCacheMaxSize, settings.traversalCacheExpireAfterAccess);
+    }
+
+    /**
+     * Creates a cache that holds up to {@code maxSize} traversals and evicts those that have not been used for
+     * {@code expireAfterAccess} milliseconds. A {@code maxSize} of zero or less disables the cache.
+     */
+    public TraversalCache(final long maxSize, final long expireAfterAccess) {
+        if (maxSize > 0) {
+            final Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(maxSize).recordStats();
+            if (expireAfterAccess > 0) builder.expireAfterAccess(expireAfterAccess, TimeUnit.MILLISECONDS);
+            this.cache = builder.build();
+        } else {
+            this.cache = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return null != this.cache;
+    }
+
+    /**
+     * Determines if a traversal for the {@link Bytecode} can be cached, which is not the case for lambdas as they
+     * are evaluated by a script engine, for graph operations like commit and rollback, for {@link Bytecode} that
+     * has {@link Bytecode.Binding} arguments or for {@link Bytecode} that configures its source with
+     * {@code withSideEffect()} or {@code withSack()}. The initial values of side-effects and sacks are held by
+     * suppliers that clones of a traversal share, so a mutable initial value like a list given to
+     * {@code withSideEffect()} would collect the results of every request that executed a clone.
+     */
+    public boolean isCacheable(final Bytecode bytecode) {
+        return isEnabled() && !BytecodeHelper.getLambdaLanguage(bytecode).isPresent() &&
+                !BytecodeHelper.isGraphOperation(bytecode) && bytecode.getBindings().isEmpty() &&
+                bytecode.getSourceInstructions().stream().noneMatch(i -> SHARED_STATE_SOURCES.contains(i.getOperator()));
+    }
+
+    /**
+     * Gets a clone of the cached traversal for the {@link Bytecode} which is ready to be iterated as its strategies
+     * have already been applied. An entry that was cached for a different instance of the {@link TraversalSource}
+     * with the same name, as may happen if the source was replaced, is treated as a miss.
+     */
+    public Optional<Traversal.Admin<?, ?>> get(final String traversalSourceName, final TraversalSource g,
+                                               final Bytecode bytecode) {
+        if (!isCacheable(bytecode)) return Optional.empty();
+
+        final Pair<TraversalSource, Traversal.Admin<?, ?>> cached = this.cache.getIfPresent(Pair.with(traversalSourceName, bytecode));
+        if (null == cached || cached.getValue0() != g) return Optional.empty();
+        return Optional.of(cached.getValue1().clone());
+    }
+
+    /**
+     * Caches a clone of the traversal for the {@link Bytecode}. The traversal must have had its strategies applied
+     * and must not have been iterated yet.
+     */
+    public void put(final String traversalSourceName, final TraversalSource g, final Bytecode bytecode,
+                    final Traversal.Admin<?, ?> traversal) {
+        if (!isCacheable(bytecode) || !traversal.isLocked()) return;
+        this.cache.put(Pair.with(traversalSourceName, bytecode), Pair.with(g, traversal.clone()));
+    }
+
+    public void invalidateAll() {
+        if (isEnabled()) this.cache.invalidateAll();
+    }
+
+    public long getEstimatedSize() {
+        return isEnabled() ? this.cache.estimatedSize() : 0L;
+    }
+
+    public long getHitCount() {
+        return stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return stats().missCount();
+    }
+
+    public double getHitRate() {
+        return stats().hitRate();
+    }
+
+    public long getEvictionCount() {
+        return stats().evictionCount();
+    }
+
+    private CacheStats stats() {
+        return isEnabled() ? this.cache.stats() : CacheStats.empty();
+    }
+}
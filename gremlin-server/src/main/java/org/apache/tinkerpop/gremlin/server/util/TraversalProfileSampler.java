@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.util;
+
+import com.codahale.metrics.MetricRegistry;
+import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.VertexProgramStep;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.ProfilingAware;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.ProfileSideEffectStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ProfileStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.ProfileStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.MutableMetrics;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMetrics;
+import org.apache.tinkerpop.gremlin.server.GremlinServer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Profiles a random sample of the bytecode traversals executed by the server so that the latency of each step type
+ * can be observed across real traffic without the caller having to append {@code profile()}. A sampled traversal
+ * gets a {@link ProfileStep} after each step of its root traversal and, once fully iterated, records into
+ * {@link MetricManager} histograms named for the shape of the traversal after strategy application:
+ * <ul>
+ *     <li>{@code traversal.profile.<shape>.<step>.latency} - nanoseconds spent in the step itself</li>
+ *     <li>{@code traversal.profile.<shape>.<step>.traversers} - number of traversers the step produced</li>
+ *     <li>{@code traversal.profile.<shape>.latency} - nanoseconds spent iterating the whole traversal</li>
+ * </ul>
+ * The time of child traversals is included in the time of the step that holds them. Traversals that are already
+ * profiled with {@code profile()} or that execute on a {@code GraphComputer} are not sampled.
+ * <p/>
+ * Shapes come from client traversals so only a bounded number of them have histograms at any time. Once the limit
+ * is reached, recording a new shape removes the histograms of the shape that was least recently recorded.
+ */
+public final class TraversalProfileSampler {
+
+    /**
+     * Shapes that currently have histograms in the order they were last recorded.
+     */
+    private static final Map<String, Boolean> shapes = new LinkedHashMap<>(16, 0.75f, true);
+
+    private TraversalProfileSampler() {}
+
+    /**
+     * Decides whether the current traversal should be profiled given a sample rate between zero and one.
+     */
+    public static boolean sample(final double sampleRate) {
+        return sampleRate > 0 && (sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    /**
+     * Prepares a traversal that has not had its strategies applied to be profiled when they are.
+     */
+    public static void instrument(final Traversal.Admin<?, ?> traversal) {
+        traversal.setStrategies(traversal.getStrategies().clone().addStrategies(SamplingProfileStrategy.INSTANCE));
+    }
+
+    /**
+     * Wraps the iterator of an instrumented traversal so that its profile is recorded once it is exhausted.
+     *
+     * @param maxShapes the number of distinct traversal shapes to keep histograms for
+     */
+    public static Iterator<Object> record(final Traversal.Admin<?, ?> traversal, final Iterator<Object> iterator,
+                                          final int maxShapes) {
+        return new Iterator<Object>() {
+            private boolean recorded = false;
+
+            @Override
+            public boolean hasNext() {
+                final boolean hasNext = iterator.hasNext();
+                if (!hasNext && !recorded) {
+                    recorded = true;
+                    record(traversal, maxShapes);
+                }
+                return hasNext;
+            }
+
+            @Override
+            public Object next() {
+                return iterator.next();
+            }
+        };
+    }
+
+    /**
+     * Records the profile of an instrumented traversal that has been iterated.
+     *
+     * @param maxShapes the number of distinct traversal shapes to keep histograms for
+     */
+    public static void record(final Traversal.Admin<?, ?> traversal, final int maxShapes) {
+        final List<Step<?, ?>> profiled = new ArrayList<>();
+        final List<MutableMetrics> metrics = new ArrayList<>();
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            if (step instanceof ProfileStep) {
+                final Optional<MutableMetrics> m = ((ProfileStep<?>) step).getMetrics();
+                if (!m.isPresent()) return;
+                profiled.add(step.getPreviousStep());
+                metrics.add(m.get());
+            }
+        }
+
+        if (profiled.isEmpty()) return;
+
+        final String shape = shape(profiled);
+
+        // tracking the shape and updating its histograms together keeps a concurrent eviction from leaving behind
+        // histograms for a shape that is no longer tracked
+        synchronized (shapes) {
+            track(shape, maxShapes);
+
+            long previousDuration = 0;
+            for (int i = 0; i < profiled.size(); i++) {
+                // each profiled step is timed as it pulls from the steps before it so the time spent in the steps
+                // before it needs to be taken away
+                final String stepType = profiled.get(i).getClass().getSimpleName();
+                final long duration = metrics.get(i).getDuration(TimeUnit.NANOSECONDS);
+                final Long traversers = metrics.get(i).getCount(TraversalMetrics.TRAVERSER_COUNT_ID);
+                MetricManager.INSTANCE.getHistogram(name(shape, stepType, "latency")).update(Math.max(0, duration - previousDuration));
+                MetricManager.INSTANCE.getHistogram(name(shape, stepType, "traversers")).update(null == traversers ? 0 : traversers);
+                previousDuration = Math.max(previousDuration, duration);
+            }
+
+            MetricManager.INSTANCE.getHistogram(name(shape, "latency")).update(previousDuration);
+        }
+    }
+
+    /**
+     * Marks the shape as the most recently recorded and removes the histograms of the least recently recorded shapes
+     * beyond {@code maxShapes}. Must be called while holding the lock on {@link #shapes}.
+     */
+    private static void track(final String shape, final int maxShapes) {
+        shapes.put(shape, Boolean.TRUE);
+        final Iterator<String> eldest = shapes.keySet().iterator();
+        while (shapes.size() > Math.max(1, maxShapes)) {
+            final String prefix = name(eldest.next()) + ".";
+            eldest.remove();
+            MetricManager.INSTANCE.getRegistry().removeMatching((n, m) -> n.startsWith(prefix));
+        }
+    }
+
+    private static String shape(final List<Step<?, ?>> steps) {
+        final StringBuilder shape = new StringBuilder();
+        for (final Step<?, ?> step : steps) {
+            if (shape.length() > 0) shape.append('-');
+            shape.append(step.getClass().getSimpleName());
+        }
+        return shape.toString();
+    }
+
+    private static String name(final String... names) {
+        final String[] all = new String[names.length + 2];
+        all[0] = "traversal";
+        all[1] = "profile";
+        System.arraycopy(names, 0, all, 2, names.length);
+        return MetricRegistry.name(GremlinServer.class, all);
+    }
+
+    /**
+     * Adds a {@link ProfileStep} after each step of the root traversal in the same way that {@link ProfileStrategy}
+     * does for {@code profile()}.
+     */
+    static final class SamplingProfileStrategy extends AbstractTraversalStrategy<TraversalStrategy.FinalizationStrategy>
+            implements TraversalStrategy.FinalizationStrategy {
+
+        static final SamplingProfileStrategy INSTANCE = new SamplingProfileStrategy();
+
+        private SamplingProfileStrategy() {
+        }
+
+        @Override
+        public void apply(final Traversal.Admin<?, ?> traversal) {
+            if (!traversal.isRoot() ||
+                    TraversalHelper.hasStepOfAssignableClass(VertexProgramStep.class, traversal) ||
+                    TraversalHelper.hasStepOfAssignableClassRecursively(ProfileSideEffectStep.class, traversal))
+                return;
+
+            final List<Step> steps = traversal.getSteps();
+            final int numSteps = steps.size();
+            for (int i = 0; i < numSteps; i++) {
+                traversal.addStep((i * 2) + 1, new ProfileStep(traversal));
+                final Step stepToBeProfiled = traversal.getSteps().get(i * 2);
+                if (stepToBeProfiled instanceof ProfilingAware)
+                    ((ProfilingAware) stepToBeProfiled).prepareForProfiling();
+            }
+        }
+
+        @Override
+        public Set<Class<? extends FinalizationStrategy>> applyPrior() {
+            return Collections.singleton(ProfileStrategy.class);
+        }
+    }
+}
@@ -40,10 +40,13 @@ import org.apache.tinkerpop.gremlin.util.ser.GraphBinaryMessageSerializerV1;
 import org.apache.tinkerpop.gremlin.util.ser.Serializers;
 import org.apache.tinkerpop.gremlin.jsr223.ScriptFileGremlinPlugin;
 import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.server.handler.OpExecutorHandler;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.io.Storage;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
 import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedVertex;
 import org.apache.tinkerpop.gremlin.structure.util.reference.ReferenceVertex;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
@@ -1727,6 +1730,92 @@ public class GremlinDriverIntegrateTest extends AbstractGremlinServerIntegration
         assertEquals(overrideRequestId, requestMessage.getRequestId());
     }
 
+    @Test
+    public void shouldSubmitBatchOfTraversals() throws Exception {
+        final Cluster cluster = TestClientFactory.build().maxRequestsPerFlush(8).
+                minSimultaneousUsagePerConnection(1).maxSimultaneousUsagePerConnection(4).
+                minInProcessPerConnection(1).maxInProcessPerConnection(4).create();
+        try {
+            final Client client = cluster.connect().alias("g");
+            final GraphTraversalSource g = traversal().withEmbedded(EmptyGraph.instance());
+            final List<Traversal> traversals = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                traversals.add(g.inject(i).math("_ * 2"));
+            }
+
+            final List<CompletableFuture<ResultSet>> futures = client.submitBatch(traversals);
+            assertEquals(10, futures.size());
+            for (int i = 0; i < 10; i++) {
+                final Traverser t = futures.get(i).get().one().get(Traverser.class);
+                assertEquals(i * 2.0, t.get());
+            }
+
+            // the connections are all returned so the client is still usable
+            assertEquals(2.0, client.submit(g.inject(1).math("_ + 1")).one().get(Traverser.class).get());
+        } finally {
+            cluster.close();
+        }
+    }
+
+    @Test
+    public void shouldNotAllowRequestIdOverrideForBatch() {
+        final Cluster cluster = TestClientFactory.open();
+        try {
+            final Client client = cluster.connect().alias("g");
+            final GraphTraversalSource g = traversal().withEmbedded(EmptyGraph.instance());
+            client.submitBatch(Collections.singletonList(g.inject(1)),
+                    RequestOptions.build().overrideRequestId(UUID.randomUUID()).create());
+            fail("Should not allow a request id override for a batch");
+        } catch (IllegalArgumentException iae) {
+            assertThat(iae.getMessage(), containsString("batch"));
+        } finally {
+            cluster.close();
+        }
+    }
+
+    @Test
+    public void shouldDeserializeResultsWhenRead() throws Exception {
+        final Cluster cluster = TestClientFactory.build().maxRetainedResultBytes(2048).resultIterationBatchSize(8).create();
+        try {
+            final Client client = cluster.connect();
+            final List<Result> results = client.submit("(1..100).collect{'result-' + it}").all().get();
+            assertEquals(100, results.size());
+            for (int i = 0; i < 100; i++) {
+                assertEquals("result-" + (i + 1), results.get(i).getString());
+            }
+
+            assertEquals(6, client.submit("[1,2,3].sum()").one().getInt());
+        } finally {
+            cluster.close();
+        }
+    }
+
+    @Test
+    public void shouldHoldBackResultsUntilCreditIsGranted() throws Exception {
+        final Cluster cluster = TestClientFactory.open();
+        try {
+            final Client client = cluster.connect();
+            final RequestOptions options = RequestOptions.build().batchSize(10).credits(2).create();
+            final ResultSet results = client.submit("(1..1000)", options);
+
+            // the server stops after two partial responses until they are read
+            Thread.sleep(1000);
+            assertThat(results.getAvailableItemCount() <= 20, is(true));
+            assertThat(results.allItemsAvailable(), is(false));
+
+            final Iterator<Result> itty = results.iterator();
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i + 1, itty.next().getInt());
+            }
+            assertThat(itty.hasNext(), is(false));
+
+            // reading all results at once lets the server send them without waiting
+            assertEquals(1000, client.submit("(1..1000)", options).all().get(30, TimeUnit.SECONDS).size());
+        } finally {
+            cluster.close();
+        }
+    }
+
     @Test
     public void shouldClusterReadFileFromResources() throws Exception {
         final Cluster cluster = Cluster.open(TestClientFactory.RESOURCE_PATH);
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.handler;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.tinkerpop.gremlin.server.Context;
+import org.apache.tinkerpop.gremlin.server.Settings;
+import org.apache.tinkerpop.gremlin.util.Tokens;
+import org.apache.tinkerpop.gremlin.util.message.RequestMessage;
+import org.apache.tinkerpop.gremlin.util.message.ResponseStatusCode;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+public class ResultCreditsTest {
+
+    private final EmbeddedChannel channel = new EmbeddedChannel(new WritabilityHandler());
+    private final UUID requestId = UUID.randomUUID();
+
+    @After
+    public void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void shouldAlwaysHaveCreditWithoutCreditsArgument() {
+        final Context context = context(RequestMessage.build(Tokens.OPS_EVAL).overrideRequestId(requestId).create());
+        for (int i = 0; i < 10; i++) {
+            context.write(ResponseStatusCode.PARTIAL_CONTENT, "partial");
+        }
+        assertThat(context.hasCredit(), is(true));
+        assertThat(ResultCredits.grant(channel, grant(1)), is(false));
+    }
+
+    @Test
+    public void shouldUseCreditForEachPartialResponse() {
+        final Context context = context(request(2));
+        assertThat(context.isWritable(), is(true));
+
+        context.write(ResponseStatusCode.PARTIAL_CONTENT, "partial");
+        assertThat(context.hasCredit(), is(true));
+        context.write(ResponseStatusCode.PARTIAL_CONTENT, "partial");
+        assertThat(context.hasCredit(), is(false));
+        assertThat(context.isWritable(), is(false));
+
+        assertThat(ResultCredits.grant(channel, grant(1)), is(true));
+        assertThat(context.isWritable(), is(true));
+        context.write(ResponseStatusCode.PARTIAL_CONTENT, "partial");
+        assertThat(context.hasCredit(), is(false));
+
+        // invalid grants are ignored
+        assertThat(ResultCredits.grant(channel, grant(0)), is(false));
+        assertThat(ResultCredits.grant(channel, grant(-1)), is(false));
+        assertThat(context.hasCredit(), is(false));
+    }
+
+    @Test
+    public void shouldShareCreditsBetweenContextsOfRequest() {
+        final RequestMessage msg = request(1);
+        final Context first = context(msg);
+        final Context second = context(msg);
+
+        second.write(ResponseStatusCode.PARTIAL_CONTENT, "partial");
+        assertThat(first.hasCredit(), is(false));
+        assertThat(second.hasCredit(), is(false));
+    }
+
+    @Test
+    public void shouldStopTrackingOnFinalResponse() {
+        final Context context = context(request(1));
+        context.writeAndFlush(ResponseStatusCode.SUCCESS, "done");
+        assertThat(ResultCredits.grant(channel, grant(1)), is(false));
+    }
+
+    @Test
+    public void shouldWakeWriterWhenCreditIsGranted() throws Exception {
+        final Context context = context(request(1));
+        context.write(ResponseStatusCode.PARTIAL_CONTENT, "partial");
+        assertThat(context.hasCredit(), is(false));
+
+        final CompletableFuture<Long> waited = CompletableFuture.supplyAsync(() -> {
+            final long start = System.nanoTime();
+            try {
+                while (!context.hasCredit()) {
+                    context.awaitWritable();
+                }
+            } catch (InterruptedException ie) {
+                throw new RuntimeException(ie);
+            }
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        });
+
+        Thread.sleep(100);
+        ResultCredits.grant(channel, grant(1));
+        assertThat(waited.get(10, TimeUnit.SECONDS) < 10000, is(true));
+        assertThat(context.hasCredit(), is(true));
+    }
+
+    private Context context(final RequestMessage msg) {
+        return new Context(msg, channel.pipeline().firstContext(), new Settings(), null, null, null);
+    }
+
+    private RequestMessage request(final int credits) {
+        return RequestMessage.build(Tokens.OPS_EVAL).overrideRequestId(requestId)
+                .addArg(Tokens.ARGS_CREDITS, credits).create();
+    }
+
+    private RequestMessage grant(final int credits) {
+        return RequestMessage.build(Tokens.OPS_CREDIT).overrideRequestId(requestId)
+                .addArg(Tokens.ARGS_CREDITS, credits).create();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.handler;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.tinkerpop.gremlin.server.Context;
+import org.apache.tinkerpop.gremlin.server.Settings;
+import org.apache.tinkerpop.gremlin.util.message.RequestMessage;
+import org.apache.tinkerpop.gremlin.util.message.ResponseStatusCode;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+public class WritabilityHandlerTest {
+
+    @Test
+    public void shouldWakeWhenChannelBecomesWritable() throws Exception {
+        final EmbeddedChannel channel = new EmbeddedChannel(new WritabilityHandler());
+        channel.config().setWriteBufferWaterMark(new WriteBufferWaterMark(8, 16));
+        channel.write(Unpooled.wrappedBuffer(new byte[32]));
+        assertThat(channel.isWritable(), is(false));
+
+        final CountDownLatch waiting = new CountDownLatch(1);
+        final CompletableFuture<Long> waited = CompletableFuture.supplyAsync(() -> {
+            final long start = System.nanoTime();
+            waiting.countDown();
+            try {
+                WritabilityHandler.await(channel, channel::isWritable, 30000);
+            } catch (InterruptedException ex) {
+                throw new RuntimeException(ex);
+            }
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        });
+
+        waiting.await();
+        channel.flush();
+        assertThat(channel.isWritable(), is(true));
+        assertThat(waited.get(10, TimeUnit.SECONDS) < 10000, is(true));
+
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void shouldPollWithoutHandler() throws Exception {
+        final EmbeddedChannel channel = new EmbeddedChannel();
+        final long start = System.nanoTime();
+        WritabilityHandler.await(channel, () -> false, 30000);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 10000, is(true));
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void shouldLimitBytesInFlightPerRequest() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new WritabilityHandler());
+        final Settings settings = new Settings();
+        settings.maxInFlightBytesPerRequest = 16;
+        final Context context = new Context(RequestMessage.build("eval").create(),
+                channel.pipeline().firstContext(), settings, null, null, null);
+
+        assertThat(context.isWritable(), is(true));
+        context.write(ResponseStatusCode.PARTIAL_CONTENT, new Frame(Unpooled.wrappedBuffer(new byte[32])));
+        assertThat(context.getInFlightBytes(), is(32L));
+        assertThat(context.isWritable(), is(false));
+
+        context.flush();
+        assertThat(context.getInFlightBytes(), is(0L));
+        assertThat(context.isWritable(), is(true));
+
+        channel.outboundMessages().forEach(m -> ((Frame) m).tryRelease());
+        channel.finishAndReleaseAll();
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.util;
+
+import org.apache.tinkerpop.gremlin.jsr223.JavaTranslator;
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.Scope;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.server.GraphManager;
+import org.apache.tinkerpop.gremlin.server.Settings;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.AnonymousTraversalSource.traversal;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertEquals;
+
+public class ResultCacheTest {
+
+    private final GraphTraversalSource g = TinkerFactory.createModern().traversal();
+
+    @Test
+    public void shouldNotCacheWhenDisabled() {
+        final ResultCache cache = new ResultCache(0, 0);
+        final Bytecode bytecode = EmptyGraph.instance().traversal().V().values("age").asAdmin().getBytecode();
+
+        assertThat(cache.isEnabled(), is(false));
+        assertThat(cache.isCacheable(bytecode), is(false));
+        assertThat(cache.get("g", g, bytecode).isPresent(), is(false));
+        assertEquals(0, cache.getHitCount());
+    }
+
+    @Test
+    public void shouldCacheResultsOnceIterated() {
+        final ResultCache cache = new ResultCache(100, 0);
+        final Bytecode bytecode = EmptyGraph.instance().traversal().V().has("name", "marko").values("age").asAdmin().getBytecode();
+        assertThat(cache.get("g", g, bytecode).isPresent(), is(false));
+
+        final Iterator<Object> itty = record(cache, bytecode);
+        assertThat(itty.hasNext(), is(true));
+        assertEquals(29, itty.next());
+        assertThat(cache.get("g", g, bytecode).isPresent(), is(false));
+        assertThat(itty.hasNext(), is(false));
+
+        // an equal bytecode constructed separately should find the same entry
+        final Bytecode other = EmptyGraph.instance().traversal().V().has("name", "marko").values("age").asAdmin().getBytecode();
+        assertEquals(Collections.singletonList(29), cache.get("g", g, other).get());
+        assertThat(cache.get("h", g, other).isPresent(), is(false));
+        assertThat(cache.get("g", traversal().withEmbedded(g.getGraph()), other).isPresent(), is(false));
+
+        assertEquals(2, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+    }
+
+    @Test
+    public void shouldNotCacheMoreResultsThanMaxSize() {
+        final ResultCache cache = new ResultCache(3, 0);
+        final Bytecode bytecode = EmptyGraph.instance().traversal().V().id().asAdmin().getBytecode();
+
+        assertEquals(6, IteratorUtils.count(record(cache, bytecode)));
+        assertThat(cache.get("g", g, bytecode).isPresent(), is(false));
+    }
+
+    @Test
+    public void shouldOnlyCacheReadOnlyDeterministicTraversals() {
+        final ResultCache cache = new ResultCache(100, 0);
+        assertThat(cache.isCacheable(compile(EmptyGraph.instance().traversal().V().out().count().asAdmin().getBytecode())), is(true));
+        assertThat(cache.isCacheable(compile(EmptyGraph.instance().traversal().V().property("x", 1).asAdmin().getBytecode())), is(false));
+        assertThat(cache.isCacheable(compile(EmptyGraph.instance().traversal().V().out().coin(0.5).asAdmin().getBytecode())), is(false));
+        assertThat(cache.isCacheable(compile(EmptyGraph.instance().traversal().V().local(__.sample(1)).asAdmin().getBytecode())), is(false));
+        assertThat(cache.isCacheable(compile(EmptyGraph.instance().traversal().V().out().timeLimit(10).asAdmin().getBytecode())), is(false));
+        assertThat(cache.isCacheable(compile(EmptyGraph.instance().traversal().V().order().by(Order.shuffle).asAdmin().getBytecode())), is(false));
+        assertThat(cache.isCacheable(compile(EmptyGraph.instance().traversal().V().values("name").fold().order(Scope.local).by(Order.shuffle).asAdmin().getBytecode())), is(false));
+        assertThat(cache.isCacheable(compile(EmptyGraph.instance().traversal().V().local(__.out().order().by("name", Order.shuffle)).asAdmin().getBytecode())), is(false));
+        assertThat(cache.isCacheable(compile(EmptyGraph.instance().traversal().V().order().by("name", Order.desc).asAdmin().getBytecode())), is(true));
+        assertThat(cache.isCacheable(EmptyGraph.instance().traversal().V().asAdmin().getBytecode()), is(true));
+    }
+
+    @Test
+    public void shouldInvalidateEntriesForGraph() {
+        final GraphTraversalSource other = TinkerFactory.createModern().traversal();
+        final ResultCache cache = new ResultCache(100, 0);
+        final Bytecode bytecode = EmptyGraph.instance().traversal().V().count().asAdmin().getBytecode();
+        IteratorUtils.count(record(cache, bytecode));
+        IteratorUtils.count(cache.record("other", other, bytecode, cache.generation(other.getGraph()),
+                new TraverserIterator(compile(other, bytecode))));
+        assertEquals(2, cache.getEstimatedSize());
+
+        cache.invalidate(g.getGraph());
+        assertThat(cache.get("g", g, bytecode).isPresent(), is(false));
+        assertThat(cache.get("other", other, bytecode).isPresent(), is(true));
+        assertEquals(1, cache.getInvalidationCount());
+    }
+
+    @Test
+    public void shouldNotCacheResultsReadBeforeInvalidation() {
+        final ResultCache cache = new ResultCache(100, 0);
+        final Bytecode bytecode = EmptyGraph.instance().traversal().V().count().asAdmin().getBytecode();
+        final Iterator<Object> itty = record(cache, bytecode);
+        itty.next();
+
+        cache.invalidate(g.getGraph());
+        assertThat(itty.hasNext(), is(false));
+        assertThat(cache.get("g", g, bytecode).isPresent(), is(false));
+
+        IteratorUtils.count(record(cache, bytecode));
+        assertThat(cache.get("g", g, bytecode).isPresent(), is(true));
+    }
+
+    @Test
+    public void shouldInvalidateAll() {
+        final ResultCache cache = new ResultCache(100, 0);
+        for (String name : Arrays.asList("marko", "josh", "peter")) {
+            IteratorUtils.count(record(cache, EmptyGraph.instance().traversal().V().has("name", name).asAdmin().getBytecode()));
+        }
+        assertEquals(3, cache.getEstimatedSize());
+
+        cache.invalidateAll();
+        final List<Object> cached = cache.get("g", g,
+                EmptyGraph.instance().traversal().V().has("name", "marko").asAdmin().getBytecode()).orElse(null);
+        assertEquals(null, cached);
+    }
+
+    @Test
+    public void shouldInvalidateWhenGraphManagerReportsChange() {
+        final GraphManager graphManager = new DefaultGraphManager(new Settings());
+        final ResultCache cache = new ResultCache(100, 0);
+        assertThat(cache.listenTo(graphManager), is(true));
+        assertThat(cache.listenTo(graphManager), is(true));
+
+        final Bytecode bytecode = EmptyGraph.instance().traversal().V().count().asAdmin().getBytecode();
+        IteratorUtils.count(record(cache, bytecode));
+        assertThat(cache.get("g", g, bytecode).isPresent(), is(true));
+
+        graphManager.onGraphChange(g.getGraph());
+        assertThat(cache.get("g", g, bytecode).isPresent(), is(false));
+
+        // listening twice to the same manager should not invalidate twice
+        assertEquals(1, cache.getInvalidationCount());
+    }
+
+    @Test
+    public void shouldDisableWhenGraphManagerDoesNotReportChanges() {
+        final GraphManager graphManager = new DefaultGraphManager(new Settings()) {
+            @Override
+            public boolean addGraphChangeListener(final Consumer<Graph> listener) {
+                return false;
+            }
+        };
+        final ResultCache cache = new ResultCache(100, 0);
+        assertThat(cache.listenTo(graphManager), is(false));
+        assertThat(cache.isEnabled(), is(false));
+        assertThat(cache.isCacheable(EmptyGraph.instance().traversal().V().count().asAdmin().getBytecode()), is(false));
+    }
+
+    private Iterator<Object> record(final ResultCache cache, final Bytecode bytecode) {
+        return cache.record("g", g, bytecode, cache.generation(g.getGraph()), IteratorUtils.map(compile(bytecode), o -> o));
+    }
+
+    private Traversal.Admin<?, ?> compile(final Bytecode bytecode) {
+        return compile(g, bytecode);
+    }
+
+    private static Traversal.Admin<?, ?> compile(final GraphTraversalSource g, final Bytecode bytecode) {
+        final Traversal.Admin<?, ?> traversal = JavaTranslator.of(g).translate(bytecode);
+        traversal.applyStrategies();
+        return traversal;
+    }
+}
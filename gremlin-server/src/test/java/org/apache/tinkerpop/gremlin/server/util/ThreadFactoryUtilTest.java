@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.util;
+
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadFactory;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.StringStartsWith.startsWith;
+
+public class ThreadFactoryUtilTest {
+
+    @Test
+    public void shouldNamePlatformThreads() {
+        final Thread t = ThreadFactoryUtil.create("exec-%d").newThread(() -> {});
+        assertThat(t.getName(), is("gremlin-server-exec-1"));
+    }
+
+    @Test
+    public void shouldOnlyCreateVirtualThreadsWhenSupported() throws Exception {
+        final boolean supported = isVirtualThreadSupported();
+        final Optional<ThreadFactory> factory = ThreadFactoryUtil.createVirtual("exec-");
+        assertThat(factory.isPresent(), is(supported));
+
+        if (supported) {
+            final Thread t = factory.get().newThread(() -> {});
+            assertThat(t.getName(), startsWith("gremlin-server-exec-"));
+            assertThat(Thread.class.getMethod("isVirtual").invoke(t), is(true));
+        }
+    }
+
+    private static boolean isVirtualThreadSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual").invoke(null);
+            return true;
+        } catch (Exception ex) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.util;
+
+import org.apache.tinkerpop.gremlin.jsr223.JavaTranslator;
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import org.apache.tinkerpop.gremlin.util.function.Lambda;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.AnonymousTraversalSource.traversal;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertEquals;
+
+public class TraversalCacheTest {
+
+    private final GraphTraversalSource g = TinkerFactory.createModern().traversal();
+
+    @Test
+    public void shouldNotCacheWhenDisabled() {
+        final TraversalCache cache = new TraversalCache(0, 0);
+        final Bytecode bytecode = EmptyGraph.instance().traversal().V().has("name", "marko").values("age").asAdmin().getBytecode();
+        cache.put("g", g, bytecode, compile(bytecode));
+
+        assertThat(cache.isEnabled(), is(false));
+        assertThat(cache.get("g", g, bytecode).isPresent(), is(false));
+        assertEquals(0, cache.getEstimatedSize());
+        assertEquals(0, cache.getHitCount());
+    }
+
+    @Test
+    public void shouldReturnIndependentClonesOfCachedTraversal() {
+        final TraversalCache cache = new TraversalCache(10, 0);
+        final Bytecode bytecode = EmptyGraph.instance().traversal().V().has("name", "marko").values("age").asAdmin().getBytecode();
+        assertThat(cache.get("g", g, bytecode).isPresent(), is(false));
+
+        final Traversal.Admin<?, ?> traversal = compile(bytecode);
+        cache.put("g", g, bytecode, traversal);
+        assertEquals(Collections.singletonList(29), IteratorUtils.list(traversal));
+
+        final Traversal.Admin<?, ?> first = cache.get("g", g, bytecode).get();
+        final Traversal.Admin<?, ?> second = cache.get("g", g, bytecode).get();
+        assertThat(first.isLocked(), is(true));
+        assertEquals(Collections.singletonList(29), IteratorUtils.list(first));
+        assertEquals(Collections.singletonList(29), IteratorUtils.list(second));
+
+        // an equal bytecode constructed separately should find the same entry
+        final Bytecode other = EmptyGraph.instance().traversal().V().has("name", "marko").values("age").asAdmin().getBytecode();
+        assertThat(cache.get("g", g, other).isPresent(), is(true));
+
+        assertEquals(1, cache.getEstimatedSize());
+        assertEquals(3, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void shouldMissForDifferentArguments() {
+        final TraversalCache cache = new TraversalCache(10, 0);
+        final Bytecode marko = EmptyGraph.instance().traversal().V().has("name", "marko").values("age").asAdmin().getBytecode();
+        final Bytecode josh = EmptyGraph.instance().traversal().V().has("name", "josh").values("age").asAdmin().getBytecode();
+        cache.put("g", g, marko, compile(marko));
+
+        assertThat(cache.get("g", g, josh).isPresent(), is(false));
+        cache.put("g", g, josh, compile(josh));
+        assertEquals(Collections.singletonList(32), IteratorUtils.list(cache.get("g", g, josh).get()));
+        assertEquals(Collections.singletonList(29), IteratorUtils.list(cache.get("g", g, marko).get()));
+    }
+
+    @Test
+    public void shouldMissForDifferentTraversalSource() {
+        final TraversalCache cache = new TraversalCache(10, 0);
+        final Bytecode bytecode = EmptyGraph.instance().traversal().V().count().asAdmin().getBytecode();
+        cache.put("g", g, bytecode, compile(bytecode));
+
+        assertThat(cache.get("g", traversal().withEmbedded(g.getGraph()), bytecode).isPresent(), is(false));
+        assertThat(cache.get("h", g, bytecode).isPresent(), is(false));
+        assertThat(cache.get("g", g, bytecode).isPresent(), is(true));
+    }
+
+    @Test
+    public void shouldReflectChangesToTheGraphAfterCaching() {
+        final GraphTraversalSource g = TinkerFactory.createModern().traversal();
+        final TraversalCache cache = new TraversalCache(10, 0);
+        final Bytecode bytecode = EmptyGraph.instance().traversal().V().hasLabel("person").values("name").asAdmin().getBytecode();
+        cache.put("g", g, bytecode, compile(g, bytecode));
+
+        g.addV("person").property("name", "stephen").iterate();
+        assertEquals(5, IteratorUtils.count(cache.get("g", g, bytecode).get()));
+    }
+
+    @Test
+    public void shouldNotCacheTraversalsWithoutStrategiesApplied() {
+        final TraversalCache cache = new TraversalCache(10, 0);
+        final Bytecode bytecode = EmptyGraph.instance().traversal().V().count().asAdmin().getBytecode();
+        cache.put("g", g, bytecode, JavaTranslator.of(g).translate(bytecode));
+
+        assertThat(cache.get("g", g, bytecode).isPresent(), is(false));
+    }
+
+    @Test
+    public void shouldNotCacheLambdas() {
+        final TraversalCache cache = new TraversalCache(10, 0);
+        final Bytecode bytecode = EmptyGraph.instance().traversal().V().map(Lambda.function("it.get()")).asAdmin().getBytecode();
+
+        assertThat(cache.isCacheable(bytecode), is(false));
+        assertThat(cache.isCacheable(EmptyGraph.instance().traversal().V().asAdmin().getBytecode()), is(true));
+    }
+
+    @Test
+    public void shouldNotCacheBindings() {
+        final TraversalCache cache = new TraversalCache(10, 0);
+        final Bytecode bytecode = new Bytecode();
+        bytecode.addStep("V");
+        bytecode.addStep("has", "name", new Bytecode.Binding<>("n", "marko"));
+        bytecode.addStep("values", "age");
+        cache.put("g", g, bytecode, compile(bytecode));
+
+        assertThat(cache.isCacheable(bytecode), is(false));
+        assertThat(cache.get("g", g, bytecode).isPresent(), is(false));
+        assertEquals(0, cache.getEstimatedSize());
+
+        // bindings in child traversals count as well
+        final Bytecode child = new Bytecode();
+        child.addStep("has", "name", new Bytecode.Binding<>("n", "josh"));
+        final Bytecode parent = new Bytecode();
+        parent.addStep("V");
+        parent.addStep("where", child);
+        assertThat(cache.isCacheable(parent), is(false));
+    }
+
+    @Test
+    public void shouldNotShareSideEffectsAcrossRequests() {
+        final TraversalCache cache = new TraversalCache(10, 0);
+        final Bytecode bytecode = EmptyGraph.instance().traversal().withSideEffect("a", new ArrayList<>()).
+                V().aggregate("a").cap("a").asAdmin().getBytecode();
+        assertThat(cache.isCacheable(bytecode), is(false));
+
+        // run it twice the way the server does, which would add to the one list if the traversal was cached
+        for (int i = 0; i < 2; i++) {
+            final Traversal.Admin<?, ?> traversal = cache.get("g", g, bytecode).orElseGet(() -> {
+                final Traversal.Admin<?, ?> compiled = compile(bytecode);
+                cache.put("g", g, bytecode, compiled);
+                return compiled;
+            });
+            assertEquals(6, ((List<?>) traversal.next()).size());
+        }
+        assertEquals(0, cache.getEstimatedSize());
+
+        assertThat(cache.isCacheable(EmptyGraph.instance().traversal().withSack(1.0).V().sack().asAdmin().getBytecode()), is(false));
+    }
+
+    @Test
+    public void shouldInvalidateAll() {
+        final TraversalCache cache = new TraversalCache(10, 0);
+        for (String name : Arrays.asList("marko", "josh", "peter")) {
+            final Bytecode bytecode = EmptyGraph.instance().traversal().V().has("name", name).asAdmin().getBytecode();
+            cache.put("g", g, bytecode, compile(bytecode));
+        }
+        assertEquals(3, cache.getEstimatedSize());
+
+        cache.invalidateAll();
+        final Optional<Traversal.Admin<?, ?>> cached = cache.get("g", g,
+                EmptyGraph.instance().traversal().V().has("name", "marko").asAdmin().getBytecode());
+        assertThat(cached.isPresent(), is(false));
+    }
+
+    private Traversal.Admin<?, ?> compile(final Bytecode bytecode) {
+        return compile(g, bytecode);
+    }
+
+    private static Traversal.Admin<?, ?> compile(final GraphTraversalSource g, final Bytecode bytecode) {
+        final Traversal.Admin<?, ?> traversal = JavaTranslator.of(g).translate(bytecode);
+        traversal.applyStrategies();
+        return traversal;
+    }
+}
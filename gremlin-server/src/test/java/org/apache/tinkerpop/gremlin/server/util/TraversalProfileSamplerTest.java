@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.util;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ProfileStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.server.GremlinServer;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertEquals;
+
+public class TraversalProfileSamplerTest {
+
+    private final GraphTraversalSource g = TinkerFactory.createModern().traversal();
+
+    @After
+    public void tearDown() {
+        MetricManager.INSTANCE.removeAllMetrics();
+    }
+
+    @Test
+    public void shouldSampleAtRate() {
+        assertThat(TraversalProfileSampler.sample(0.0), is(false));
+        assertThat(TraversalProfileSampler.sample(1.0), is(true));
+    }
+
+    @Test
+    public void shouldRecordStepHistogramsByShape() {
+        final Traversal.Admin<?, ?> traversal = g.V().has("name", "marko").out("knows").values("name").asAdmin();
+        TraversalProfileSampler.instrument(traversal);
+        traversal.applyStrategies();
+
+        final List<Object> names = IteratorUtils.list(IteratorUtils.map(
+                TraversalProfileSampler.record(traversal, new TraverserIterator(traversal), 100), t -> ((Traverser<?>) t).get()));
+        assertThat(names.size(), is(2));
+        assertThat(names.containsAll(Arrays.asList("josh", "vadas")), is(true));
+
+        final String shape = "TinkerGraphStep-VertexStep-PropertiesStep";
+        final Histogram traversers = MetricManager.INSTANCE.getHistogram(name(shape, "VertexStep", "traversers"));
+        assertEquals(1, traversers.getCount());
+        assertEquals(2, traversers.getSnapshot().getMax());
+        assertEquals(1, MetricManager.INSTANCE.getHistogram(name(shape, "TinkerGraphStep", "latency")).getCount());
+        assertEquals(1, MetricManager.INSTANCE.getHistogram(name(shape, "PropertiesStep", "latency")).getCount());
+        assertEquals(1, MetricManager.INSTANCE.getHistogram(name(shape, "latency")).getCount());
+    }
+
+    @Test
+    public void shouldRemoveHistogramsOfLeastRecentlyRecordedShape() {
+        record(g.V().asAdmin(), 2);
+        record(g.V().out().asAdmin(), 2);
+        record(g.V().asAdmin(), 2);
+        record(g.V().values("name").asAdmin(), 2);
+
+        final String evicted = "TinkerGraphStep-VertexStep";
+        assertThat(MetricManager.INSTANCE.contains(name(evicted, "latency")), is(false));
+        assertThat(MetricManager.INSTANCE.contains(name(evicted, "VertexStep", "latency")), is(false));
+        assertThat(MetricManager.INSTANCE.contains(name(evicted, "TinkerGraphStep", "traversers")), is(false));
+        assertEquals(2, MetricManager.INSTANCE.getHistogram(name("TinkerGraphStep", "latency")).getCount());
+        assertEquals(1, MetricManager.INSTANCE.getHistogram(name("TinkerGraphStep-PropertiesStep", "latency")).getCount());
+    }
+
+    @Test
+    public void shouldNotInstrumentProfiledTraversal() {
+        final Traversal.Admin<?, ?> traversal = g.V().out().profile().asAdmin();
+        TraversalProfileSampler.instrument(traversal);
+        traversal.applyStrategies();
+
+        // only the ProfileSteps of profile() itself should be present
+        assertEquals(2, TraversalHelper.getStepsOfClass(ProfileStep.class, traversal).size());
+    }
+
+    @Test
+    public void shouldNotInstrumentChildTraversals() {
+        final Traversal.Admin<?, ?> traversal = g.V().where(__.out()).count().asAdmin();
+        TraversalProfileSampler.instrument(traversal);
+        traversal.applyStrategies();
+
+        assertEquals(traversal.getSteps().size() / 2, TraversalHelper.getStepsOfClass(ProfileStep.class, traversal).size());
+        assertEquals(traversal.getSteps().size() / 2, TraversalHelper.getStepsOfAssignableClassRecursively(ProfileStep.class, traversal).size());
+        assertEquals(Collections.singletonList(3L), IteratorUtils.list(traversal));
+    }
+
+    private static void record(final Traversal.Admin<?, ?> traversal, final int maxShapes) {
+        TraversalProfileSampler.instrument(traversal);
+        traversal.applyStrategies();
+        IteratorUtils.iterate(TraversalProfileSampler.record(traversal, new TraverserIterator(traversal), maxShapes));
+    }
+
+    private static String name(final String... names) {
+        final String[] all = new String[names.length + 2];
+        all[0] = "traversal";
+        all[1] = "profile";
+        System.arraycopy(names, 0, all, 2, names.length);
+        return MetricRegistry.name(GremlinServer.class, all);
+    }
+}
@@ -40,6 +40,8 @@ import java.io.IOException;
 import java.math.BigInteger;
 import java.net.InetAddress;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -62,6 +64,11 @@ public class GraphBinaryReaderWriterBenchmark extends AbstractBenchmarkBase {
 
         public Bytecode bytecode2;
 
+        public final List<String> strings = new ArrayList<>();
+        public final List<String> multiByteStrings = new ArrayList<>();
+        public Buffer stringsBuffer = bufferFactory.create(allocator.buffer(65536));
+        public Buffer multiByteStringsBuffer = bufferFactory.create(allocator.buffer(65536));
+
         @Setup(Level.Trial)
         public void doSetup() throws IOException {
             bytecode1.addStep("V");
@@ -83,6 +90,13 @@ public class GraphBinaryReaderWriterBenchmark extends AbstractBenchmarkBase {
             writer.writeValue(bytecode1, bytecodeBuffer1, false);
             writer.writeValue(bytecode2, bytecodeBuffer2, false);
             writer.writeValue(P.between(1, 2), pBuffer1, false);
+
+            for (int i = 0; i < 1000; i++) {
+                strings.add("name-" + i + "-kjlkdnvlkdrnvldnvndlrkvnlhkjdkgkrtnlkndblknl");
+                multiByteStrings.add("\u540d\u524d-" + i + "-\u00e9\u00e8\u00ea-\u20ac\u20ac\u20ac");
+            }
+            writer.write(strings, stringsBuffer);
+            writer.write(multiByteStrings, multiByteStringsBuffer);
         }
 
         @Setup(Level.Invocation)
@@ -90,6 +104,8 @@ public class GraphBinaryReaderWriterBenchmark extends AbstractBenchmarkBase {
             bytecodeBuffer1.readerIndex(0);
             bytecodeBuffer2.readerIndex(0);
             pBuffer1.readerIndex(0);
+            stringsBuffer.readerIndex(0);
+            multiByteStringsBuffer.readerIndex(0);
             bufferWrite.readerIndex(0);
             bufferWrite.writerIndex(0);
         }
@@ -98,6 +114,9 @@ public class GraphBinaryReaderWriterBenchmark extends AbstractBenchmarkBase {
         public void doTearDown() {
             bytecodeBuffer1.release();
             bytecodeBuffer2.release();
+            pBuffer1.release();
+            stringsBuffer.release();
+            multiByteStringsBuffer.release();
             bufferWrite.release();
         }
     }
@@ -112,6 +131,16 @@ public class GraphBinaryReaderWriterBenchmark extends AbstractBenchmarkBase {
         writer.writeValue(state.bytecode2, state.bufferWrite, false);
     }
 
+    @Benchmark
+    public void writeStrings(BenchmarkState state) throws IOException {
+        writer.write(state.strings, state.bufferWrite);
+    }
+
+    @Benchmark
+    public void writeMultiByteStrings(BenchmarkState state) throws IOException {
+        writer.write(state.multiByteStrings, state.bufferWrite);
+    }
+
     @Benchmark
     public void readBytecode1(BenchmarkState state) throws IOException {
         reader.readValue(state.bytecodeBuffer1, Bytecode.class, false);
@@ -126,4 +155,14 @@ public class GraphBinaryReaderWriterBenchmark extends AbstractBenchmarkBase {
     public void readP1(BenchmarkState state) throws IOException {
         reader.readValue(state.pBuffer1, P.class, false);
     }
+
+    @Benchmark
+    public void readStrings(BenchmarkState state) throws IOException {
+        reader.read(state.stringsBuffer);
+    }
+
+    @Benchmark
+    public void readMultiByteStrings(BenchmarkState state) throws IOException {
+        reader.read(state.multiByteStringsBuffer);
+    }
 }
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process;
+
+import org.apache.tinkerpop.benchmark.util.AbstractGraphBenchmark;
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.OrderLimitStrategy;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.List;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.outE;
+
+/**
+ * Compares {@code order().limit()} when {@link OrderLimitStrategy} lets the order step retain only the traversers
+ * within the limit against a full sort of all traversers over a {@link TinkerGraph} loaded with the Grateful Dead
+ * data set.
+ */
+@LoadGraphWith(LoadGraphWith.GraphData.GRATEFUL)
+public class OrderGlobalStepBenchmark extends AbstractGraphBenchmark {
+
+    private GraphTraversalSource gWithoutOrderLimit;
+
+    @Setup
+    public void prepareWithoutOrderLimit() {
+        gWithoutOrderLimit = g.withoutStrategies(OrderLimitStrategy.class);
+    }
+
+    @Benchmark
+    public List<Edge> g_E_order_byXweight_descX_limitX10X() {
+        return g.E().order().by("weight", Order.desc).limit(10).toList();
+    }
+
+    @Benchmark
+    public List<Edge> g_E_order_byXweight_descX_limitX10X_withoutOrderLimit() {
+        return gWithoutOrderLimit.E().order().by("weight", Order.desc).limit(10).toList();
+    }
+
+    @Benchmark
+    public List<Vertex> g_V_out_out_order_byXoutE_count_descX_limitX10X() {
+        return g.V().out().out().order().by(outE().count(), Order.desc).limit(10).toList();
+    }
+
+    @Benchmark
+    public List<Vertex> g_V_out_out_order_byXoutE_count_descX_limitX10X_withoutOrderLimit() {
+        return gWithoutOrderLimit.V().out().out().order().by(outE().count(), Order.desc).limit(10).toList();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process;
+
+import org.apache.tinkerpop.benchmark.util.AbstractGraphBenchmark;
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.B_O_Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.out;
+
+/**
+ * Measures the cost of {@link TraverserSet} bulking both directly, with and without a synchronized backing map, and
+ * through bulk-heavy traversals over a {@link TinkerGraph} loaded with the Grateful Dead data set.
+ */
+@LoadGraphWith(LoadGraphWith.GraphData.GRATEFUL)
+public class TraverserSetBenchmark extends AbstractGraphBenchmark {
+
+    /**
+     * Holds the traversers added by {@link #addAndDrain(TraverserState)}, which is the only benchmark that compares a
+     * synchronized backing map to an unsynchronized one, so that the traversal benchmarks are not run once for each.
+     */
+    @State(Scope.Thread)
+    public static class TraverserState {
+
+        @Param({"true", "false"})
+        public boolean synchronize;
+
+        private final List<Traverser.Admin<String>> traversers = new ArrayList<>();
+
+        @Setup(Level.Trial)
+        public void prepareTraversers() {
+            // many traversers over few distinct values so that most adds merge into an existing traverser
+            traversers.clear();
+            for (int i = 0; i < 10000; i++) {
+                traversers.add(new B_O_Traverser<>(String.valueOf(i % 100), 1L));
+            }
+        }
+    }
+
+    @Benchmark
+    public long addAndDrain(final TraverserState state) {
+        final TraverserSet<String> traverserSet = new TraverserSet<>(state.synchronize);
+        for (final Traverser.Admin<String> traverser : state.traversers) {
+            traverserSet.add(traverser.split());
+        }
+
+        long bulk = 0L;
+        while (!traverserSet.isEmpty()) {
+            bulk = bulk + traverserSet.remove().bulk();
+        }
+        return bulk;
+    }
+
+    @Benchmark
+    public Long g_V_repeatXoutX_timesX3X_count() {
+        return g.V().repeat(out()).times(3).count().next();
+    }
+
+    @Benchmark
+    public Long g_V_out_out_out_barrier_count() {
+        return g.V().out().barrier().out().barrier().out().barrier().count().next();
+    }
+}
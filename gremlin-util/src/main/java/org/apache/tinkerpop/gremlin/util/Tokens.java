@@ -37,6 +37,12 @@ public final class Tokens {
     public static final String OPS_INVALID = "invalid";
     public static final String OPS_CLOSE = "close";
 
+    /**
+     * The op of a message that grants more {@link #ARGS_CREDITS} to the request with the same identifier. The server
+     * does not respond to it.
+     */
+    public static final String OPS_CREDIT = "credit";
+
     /**
      * The key for the unique identifier of the request.
      */
@@ -54,6 +60,13 @@ public final class Tokens {
      */
     public static final String ARGS_BINDINGS = "bindings";
 
+    /**
+     * Argument name for the number of partial response messages the server may send for a request before it waits
+     * for the client to grant more with an {@link #OPS_CREDIT} message. When it is not present the server sends
+     * results as fast as the client can take them.
+     */
+    public static final String ARGS_CREDITS = "credits";
+
     /**
      * Argument name that allows definition of alias names for {@link Graph} and {@link TraversalSource} objects on
      * the remote system.
@@ -129,6 +129,7 @@ public class GraphBinaryMessageSerializerV1 extends AbstractMessageSerializer<Gr
         final TypeSerializerRegistry registry = builder.create();
         reader = new GraphBinaryReader(registry);
         writer = new GraphBinaryWriter(registry);
+        mapper = new GraphBinaryMapper(writer, reader);
 
         requestSerializer = new RequestMessageSerializer();
         responseSerializer = new ResponseMessageSerializer();
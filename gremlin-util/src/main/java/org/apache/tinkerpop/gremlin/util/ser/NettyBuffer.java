@@ -19,6 +19,7 @@
 package org.apache.tinkerpop.gremlin.util.ser;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import org.apache.tinkerpop.gremlin.structure.io.Buffer;
 
 import java.io.IOException;
@@ -211,6 +212,11 @@ final class NettyBuffer implements Buffer {
         return this;
     }
 
+    @Override
+    public int writeUtf8(final CharSequence value) {
+        return ByteBufUtil.writeUtf8(this.buffer, value);
+    }
+
     @Override
     public boolean release() {
         return this.buffer.release();
@@ -29,9 +29,11 @@ import org.junit.Test;
 
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
@@ -170,6 +172,20 @@ public class NettyBufferFactoryTest {
         assertEquals(1, wrapperBuffer.referenceCount());
     }
 
+    @Test
+    public void writeUtf8ShouldEncodeDirectlyIntoTheBuffer() {
+        final String value = "a\u00a3\u20ac\ud83d\ude00";
+        final Buffer buffer = factory.create(getRaw());
+        final int length = buffer.writeUtf8(value);
+        final byte[] expected = value.getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(expected.length, length);
+        assertEquals(expected.length, buffer.writerIndex());
+        final byte[] actual = new byte[length];
+        buffer.readBytes(actual);
+        assertArrayEquals(expected, actual);
+    }
+
     /** An incomplete implementation that allows testing */
     class FakeBuffer implements Buffer {
         private final ByteBuf buffer = getRaw();
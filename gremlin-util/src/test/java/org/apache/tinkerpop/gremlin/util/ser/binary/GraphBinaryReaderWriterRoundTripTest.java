@@ -162,6 +162,8 @@ public class GraphBinaryReaderWriterRoundTripTest {
 
         return Arrays.asList(
                 new Object[] {"String", "ABC", null},
+                new Object[] {"StringEmpty", "", null},
+                new Object[] {"StringMultiByte", "£ \u20ac \u4e2d\u6587 \ud83d\ude00", null},
                 new Object[] {"Char", '£', null},
 
                 // numerics
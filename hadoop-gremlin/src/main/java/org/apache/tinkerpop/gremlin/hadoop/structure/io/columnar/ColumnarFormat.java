@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.hadoop.structure.io.columnar;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.tinkerpop.gremlin.hadoop.structure.util.ConfUtil;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoMapper;
+import org.apache.tinkerpop.gremlin.structure.io.util.IoRegistryHelper;
+import org.apache.tinkerpop.shaded.kryo.Kryo;
+
+/**
+ * The layout shared by {@link ColumnarRecordWriter} and {@link ColumnarRecordReader}. A file starts with
+ * {@link #MAGIC}, a version byte and a random sync marker, followed by blocks of vertices. Each block starts with the
+ * sync marker, so that a reader can find the first block of its split, and then holds the length of the block header,
+ * the block header and the columns of the block. The header has the number of vertices, the vertex and edge labels
+ * used in the block and, for each column, its type, its property key and its length in bytes. A reader can therefore
+ * decide from the header alone which columns it needs and skip the rest, or the entire block, without decoding them.
+ * Values are written with Gryo.
+ */
+final class ColumnarFormat {
+
+    static final byte[] MAGIC = {'T', 'P', 'C', 'O', 'L'};
+    static final byte VERSION = 1;
+    static final int SYNC_SIZE = 16;
+    static final int HEADER_SIZE = MAGIC.length + 1 + SYNC_SIZE;
+
+    private ColumnarFormat() {
+    }
+
+    /**
+     * The columns of a block, in the order in which they are written.
+     */
+    enum ColumnType {
+        /**
+         * One id per vertex.
+         */
+        ID,
+        /**
+         * One index into the vertex labels of the block per vertex.
+         */
+        LABEL,
+        /**
+         * For each vertex, the number of its outgoing edges followed by the label index, id and adjacent vertex id
+         * of each of them.
+         */
+        OUT_EDGES,
+        /**
+         * Like {@link #OUT_EDGES} for the incoming edges.
+         */
+        IN_EDGES,
+        /**
+         * For each vertex, the number of its properties with the key of the column followed by the id, value and
+         * meta-properties of each of them.
+         */
+        VERTEX_PROPERTY,
+        /**
+         * For each outgoing edge of the block, whether it has the key of the column followed by the value if it does.
+         */
+        OUT_EDGE_PROPERTY,
+        /**
+         * Like {@link #OUT_EDGE_PROPERTY} for the incoming edges.
+         */
+        IN_EDGE_PROPERTY
+    }
+
+    static Kryo createKryo(final Configuration configuration) {
+        return GryoMapper.build().addRegistries(IoRegistryHelper.createRegistries(ConfUtil.makeApacheConfiguration(configuration))).create().createMapper();
+    }
+}
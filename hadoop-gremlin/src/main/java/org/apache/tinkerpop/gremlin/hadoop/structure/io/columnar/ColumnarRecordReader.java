@@ -0,0 +1,490 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.hadoop.structure.io.columnar;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.NullWritable;
+import org.apache.hadoop.io.compress.CompressionCodecFactory;
+import org.apache.hadoop.mapreduce.InputSplit;
+import org.apache.hadoop.mapreduce.RecordReader;
+import org.apache.hadoop.mapreduce.TaskAttemptContext;
+import org.apache.hadoop.mapreduce.lib.input.FileSplit;
+import org.apache.tinkerpop.gremlin.hadoop.Constants;
+import org.apache.tinkerpop.gremlin.hadoop.structure.io.VertexWritable;
+import org.apache.tinkerpop.gremlin.hadoop.structure.io.columnar.ColumnarFormat.ColumnType;
+import org.apache.tinkerpop.gremlin.hadoop.structure.util.ConfUtil;
+import org.apache.tinkerpop.gremlin.process.computer.GraphFilter;
+import org.apache.tinkerpop.gremlin.process.computer.util.VertexProgramHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.structure.util.star.StarGraph;
+import org.apache.tinkerpop.shaded.kryo.Kryo;
+import org.apache.tinkerpop.shaded.kryo.io.Input;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Reads the blocks of a file written by {@link ColumnarRecordWriter} that start within its split. Only the columns
+ * that are needed are read from the file and decoded:
+ * <ul>
+ *     <li>the adjacency and edge property columns of a direction are skipped if the {@link GraphFilter} does not
+ *     allow edges in that direction,</li>
+ *     <li>property columns are skipped if their key is not listed in
+ *     {@link #GREMLIN_HADOOP_COLUMNAR_VERTEX_PROPERTIES} or {@link #GREMLIN_HADOOP_COLUMNAR_EDGE_PROPERTIES},
+ *     unless the {@link GraphFilter} needs them to decide which vertices or edges are legal,</li>
+ *     <li>and whole blocks are skipped if the vertex filter of the {@link GraphFilter} only tests the vertex label and
+ *     no label of the block passes it.</li>
+ * </ul>
+ */
+public final class ColumnarRecordReader extends RecordReader<NullWritable, VertexWritable> {
+
+    /**
+     * A comma separated list of the vertex property keys to read. All keys are read if it is not set and none if it
+     * is empty.
+     */
+    public static final String GREMLIN_HADOOP_COLUMNAR_VERTEX_PROPERTIES = "gremlin.hadoop.columnarInputFormat.vertexProperties";
+
+    /**
+     * A comma separated list of the edge property keys to read. All keys are read if it is not set and none if it is
+     * empty.
+     */
+    public static final String GREMLIN_HADOOP_COLUMNAR_EDGE_PROPERTIES = "gremlin.hadoop.columnarInputFormat.edgeProperties";
+
+    private static final ColumnType[] COLUMN_TYPES = ColumnType.values();
+
+    private FSDataInputStream inputStream;
+    private Kryo kryo;
+    private final VertexWritable vertexWritable = new VertexWritable();
+
+    private GraphFilter graphFilter = new GraphFilter();
+    private List<HasContainer> labelFilter = null;
+    private Set<String> vertexPropertyKeys = null;
+    private Set<String> edgePropertyKeys = null;
+
+    private byte[] sync;
+    private long start;
+    private long end;
+    private long fileLength;
+    private long nextBlock = -1;
+    private Block block = null;
+
+    public ColumnarRecordReader() {
+
+    }
+
+    @Override
+    public void initialize(final InputSplit genericSplit, final TaskAttemptContext context) throws IOException {
+        final FileSplit split = (FileSplit) genericSplit;
+        final Configuration configuration = context.getConfiguration();
+        if (configuration.get(Constants.GREMLIN_HADOOP_GRAPH_FILTER, null) != null)
+            this.graphFilter = VertexProgramHelper.deserialize(ConfUtil.makeApacheConfiguration(configuration), Constants.GREMLIN_HADOOP_GRAPH_FILTER);
+        this.kryo = ColumnarFormat.createKryo(configuration);
+        if (null != configuration.get(GREMLIN_HADOOP_COLUMNAR_VERTEX_PROPERTIES))
+            this.vertexPropertyKeys = new HashSet<>(configuration.getTrimmedStringCollection(GREMLIN_HADOOP_COLUMNAR_VERTEX_PROPERTIES));
+        if (null != configuration.get(GREMLIN_HADOOP_COLUMNAR_EDGE_PROPERTIES))
+            this.edgePropertyKeys = new HashSet<>(configuration.getTrimmedStringCollection(GREMLIN_HADOOP_COLUMNAR_EDGE_PROPERTIES));
+        this.labelFilter = getLabelFilter(this.graphFilter);
+        // there is no telling which properties any other vertex filter will look at
+        if (this.graphFilter.hasVertexFilter() && null == this.labelFilter)
+            this.vertexPropertyKeys = null;
+
+        final Path file = split.getPath();
+        if (null != new CompressionCodecFactory(configuration).getCodec(file)) {
+            throw new IllegalStateException("Compression is not supported for the (binary) columnar format");
+        }
+        final FileSystem fileSystem = file.getFileSystem(configuration);
+        this.inputStream = fileSystem.open(file);
+        this.fileLength = fileSystem.getFileStatus(file).getLen();
+        this.start = split.getStart();
+        this.end = Math.min(split.getStart() + split.getLength(), this.fileLength);
+        if (this.fileLength < ColumnarFormat.HEADER_SIZE)
+            return;
+
+        final byte[] magic = new byte[ColumnarFormat.MAGIC.length];
+        this.inputStream.readFully(0, magic);
+        if (!Arrays.equals(ColumnarFormat.MAGIC, magic))
+            throw new IOException("The file is not in the columnar format: " + file);
+        this.inputStream.seek(magic.length);
+        final byte version = this.inputStream.readByte();
+        if (ColumnarFormat.VERSION != version)
+            throw new IOException("The columnar format version " + version + " is not supported: " + file);
+        this.sync = new byte[ColumnarFormat.SYNC_SIZE];
+        this.inputStream.readFully(this.sync);
+        this.nextBlock = this.seekToSync(Math.max(this.start, ColumnarFormat.HEADER_SIZE));
+    }
+
+    /**
+     * Finds the first sync marker that starts at or after {@code from} and before the end of the split.
+     *
+     * @return the position of the sync marker or -1 if there is none
+     */
+    private long seekToSync(final long from) throws IOException {
+        this.inputStream.seek(from);
+        final byte[] window = new byte[ColumnarFormat.SYNC_SIZE];
+        long position = from;
+        while (position + 1 - ColumnarFormat.SYNC_SIZE < this.end) {
+            final int currentByte = this.inputStream.read();
+            if (-1 == currentByte)
+                return -1;
+            window[(int) (position % ColumnarFormat.SYNC_SIZE)] = (byte) currentByte;
+            position++;
+            if (position - from >= ColumnarFormat.SYNC_SIZE && this.syncMatch(window, position))
+                return position - ColumnarFormat.SYNC_SIZE;
+        }
+        return -1;
+    }
+
+    private boolean syncMatch(final byte[] window, final long position) {
+        for (int i = 0; i < ColumnarFormat.SYNC_SIZE; i++) {
+            if (window[(int) ((position + i) % ColumnarFormat.SYNC_SIZE)] != this.sync[i])
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean nextKeyValue() throws IOException {
+        while (true) {
+            if (null != this.block && this.block.remaining > 0) {
+                final Optional<StarGraph.StarVertex> vertex = this.block.next();
+                if (vertex.isPresent()) {
+                    this.vertexWritable.set(vertex.get());
+                    return true;
+                }
+            } else if (!this.readBlock()) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Reads the header of the next block of the split along with the columns it needs, skipping any block that has
+     * no legal vertex.
+     */
+    private boolean readBlock() throws IOException {
+        this.block = null;
+        while (this.nextBlock >= 0 && this.nextBlock < this.end) {
+            final long blockStart = this.nextBlock;
+            final byte[] marker = new byte[ColumnarFormat.SYNC_SIZE];
+            this.inputStream.seek(blockStart);
+            this.inputStream.readFully(marker);
+            if (!Arrays.equals(this.sync, marker))
+                throw new IOException("Missing the sync marker of the block at " + blockStart);
+            final byte[] headerBytes = new byte[this.inputStream.readInt()];
+            this.inputStream.readFully(headerBytes);
+
+            final Input header = new Input(headerBytes);
+            final int vertexCount = header.readVarInt(true);
+            final String[] vertexLabels = readLabels(header);
+            final String[] edgeLabels = readLabels(header);
+            final boolean[] legalVertexLabels = this.getLegalVertexLabels(vertexLabels);
+            final Block block = null == legalVertexLabels || contains(legalVertexLabels) ?
+                    new Block(vertexCount, vertexLabels, legalVertexLabels, edgeLabels) : null;
+
+            final int columnCount = header.readVarInt(true);
+            long position = blockStart + ColumnarFormat.SYNC_SIZE + Integer.BYTES + headerBytes.length;
+            for (int i = 0; i < columnCount; i++) {
+                final ColumnType type = COLUMN_TYPES[header.readByte()];
+                final String key = header.readString();
+                final int length = header.readVarInt(true);
+                if (null != block && block.needs(type, key)) {
+                    final byte[] column = new byte[length];
+                    this.inputStream.readFully(position, column);
+                    block.add(type, key, new Input(column));
+                }
+                position = position + length;
+            }
+            this.nextBlock = position;
+            if (null != block) {
+                this.block = block;
+                return true;
+            }
+        }
+        this.nextBlock = -1;
+        return false;
+    }
+
+    private boolean[] getLegalVertexLabels(final String[] vertexLabels) {
+        if (null == this.labelFilter)
+            return null;
+        final boolean[] legal = new boolean[vertexLabels.length];
+        for (int i = 0; i < vertexLabels.length; i++) {
+            legal[i] = true;
+            for (final HasContainer hasContainer : this.labelFilter) {
+                if (!((P<Object>) hasContainer.getPredicate()).test(vertexLabels[i])) {
+                    legal[i] = false;
+                    break;
+                }
+            }
+        }
+        return legal;
+    }
+
+    /**
+     * Gets the {@link HasContainer}s of the vertex filter if it does nothing but test the vertex label.
+     */
+    private static List<HasContainer> getLabelFilter(final GraphFilter graphFilter) {
+        if (!graphFilter.hasVertexFilter())
+            return null;
+        final List<HasContainer> hasContainers = new ArrayList<>();
+        for (final Step<?, ?> step : graphFilter.getVertexFilter().getSteps()) {
+            if (!(step instanceof HasStep))
+                return null;
+            for (final HasContainer hasContainer : ((HasStep<?>) step).getHasContainers()) {
+                if (!T.label.getAccessor().equals(hasContainer.getKey()))
+                    return null;
+                hasContainers.add(hasContainer);
+            }
+        }
+        return hasContainers;
+    }
+
+    private static String[] readLabels(final Input header) {
+        final String[] labels = new String[header.readVarInt(true)];
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = header.readString();
+        }
+        return labels;
+    }
+
+    private static boolean contains(final boolean[] values) {
+        for (final boolean value : values) {
+            if (value)
+                return true;
+        }
+        return false;
+    }
+
+    @Override
+    public NullWritable getCurrentKey() {
+        return NullWritable.get();
+    }
+
+    @Override
+    public VertexWritable getCurrentValue() {
+        return this.vertexWritable;
+    }
+
+    @Override
+    public float getProgress() throws IOException {
+        if (this.end <= this.start || this.nextBlock < 0)
+            return 1.0f;
+        return Math.min(1.0f, Math.max(0.0f, (float) (this.nextBlock - this.start) / (float) (this.end - this.start)));
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        this.inputStream.close();
+        this.kryo = null;
+    }
+
+    /**
+     * The columns of a block that were read and the position of the next vertex within each of them.
+     */
+    private final class Block {
+        private int remaining;
+        private final String[] vertexLabels;
+        private final boolean[] legalVertexLabels;
+        private final String[] edgeLabels;
+        private final boolean[] legalOutEdgeLabels;
+        private final boolean[] legalInEdgeLabels;
+        private final boolean maybeOutEdges;
+        private final boolean maybeInEdges;
+
+        private Input ids;
+        private Input labels;
+        private Input outEdges;
+        private Input inEdges;
+        private final Map<String, Input> vertexProperties = new LinkedHashMap<>();
+        private final Map<String, Input> outEdgeProperties = new LinkedHashMap<>();
+        private final Map<String, Input> inEdgeProperties = new LinkedHashMap<>();
+
+        private Block(final int vertexCount, final String[] vertexLabels, final boolean[] legalVertexLabels, final String[] edgeLabels) {
+            this.remaining = vertexCount;
+            this.vertexLabels = vertexLabels;
+            this.legalVertexLabels = legalVertexLabels;
+            this.edgeLabels = edgeLabels;
+            this.legalOutEdgeLabels = new boolean[edgeLabels.length];
+            this.legalInEdgeLabels = new boolean[edgeLabels.length];
+            boolean maybeOutEdges = false;
+            boolean maybeInEdges = false;
+            for (int i = 0; i < edgeLabels.length; i++) {
+                final GraphFilter.Legal out = graphFilter.checkEdgeLegality(Direction.OUT, edgeLabels[i]);
+                final GraphFilter.Legal in = graphFilter.checkEdgeLegality(Direction.IN, edgeLabels[i]);
+                this.legalOutEdgeLabels[i] = out.positive();
+                this.legalInEdgeLabels[i] = in.positive();
+                maybeOutEdges = maybeOutEdges || GraphFilter.Legal.MAYBE == out;
+                maybeInEdges = maybeInEdges || GraphFilter.Legal.MAYBE == in;
+            }
+            // an edge that may be legal is only known to be legal once the edge filter has seen all its properties
+            this.maybeOutEdges = maybeOutEdges;
+            this.maybeInEdges = maybeInEdges;
+        }
+
+        private boolean needs(final ColumnType type, final String key) {
+            switch (type) {
+                case OUT_EDGES:
+                    return contains(this.legalOutEdgeLabels);
+                case IN_EDGES:
+                    return contains(this.legalInEdgeLabels);
+                case VERTEX_PROPERTY:
+                    return null == vertexPropertyKeys || vertexPropertyKeys.contains(key);
+                case OUT_EDGE_PROPERTY:
+                    return contains(this.legalOutEdgeLabels) && (this.maybeOutEdges || null == edgePropertyKeys || edgePropertyKeys.contains(key));
+                case IN_EDGE_PROPERTY:
+                    return contains(this.legalInEdgeLabels) && (this.maybeInEdges || null == edgePropertyKeys || edgePropertyKeys.contains(key));
+                default:
+                    return true;
+            }
+        }
+
+        private void add(final ColumnType type, final String key, final Input column) {
+            switch (type) {
+                case ID:
+                    this.ids = column;
+                    break;
+                case LABEL:
+                    this.labels = column;
+                    break;
+                case OUT_EDGES:
+                    this.outEdges = column;
+                    break;
+                case IN_EDGES:
+                    this.inEdges = column;
+                    break;
+                case VERTEX_PROPERTY:
+                    this.vertexProperties.put(key, column);
+                    break;
+                case OUT_EDGE_PROPERTY:
+                    this.outEdgeProperties.put(key, column);
+                    break;
+                case IN_EDGE_PROPERTY:
+                    this.inEdgeProperties.put(key, column);
+                    break;
+            }
+        }
+
+        /**
+         * Decodes the next vertex of the block. The columns of a vertex that is not legal are still read past, but no
+         * vertex is built from them.
+         */
+        private Optional<StarGraph.StarVertex> next() {
+            this.remaining--;
+            final Object id = kryo.readClassAndObject(this.ids);
+            final int label = this.labels.readVarInt(true);
+            final boolean legal = null == this.legalVertexLabels || this.legalVertexLabels[label];
+            final StarGraph starGraph = legal ? StarGraph.open() : null;
+            final StarGraph.StarVertex vertex = legal ? (StarGraph.StarVertex) starGraph.addVertex(T.id, id, T.label, this.vertexLabels[label]) : null;
+
+            for (final Map.Entry<String, Input> column : this.vertexProperties.entrySet()) {
+                this.readVertexProperties(vertex, column.getKey(), column.getValue());
+            }
+            Set<Object> selfLoops = null;
+            if (null != this.outEdges)
+                selfLoops = this.readEdges(starGraph, vertex, Direction.OUT, this.outEdges, this.legalOutEdgeLabels, this.outEdgeProperties, null);
+            if (null != this.inEdges)
+                this.readEdges(starGraph, vertex, Direction.IN, this.inEdges, this.legalInEdgeLabels, this.inEdgeProperties, selfLoops);
+
+            if (!legal)
+                return Optional.empty();
+            return graphFilter.hasFilter() ? starGraph.applyGraphFilter(graphFilter).map(StarGraph::getStarVertex) : Optional.of(vertex);
+        }
+
+        private void readVertexProperties(final StarGraph.StarVertex vertex, final String key, final Input column) {
+            final int count = column.readVarInt(true);
+            for (int i = 0; i < count; i++) {
+                final Object id = kryo.readClassAndObject(column);
+                final Object value = kryo.readClassAndObject(column);
+                final int metaPropertyCount = column.readVarInt(true);
+                final Object[] keyValues = new Object[2 + 2 * metaPropertyCount];
+                keyValues[0] = T.id;
+                keyValues[1] = id;
+                for (int j = 0; j < metaPropertyCount; j++) {
+                    keyValues[2 + 2 * j] = column.readString();
+                    keyValues[3 + 2 * j] = kryo.readClassAndObject(column);
+                }
+                if (null != vertex)
+                    vertex.property(VertexProperty.Cardinality.list, key, value, keyValues);
+            }
+        }
+
+        /**
+         * Reads the edges of a vertex in one direction. Adding an outgoing self-loop to a {@link StarGraph} also adds
+         * its incoming copy, so the ids of those self-loops are returned to skip them when reading the incoming edges.
+         */
+        private Set<Object> readEdges(final StarGraph starGraph, final StarGraph.StarVertex vertex, final Direction direction,
+                                      final Input adjacency, final boolean[] legalLabels, final Map<String, Input> edgeProperties,
+                                      final Set<Object> skippedSelfLoops) {
+            Set<Object> selfLoops = null;
+            final int count = adjacency.readVarInt(true);
+            for (int i = 0; i < count; i++) {
+                final int label = adjacency.readVarInt(true);
+                final Object id = kryo.readClassAndObject(adjacency);
+                final Object adjacentId = kryo.readClassAndObject(adjacency);
+                final List<Object> keyValues = null != vertex && legalLabels[label] ? new ArrayList<>() : null;
+                for (final Map.Entry<String, Input> column : edgeProperties.entrySet()) {
+                    if (column.getValue().readBoolean()) {
+                        final Object value = kryo.readClassAndObject(column.getValue());
+                        if (null != keyValues) {
+                            keyValues.add(column.getKey());
+                            keyValues.add(value);
+                        }
+                    }
+                }
+                if (null == keyValues)
+                    continue;
+
+                final boolean selfLoop = adjacentId.equals(vertex.id());
+                if (selfLoop && null != skippedSelfLoops && skippedSelfLoops.contains(id))
+                    continue;
+                keyValues.add(T.id);
+                keyValues.add(id);
+                final Vertex adjacentVertex = starGraph.addVertex(T.id, adjacentId);
+                if (Direction.OUT == direction) {
+                    vertex.addEdge(this.edgeLabels[label], adjacentVertex, keyValues.toArray());
+                    if (selfLoop) {
+                        if (null == selfLoops)
+                            selfLoops = new HashSet<>();
+                        selfLoops.add(id);
+                    }
+                } else {
+                    adjacentVertex.addEdge(this.edgeLabels[label], vertex, keyValues.toArray());
+                }
+            }
+            return selfLoops;
+        }
+    }
+}
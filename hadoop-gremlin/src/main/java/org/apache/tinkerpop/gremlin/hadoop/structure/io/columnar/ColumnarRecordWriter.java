@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.hadoop.structure.io.columnar;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.io.NullWritable;
+import org.apache.hadoop.mapreduce.RecordWriter;
+import org.apache.hadoop.mapreduce.TaskAttemptContext;
+import org.apache.tinkerpop.gremlin.hadoop.Constants;
+import org.apache.tinkerpop.gremlin.hadoop.structure.io.VertexWritable;
+import org.apache.tinkerpop.gremlin.hadoop.structure.io.columnar.ColumnarFormat.ColumnType;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.structure.util.star.StarGraph;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import org.apache.tinkerpop.shaded.kryo.Kryo;
+import org.apache.tinkerpop.shaded.kryo.io.Output;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Buffers the columns of a block of vertices and writes the block once it holds
+ * {@link #GREMLIN_HADOOP_COLUMNAR_VERTICES_PER_BLOCK} vertices. See {@link ColumnarFormat} for the layout.
+ */
+public final class ColumnarRecordWriter extends RecordWriter<NullWritable, VertexWritable> {
+
+    /**
+     * The number of vertices in each block, which defaults to 1024.
+     */
+    public static final String GREMLIN_HADOOP_COLUMNAR_VERTICES_PER_BLOCK = "gremlin.hadoop.columnarOutputFormat.verticesPerBlock";
+
+    private final DataOutputStream outputStream;
+    private final boolean hasEdges;
+    private final int verticesPerBlock;
+    private final byte[] sync;
+    private Kryo kryo;
+
+    private int vertexCount;
+    private int outEdgeCount;
+    private int inEdgeCount;
+    private Map<String, Integer> vertexLabels;
+    private Map<String, Integer> edgeLabels;
+    private Output ids;
+    private Output labels;
+    private Output outEdges;
+    private Output inEdges;
+    private Map<String, PropertyColumn> vertexProperties;
+    private Map<String, PropertyColumn> outEdgeProperties;
+    private Map<String, PropertyColumn> inEdgeProperties;
+
+    public ColumnarRecordWriter(final DataOutputStream outputStream, final Configuration configuration) throws IOException {
+        this.outputStream = outputStream;
+        this.hasEdges = configuration.getBoolean(Constants.GREMLIN_HADOOP_GRAPH_WRITER_HAS_EDGES, true);
+        this.verticesPerBlock = configuration.getInt(GREMLIN_HADOOP_COLUMNAR_VERTICES_PER_BLOCK, 1024);
+        if (this.verticesPerBlock < 1)
+            throw new IllegalArgumentException(GREMLIN_HADOOP_COLUMNAR_VERTICES_PER_BLOCK + " must be greater than zero: " + this.verticesPerBlock);
+        this.kryo = ColumnarFormat.createKryo(configuration);
+
+        final UUID uuid = UUID.randomUUID();
+        this.sync = ByteBuffer.allocate(ColumnarFormat.SYNC_SIZE).putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits()).array();
+        this.outputStream.write(ColumnarFormat.MAGIC);
+        this.outputStream.writeByte(ColumnarFormat.VERSION);
+        this.outputStream.write(this.sync);
+        this.startBlock();
+    }
+
+    @Override
+    public void write(final NullWritable key, final VertexWritable vertexWritable) throws IOException {
+        if (null != vertexWritable) {
+            final StarGraph.StarVertex vertex = vertexWritable.get();
+            this.kryo.writeClassAndObject(this.ids, vertex.id());
+            this.labels.writeVarInt(indexOf(this.vertexLabels, vertex.label()), true);
+            for (final String propertyKey : vertex.keys()) {
+                final PropertyColumn column = column(this.vertexProperties, propertyKey, this.vertexCount);
+                final List<VertexProperty<Object>> properties = IteratorUtils.list(vertex.properties(propertyKey));
+                column.output.writeVarInt(properties.size(), true);
+                for (final VertexProperty<Object> property : properties) {
+                    this.kryo.writeClassAndObject(column.output, property.id());
+                    this.kryo.writeClassAndObject(column.output, property.value());
+                    final List<Property<Object>> metaProperties = IteratorUtils.list(property.properties());
+                    column.output.writeVarInt(metaProperties.size(), true);
+                    for (final Property<Object> metaProperty : metaProperties) {
+                        column.output.writeString(metaProperty.key());
+                        this.kryo.writeClassAndObject(column.output, metaProperty.value());
+                    }
+                }
+                column.rows++;
+            }
+            if (this.hasEdges) {
+                this.outEdgeCount = this.writeEdges(vertex, Direction.OUT, this.outEdges, this.outEdgeProperties, this.outEdgeCount);
+                this.inEdgeCount = this.writeEdges(vertex, Direction.IN, this.inEdges, this.inEdgeProperties, this.inEdgeCount);
+            }
+            if (++this.vertexCount == this.verticesPerBlock)
+                this.writeBlock();
+        }
+    }
+
+    private int writeEdges(final StarGraph.StarVertex vertex, final Direction direction, final Output adjacency,
+                           final Map<String, PropertyColumn> edgeProperties, int edgeCount) {
+        final List<Edge> edges = IteratorUtils.list(vertex.edges(direction));
+        adjacency.writeVarInt(edges.size(), true);
+        for (final Edge edge : edges) {
+            adjacency.writeVarInt(indexOf(this.edgeLabels, edge.label()), true);
+            this.kryo.writeClassAndObject(adjacency, edge.id());
+            this.kryo.writeClassAndObject(adjacency, Direction.OUT == direction ? edge.inVertex().id() : edge.outVertex().id());
+            for (final String propertyKey : edge.keys()) {
+                final PropertyColumn column = column(edgeProperties, propertyKey, edgeCount);
+                column.output.writeBoolean(true);
+                this.kryo.writeClassAndObject(column.output, edge.value(propertyKey));
+                column.rows++;
+            }
+            edgeCount++;
+        }
+        return edgeCount;
+    }
+
+    private void writeBlock() throws IOException {
+        if (0 == this.vertexCount)
+            return;
+
+        final List<BlockColumn> columns = new ArrayList<>();
+        columns.add(new BlockColumn(ColumnType.ID, null, this.ids));
+        columns.add(new BlockColumn(ColumnType.LABEL, null, this.labels));
+        if (this.hasEdges) {
+            columns.add(new BlockColumn(ColumnType.OUT_EDGES, null, this.outEdges));
+            columns.add(new BlockColumn(ColumnType.IN_EDGES, null, this.inEdges));
+        }
+        addPropertyColumns(columns, this.vertexProperties, ColumnType.VERTEX_PROPERTY, this.vertexCount);
+        addPropertyColumns(columns, this.outEdgeProperties, ColumnType.OUT_EDGE_PROPERTY, this.outEdgeCount);
+        addPropertyColumns(columns, this.inEdgeProperties, ColumnType.IN_EDGE_PROPERTY, this.inEdgeCount);
+
+        final Output header = new Output(256, -1);
+        header.writeVarInt(this.vertexCount, true);
+        writeLabels(header, this.vertexLabels);
+        writeLabels(header, this.edgeLabels);
+        header.writeVarInt(columns.size(), true);
+        for (final BlockColumn column : columns) {
+            header.writeByte(column.type.ordinal());
+            header.writeString(column.key);
+            header.writeVarInt(column.output.position(), true);
+        }
+
+        this.outputStream.write(this.sync);
+        this.outputStream.writeInt(header.position());
+        this.outputStream.write(header.getBuffer(), 0, header.position());
+        for (final BlockColumn column : columns) {
+            this.outputStream.write(column.output.getBuffer(), 0, column.output.position());
+        }
+        this.startBlock();
+    }
+
+    private void startBlock() {
+        this.vertexCount = 0;
+        this.outEdgeCount = 0;
+        this.inEdgeCount = 0;
+        this.vertexLabels = new LinkedHashMap<>();
+        this.edgeLabels = new LinkedHashMap<>();
+        this.ids = new Output(4096, -1);
+        this.labels = new Output(1024, -1);
+        this.outEdges = new Output(4096, -1);
+        this.inEdges = new Output(4096, -1);
+        this.vertexProperties = new LinkedHashMap<>();
+        this.outEdgeProperties = new LinkedHashMap<>();
+        this.inEdgeProperties = new LinkedHashMap<>();
+    }
+
+    private static void addPropertyColumns(final List<BlockColumn> columns, final Map<String, PropertyColumn> propertyColumns,
+                                           final ColumnType type, final int rows) {
+        for (final Map.Entry<String, PropertyColumn> entry : propertyColumns.entrySet()) {
+            entry.getValue().padTo(rows);
+            columns.add(new BlockColumn(type, entry.getKey(), entry.getValue().output));
+        }
+    }
+
+    private static void writeLabels(final Output header, final Map<String, Integer> labels) {
+        header.writeVarInt(labels.size(), true);
+        for (final String label : labels.keySet()) {
+            header.writeString(label);
+        }
+    }
+
+    private static int indexOf(final Map<String, Integer> labels, final String label) {
+        return labels.computeIfAbsent(label, k -> labels.size());
+    }
+
+    private static PropertyColumn column(final Map<String, PropertyColumn> columns, final String key, final int row) {
+        final PropertyColumn column = columns.computeIfAbsent(key, k -> new PropertyColumn());
+        column.padTo(row);
+        return column;
+    }
+
+    @Override
+    public synchronized void close(final TaskAttemptContext context) throws IOException {
+        this.writeBlock();
+        this.outputStream.close();
+        this.kryo = null;
+    }
+
+    private static final class BlockColumn {
+        private final ColumnType type;
+        private final String key;
+        private final Output output;
+
+        private BlockColumn(final ColumnType type, final String key, final Output output) {
+            this.type = type;
+            this.key = key;
+            this.output = output;
+        }
+    }
+
+    /**
+     * A property column only receives the rows that have its key, so the rows in between are filled with a zero byte,
+     * which reads as a count of zero for vertex properties and as {@code false} for edge properties.
+     */
+    private static final class PropertyColumn {
+        private final Output output = new Output(1024, -1);
+        private int rows = 0;
+
+        private void padTo(final int row) {
+            while (this.rows < row) {
+                this.output.writeByte(0);
+                this.rows++;
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.hadoop.structure.io;
+
+import org.apache.commons.configuration2.BaseConfiguration;
+import org.apache.commons.configuration2.Configuration;
+import org.apache.tinkerpop.gremlin.hadoop.Constants;
+import org.apache.tinkerpop.gremlin.hadoop.structure.HadoopGraph;
+import org.apache.tinkerpop.gremlin.hadoop.structure.io.columnar.ColumnarInputFormat;
+import org.apache.tinkerpop.gremlin.hadoop.structure.io.columnar.ColumnarOutputFormat;
+import org.apache.tinkerpop.gremlin.hadoop.structure.io.gryo.GryoInputFormat;
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class InputOutputHelperTest {
+
+    @Test
+    public void shouldPairColumnarFormats() {
+        assertEquals(ColumnarOutputFormat.class, InputOutputHelper.getOutputFormat(ColumnarInputFormat.class));
+        assertEquals(ColumnarInputFormat.class, InputOutputHelper.getInputFormat(ColumnarOutputFormat.class));
+    }
+
+    @Test
+    public void shouldReadNewResultGraphWithReaderOfWriter() {
+        final Configuration configuration = new BaseConfiguration();
+        configuration.setProperty(Constants.GREMLIN_HADOOP_GRAPH_READER, GryoInputFormat.class.getCanonicalName());
+        configuration.setProperty(Constants.GREMLIN_HADOOP_GRAPH_WRITER, ColumnarOutputFormat.class.getCanonicalName());
+        configuration.setProperty(Constants.GREMLIN_HADOOP_INPUT_LOCATION, "input");
+        configuration.setProperty(Constants.GREMLIN_HADOOP_OUTPUT_LOCATION, "output");
+
+        final HadoopGraph graph = InputOutputHelper.getOutputGraph(configuration, GraphComputer.ResultGraph.NEW, GraphComputer.Persist.EDGES);
+        assertEquals(ColumnarInputFormat.class, graph.configuration().getGraphReader());
+        assertEquals("output", graph.configuration().getInputLocation());
+    }
+}
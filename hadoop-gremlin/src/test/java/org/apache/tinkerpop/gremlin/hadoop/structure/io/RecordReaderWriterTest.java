@@ -77,7 +77,7 @@ public abstract class RecordReaderWriterTest {
     @Test
     public void shouldSplitFileAndWriteProperSplits() throws Exception {
         for (int numberOfSplits = 1; numberOfSplits < 10; numberOfSplits++) {
-            final File testFile = new File(TestFiles.PATHS.get(getInputFilename()));
+            final File testFile = getInputFile();
             logger.info("Testing: {}", testFile + " (splits {}", numberOfSplits + ")");
             final List<FileSplit> splits = generateFileSplits(testFile, numberOfSplits);
             final Class<? extends InputFormat<NullWritable, VertexWritable>> inputFormatClass = getInputFormat();
@@ -90,6 +90,10 @@ public abstract class RecordReaderWriterTest {
         }
     }
 
+    protected File getInputFile() throws Exception {
+        return new File(TestFiles.PATHS.get(getInputFilename()));
+    }
+
     protected Configuration configureWithFilter(Configuration config) {
         GraphFilter filter = new GraphFilter();
         filter.setVertexFilter(__.hasLabel("artist"));
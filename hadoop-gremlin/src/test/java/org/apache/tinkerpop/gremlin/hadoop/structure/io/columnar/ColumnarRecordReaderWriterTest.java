@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.hadoop.structure.io.columnar;
+
+import org.apache.commons.configuration2.BaseConfiguration;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.LocalFileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.NullWritable;
+import org.apache.hadoop.mapreduce.InputFormat;
+import org.apache.hadoop.mapreduce.OutputFormat;
+import org.apache.hadoop.mapreduce.RecordReader;
+import org.apache.hadoop.mapreduce.TaskAttemptContext;
+import org.apache.hadoop.mapreduce.TaskAttemptID;
+import org.apache.hadoop.mapreduce.TaskType;
+import org.apache.hadoop.mapreduce.lib.input.FileSplit;
+import org.apache.hadoop.mapreduce.task.TaskAttemptContextImpl;
+import org.apache.tinkerpop.gremlin.TestHelper;
+import org.apache.tinkerpop.gremlin.features.TestFiles;
+import org.apache.tinkerpop.gremlin.hadoop.Constants;
+import org.apache.tinkerpop.gremlin.hadoop.structure.io.RecordReaderWriterTest;
+import org.apache.tinkerpop.gremlin.hadoop.structure.io.VertexWritable;
+import org.apache.tinkerpop.gremlin.hadoop.structure.io.gryo.GryoRecordReader;
+import org.apache.tinkerpop.gremlin.process.computer.GraphFilter;
+import org.apache.tinkerpop.gremlin.process.computer.util.VertexProgramHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.util.star.StarGraph;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import org.junit.Test;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ColumnarRecordReaderWriterTest extends RecordReaderWriterTest {
+
+    public ColumnarRecordReaderWriterTest() {
+        // small blocks so that the splits of the test start and end in the middle of blocks
+        this.configuration.setInt(ColumnarRecordWriter.GREMLIN_HADOOP_COLUMNAR_VERTICES_PER_BLOCK, 16);
+    }
+
+    @Override
+    protected String getInputFilename() {
+        return "grateful-dead-v3d0.kryo";
+    }
+
+    @Override
+    protected File getInputFile() throws Exception {
+        return convertToColumnar(new File(TestFiles.PATHS.get(getInputFilename())));
+    }
+
+    @Override
+    protected Class<? extends InputFormat<NullWritable, VertexWritable>> getInputFormat() {
+        return ColumnarInputFormat.class;
+    }
+
+    @Override
+    protected Class<? extends OutputFormat<NullWritable, VertexWritable>> getOutputFormat() {
+        return ColumnarOutputFormat.class;
+    }
+
+    @Test
+    public void shouldOnlyReadRequestedProperties() throws Exception {
+        final Configuration configuration = createConfiguration();
+        configuration.set(ColumnarRecordReader.GREMLIN_HADOOP_COLUMNAR_VERTEX_PROPERTIES, "name");
+        configuration.set(ColumnarRecordReader.GREMLIN_HADOOP_COLUMNAR_EDGE_PROPERTIES, "");
+
+        final List<StarGraph.StarVertex> vertices = readAll(getInputFile(), configuration);
+        assertEquals(808, vertices.size());
+        int edgeCount = 0;
+        for (final StarGraph.StarVertex vertex : vertices) {
+            assertEquals(Collections.singleton("name"), vertex.keys());
+            for (final Edge edge : IteratorUtils.list(vertex.edges(Direction.BOTH))) {
+                assertEquals(0, IteratorUtils.count(edge.properties()));
+                edgeCount++;
+            }
+        }
+        assertEquals(8049 * 2, edgeCount);
+    }
+
+    @Test
+    public void shouldSkipEdgesOutsideOfEdgeFilter() throws Exception {
+        final GraphFilter graphFilter = new GraphFilter();
+        graphFilter.setEdgeFilter(__.outE("followedBy"));
+        final Configuration configuration = createConfiguration();
+        configuration.set(Constants.GREMLIN_HADOOP_GRAPH_FILTER, serialize(graphFilter));
+
+        final List<StarGraph.StarVertex> vertices = readAll(getInputFile(), configuration);
+        assertEquals(808, vertices.size());
+        int edgeCount = 0;
+        for (final StarGraph.StarVertex vertex : vertices) {
+            assertEquals(0, IteratorUtils.count(vertex.edges(Direction.IN)));
+            for (final Edge edge : IteratorUtils.list(vertex.edges(Direction.OUT))) {
+                assertEquals("followedBy", edge.label());
+                assertTrue(edge.property("weight").isPresent());
+                edgeCount++;
+            }
+        }
+        assertEquals(7047, edgeCount);
+    }
+
+    static File convertToColumnar(final File gryoFile) throws Exception {
+        final Configuration configuration = createConfiguration();
+        configuration.setInt(ColumnarRecordWriter.GREMLIN_HADOOP_COLUMNAR_VERTICES_PER_BLOCK, 16);
+        final File columnarFile = new File(TestHelper.makeTestDataPath(ColumnarRecordReaderWriterTest.class, "columnar-input"),
+                gryoFile.getName().replace(".kryo", ".columnar"));
+        final ColumnarRecordWriter writer = new ColumnarRecordWriter(new DataOutputStream(new FileOutputStream(columnarFile)), configuration);
+        final RecordReader<NullWritable, VertexWritable> reader = new GryoRecordReader();
+        reader.initialize(new FileSplit(new Path(gryoFile.toURI()), 0, gryoFile.length(), null), createContext(configuration));
+        while (reader.nextKeyValue()) {
+            writer.write(NullWritable.get(), reader.getCurrentValue());
+        }
+        reader.close();
+        writer.close(null);
+        return columnarFile;
+    }
+
+    private static List<StarGraph.StarVertex> readAll(final File file, final Configuration configuration) throws Exception {
+        final List<StarGraph.StarVertex> vertices = new ArrayList<>();
+        final RecordReader<NullWritable, VertexWritable> reader = new ColumnarInputFormat().createRecordReader(
+                new FileSplit(new Path(file.toURI()), 0, file.length(), null), createContext(configuration));
+        while (reader.nextKeyValue()) {
+            vertices.add(reader.getCurrentValue().get());
+        }
+        reader.close();
+        return vertices;
+    }
+
+    private static String serialize(final GraphFilter graphFilter) {
+        final BaseConfiguration filterConfiguration = new BaseConfiguration();
+        VertexProgramHelper.serialize(graphFilter, filterConfiguration, Constants.GREMLIN_HADOOP_GRAPH_FILTER);
+        return filterConfiguration.getString(Constants.GREMLIN_HADOOP_GRAPH_FILTER);
+    }
+
+    private static Configuration createConfiguration() {
+        final Configuration configuration = new Configuration(false);
+        configuration.set("fs.file.impl", LocalFileSystem.class.getName());
+        configuration.set("fs.defaultFS", "file:///");
+        return configuration;
+    }
+
+    private static TaskAttemptContext createContext(final Configuration configuration) {
+        return new TaskAttemptContextImpl(configuration, new TaskAttemptID(UUID.randomUUID().toString(), 0, TaskType.MAP, 0, 0));
+    }
+}
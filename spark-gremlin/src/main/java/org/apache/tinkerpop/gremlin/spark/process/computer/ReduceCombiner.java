@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.spark.process.computer;
+
+import org.apache.commons.configuration2.Configuration;
+import org.apache.tinkerpop.gremlin.hadoop.structure.HadoopGraph;
+import org.apache.tinkerpop.gremlin.process.computer.MapReduce;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.kryoshim.KryoShimServiceLoader;
+import scala.Tuple2;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The functions given to {@code combineByKey()} when gathering the values for the reduce stage of a {@link MapReduce}
+ * that has a combine stage. Values are collected per key as they arrive and are folded with
+ * {@link MapReduce#combine} whenever enough of them have been collected, so that the values held for a key stay
+ * bounded no matter how many are emitted for it. The key is carried along with the values as the combine requires it.
+ */
+public final class ReduceCombiner<K, V> implements Serializable {
+
+    /**
+     * The number of values collected for a key before they are combined.
+     */
+    static final int COMBINE_THRESHOLD = 100;
+
+    private final Configuration graphComputerConfiguration;
+    private transient MapReduce<K, V, K, V, ?> mapReduce;
+
+    public ReduceCombiner(final Configuration graphComputerConfiguration) {
+        this.graphComputerConfiguration = graphComputerConfiguration;
+    }
+
+    ReduceCombiner(final MapReduce<K, V, K, V, ?> mapReduce) {
+        this.graphComputerConfiguration = null;
+        this.mapReduce = mapReduce;
+    }
+
+    public Tuple2<K, List<V>> createCombiner(final Tuple2<K, V> keyValue) {
+        final List<V> values = new ArrayList<>();
+        values.add(keyValue._2());
+        return new Tuple2<>(keyValue._1(), values);
+    }
+
+    public Tuple2<K, List<V>> mergeValue(final Tuple2<K, List<V>> combined, final Tuple2<K, V> keyValue) {
+        combined._2().add(keyValue._2());
+        return combineIfFull(combined);
+    }
+
+    public Tuple2<K, List<V>> mergeCombiners(final Tuple2<K, List<V>> a, final Tuple2<K, List<V>> b) {
+        a._2().addAll(b._2());
+        return combineIfFull(a);
+    }
+
+    private Tuple2<K, List<V>> combineIfFull(final Tuple2<K, List<V>> combined) {
+        if (combined._2().size() < COMBINE_THRESHOLD)
+            return combined;
+
+        final List<V> values = new ArrayList<>();
+        getMapReduce().combine(combined._1(), combined._2().iterator(), (key, value) -> values.add(value));
+        return new Tuple2<>(combined._1(), values);
+    }
+
+    private MapReduce<K, V, K, V, ?> getMapReduce() {
+        if (null == this.mapReduce) {
+            KryoShimServiceLoader.applyConfiguration(this.graphComputerConfiguration);
+            this.mapReduce = MapReduce.createMapReduce(HadoopGraph.open(this.graphComputerConfiguration), this.graphComputerConfiguration);
+            this.mapReduce.workerStart(MapReduce.Stage.COMBINE);
+        }
+        return this.mapReduce;
+    }
+}
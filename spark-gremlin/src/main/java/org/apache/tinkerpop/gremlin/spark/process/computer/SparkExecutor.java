@@ -216,7 +216,7 @@ public final class SparkExecutor {
             return new MapIterator<>(MapReduce.<MapReduce<K, V, ?, ?, ?>>createMapReduce(HadoopGraph.open(graphComputerConfiguration), graphComputerConfiguration), partitionIterator);
         });
         if (mapReduce.getMapKeySort().isPresent())
-            mapRDD = mapRDD.sortByKey(mapReduce.getMapKeySort().get(), true, 1);
+            mapRDD = mapRDD.sortByKey(mapReduce.getMapKeySort().get(), true, Math.max(1, mapRDD.getNumPartitions()));
         return mapRDD;
     }
 
@@ -231,12 +231,22 @@ public final class SparkExecutor {
     public static <K, V, OK, OV> JavaPairRDD<OK, OV> executeReduce(
             final JavaPairRDD<K, V> mapOrCombineRDD, final MapReduce<K, V, OK, OV, ?> mapReduce,
             final Configuration graphComputerConfiguration) {
-        JavaPairRDD<OK, OV> reduceRDD = mapOrCombineRDD.groupByKey().mapPartitionsToPair(partitionIterator -> {
+        // a map reduce with a combine stage can fold its values as they are shuffled rather than holding every value
+        // of a key in memory until the reduce
+        final JavaPairRDD<K, Iterable<V>> groupedRDD;
+        if (mapReduce.doStage(MapReduce.Stage.COMBINE)) {
+            final ReduceCombiner<K, V> combiner = new ReduceCombiner<>(graphComputerConfiguration);
+            groupedRDD = mapOrCombineRDD.mapToPair(keyValue -> new Tuple2<>(keyValue._1(), keyValue))
+                    .combineByKey(combiner::createCombiner, combiner::mergeValue, combiner::mergeCombiners)
+                    .mapValues(combined -> (Iterable<V>) combined._2());
+        } else
+            groupedRDD = mapOrCombineRDD.groupByKey();
+        JavaPairRDD<OK, OV> reduceRDD = groupedRDD.mapPartitionsToPair(partitionIterator -> {
             KryoShimServiceLoader.applyConfiguration(graphComputerConfiguration);
             return new ReduceIterator<>(MapReduce.<MapReduce<K, V, OK, OV, ?>>createMapReduce(HadoopGraph.open(graphComputerConfiguration), graphComputerConfiguration), partitionIterator);
         });
         if (mapReduce.getReduceKeySort().isPresent())
-            reduceRDD = reduceRDD.sortByKey(mapReduce.getReduceKeySort().get(), true, 1);
+            reduceRDD = reduceRDD.sortByKey(mapReduce.getReduceKeySort().get(), true, Math.max(1, reduceRDD.getNumPartitions()));
         return reduceRDD;
     }
 }
\ No newline at end of file
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.spark.process.computer;
+
+import org.apache.tinkerpop.gremlin.process.computer.KeyValue;
+import org.apache.tinkerpop.gremlin.process.computer.util.StaticMapReduce;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Test;
+import scala.Tuple2;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ReduceCombinerTest {
+
+    @Test
+    public void shouldHoldValuesBelowThreshold() {
+        final ReduceCombiner<String, Long> combiner = new ReduceCombiner<>(new SumMapReduce());
+        Tuple2<String, List<Long>> combined = combiner.createCombiner(new Tuple2<>("test", 1L));
+        combined = combiner.mergeValue(combined, new Tuple2<>("test", 2L));
+        combined = combiner.mergeValue(combined, new Tuple2<>("test", 3L));
+
+        assertEquals("test", combined._1());
+        assertEquals(Arrays.asList(1L, 2L, 3L), combined._2());
+    }
+
+    @Test
+    public void shouldCombineValuesAtThreshold() {
+        final ReduceCombiner<String, Long> combiner = new ReduceCombiner<>(new SumMapReduce());
+        long total = 0;
+        Tuple2<String, List<Long>> combined = combiner.createCombiner(new Tuple2<>("test", 0L));
+        for (long i = 1; i < 10000; i++) {
+            total = total + i;
+            combined = combiner.mergeValue(combined, new Tuple2<>("test", i));
+            assertTrue(combined._2().size() < ReduceCombiner.COMBINE_THRESHOLD);
+        }
+
+        assertEquals("test", combined._1());
+        assertEquals(total, combined._2().stream().mapToLong(Long::longValue).sum());
+    }
+
+    @Test
+    public void shouldMergeCombiners() {
+        final ReduceCombiner<String, Long> combiner = new ReduceCombiner<>(new SumMapReduce());
+        long total = 0;
+        Tuple2<String, List<Long>> a = combiner.createCombiner(new Tuple2<>("test", 0L));
+        Tuple2<String, List<Long>> b = combiner.createCombiner(new Tuple2<>("test", 0L));
+        for (long i = 1; i < ReduceCombiner.COMBINE_THRESHOLD - 1; i++) {
+            total = total + i + i;
+            a = combiner.mergeValue(a, new Tuple2<>("test", i));
+            b = combiner.mergeValue(b, new Tuple2<>("test", i));
+        }
+
+        final Tuple2<String, List<Long>> merged = combiner.mergeCombiners(a, b);
+        assertEquals(1, merged._2().size());
+        assertEquals(Long.valueOf(total), merged._2().get(0));
+    }
+
+    private static class SumMapReduce extends StaticMapReduce<String, Long, String, Long, Long> {
+
+        @Override
+        public void combine(final String key, final Iterator<Long> values, final ReduceEmitter<String, Long> emitter) {
+            long counter = 0;
+            while (values.hasNext()) {
+                counter = counter + values.next();
+            }
+            emitter.emit(key, counter);
+        }
+
+        @Override
+        public boolean doStage(final Stage stage) {
+            return true;
+        }
+
+        @Override
+        public void map(final Vertex vertex, final MapEmitter<String, Long> emitter) {
+
+        }
+
+        @Override
+        public String getMemoryKey() {
+            return "test";
+        }
+
+        @Override
+        public Long generateFinalResult(final Iterator<KeyValue<String, Long>> keyValues) {
+            return keyValues.next().getValue();
+        }
+    }
+}
@@ -18,29 +18,177 @@
  */
 package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
 
+import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
 import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerHelper;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Queue;
-import java.util.Set;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
+ * Holds the messages sent between vertices in one iteration of a {@link TinkerGraphComputer} so that they can be
+ * received in the next. Vertices are given a dense ordinal so that the messages for each {@link MessageScope} are
+ * kept in arrays indexed by that ordinal. When the vertex program has a {@link MessageCombiner}, a vertex has a single
+ * combined message rather than a list of them. The arrays for sending and receiving are swapped at the end of each
+ * iteration and reused rather than reallocated.
+ * <p/>
+ * For a {@link org.apache.tinkerpop.gremlin.process.computer.VertexProgram#isMessageDriven()} vertex program the
+ * board also tracks which vertices were activated in an iteration, by a message or explicitly, so that only those
+ * vertices need to execute in the next.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 final class TinkerMessageBoard<M> {
 
-    public Map<MessageScope, Map<Vertex,Queue<M>>> sendMessages = new ConcurrentHashMap<>();
-    public Map<MessageScope, Map<Vertex, Queue<M>>> receiveMessages = new ConcurrentHashMap<>();
-    public Set<MessageScope> previousMessageScopes = new HashSet<>();
-    public Set<MessageScope> currentMessageScopes = new HashSet<>();
+    private final Map<Object, Integer> ordinals;
+    private final Vertex[] vertices;
+    private final boolean[] activated;
+    private List<Vertex> activeVertices = null;
+
+    public Map<MessageScope, Messages<M>> sendMessages = new ConcurrentHashMap<>();
+    public Map<MessageScope, Messages<M>> receiveMessages = new ConcurrentHashMap<>();
+    private final List<Messages<M>> spareMessages = new ArrayList<>();
+
+    public TinkerMessageBoard(final TinkerGraph graph) {
+        this(graph, false);
+    }
+
+    public TinkerMessageBoard(final TinkerGraph graph, final boolean trackActiveVertices) {
+        final int size = TinkerHelper.getVertices(graph).size();
+        this.ordinals = new HashMap<>(size * 4 / 3 + 1);
+        this.vertices = trackActiveVertices ? new Vertex[size] : null;
+        this.activated = trackActiveVertices ? new boolean[size] : null;
+        graph.vertices().forEachRemaining(v -> {
+            if (trackActiveVertices) this.vertices[this.ordinals.size()] = v;
+            this.ordinals.put(v.id(), this.ordinals.size());
+        });
+    }
+
+    /**
+     * Sends a message to the vertex, combining it with any message already sent to that vertex if a combiner is
+     * given. Messages to vertices that were not in the graph when the computation started are dropped as no vertex
+     * will ever receive them.
+     */
+    public void sendMessage(final MessageScope messageScope, final Vertex vertex, final M message, final MessageCombiner<M> combiner) {
+        final Integer ordinal = this.ordinals.get(vertex.id());
+        if (null == ordinal) return;
+        this.sendMessages.computeIfAbsent(messageScope, ms -> takeSpareMessages()).add(ordinal, message, combiner);
+    }
+
+    /**
+     * Gets the messages received by the vertex for the {@link MessageScope} or an empty list if there are none.
+     */
+    public List<M> receiveMessages(final MessageScope messageScope, final Vertex vertex) {
+        final Messages<M> messages = this.receiveMessages.get(messageScope);
+        final Integer ordinal = this.ordinals.get(vertex.id());
+        return null == messages || null == ordinal ? Collections.emptyList() : messages.get(ordinal);
+    }
+
+    /**
+     * Marks the vertex to execute in the next iteration. This is a no-op if active vertices are not tracked. Workers
+     * may mark the same vertex concurrently as the mark is only read once all of them have completed the iteration.
+     */
+    public void activate(final Vertex vertex) {
+        if (null == this.activated) return;
+        final Integer ordinal = this.ordinals.get(vertex.id());
+        if (null != ordinal) this.activated[ordinal] = true;
+    }
+
+    /**
+     * Gets the vertices that were activated in the last completed iteration or an empty {@code Optional} if every
+     * vertex has to execute, which is the case when active vertices are not tracked or no iteration has completed.
+     */
+    public Optional<List<Vertex>> getActiveVertices() {
+        return Optional.ofNullable(this.activeVertices);
+    }
+
+    public boolean isTrackingActiveVertices() {
+        return null != this.activated;
+    }
 
     public void completeIteration() {
+        if (null != this.activated) {
+            final List<Vertex> active = new ArrayList<>();
+            for (int i = 0; i < this.activated.length; i++) {
+                if (this.activated[i]) active.add(this.vertices[i]);
+            }
+            Arrays.fill(this.activated, false);
+            this.activeVertices = active;
+        }
+        synchronized (this.spareMessages) {
+            this.receiveMessages.values().forEach(messages -> {
+                messages.clear();
+                this.spareMessages.add(messages);
+            });
+        }
         this.receiveMessages = this.sendMessages;
         this.sendMessages = new ConcurrentHashMap<>();
-        this.previousMessageScopes = this.currentMessageScopes;
-        this.currentMessageScopes = new HashSet<>();
+    }
+
+    private Messages<M> takeSpareMessages() {
+        synchronized (this.spareMessages) {
+            return this.spareMessages.isEmpty() ?
+                    new Messages<>(this.ordinals.size()) :
+                    this.spareMessages.remove(this.spareMessages.size() - 1);
+        }
+    }
+
+    /**
+     * The messages of a single {@link MessageScope} indexed by vertex ordinal. Each slot holds either the combined
+     * message or a list of messages. Writes to a slot are guarded by one of a fixed set of locks chosen by ordinal,
+     * which leaves the combiner free to modify the messages it is given.
+     */
+    static final class Messages<M> {
+        private static final int LOCK_STRIPES = 64;
+
+        private final Object[] slots;
+        private final Object[] locks = new Object[LOCK_STRIPES];
+
+        Messages(final int size) {
+            this.slots = new Object[size];
+            for (int i = 0; i < LOCK_STRIPES; i++) {
+                this.locks[i] = new Object();
+            }
+        }
+
+        void add(final int ordinal, final M message, final MessageCombiner<M> combiner) {
+            synchronized (this.locks[ordinal % LOCK_STRIPES]) {
+                final Object slot = this.slots[ordinal];
+                if (null != combiner)
+                    this.slots[ordinal] = null == slot ? message : combiner.combine((M) slot, message);
+                else {
+                    if (null == slot) this.slots[ordinal] = new MessageList<>(message);
+                    else ((MessageList<M>) slot).add(message);
+                }
+            }
+        }
+
+        List<M> get(final int ordinal) {
+            final Object slot = this.slots[ordinal];
+            if (null == slot) return Collections.emptyList();
+            return slot instanceof MessageList ? (List<M>) slot : Collections.singletonList((M) slot);
+        }
+
+        void clear() {
+            Arrays.fill(this.slots, null);
+        }
+    }
+
+    /**
+     * Distinguishes uncombined messages from a combined message that happens to be a list itself.
+     */
+    private static final class MessageList<M> extends ArrayList<M> {
+        MessageList(final M message) {
+            super(2);
+            add(message);
+        }
     }
 }
@@ -33,13 +33,10 @@ import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import org.apache.tinkerpop.gremlin.util.iterator.MultiIterator;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
-import java.util.Queue;
 import java.util.Spliterator;
 import java.util.Spliterators;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
@@ -76,19 +73,14 @@ public final class TinkerMessenger<M> implements Messenger<M> {
                             } else {
                                 vv = e.outVertex() == this.vertex ? e.inVertex() : e.outVertex();
                             }
-                            return this.messageBoard.receiveMessages.get(messageScope).get(vv);
+                            return this.messageBoard.receiveMessages(messageScope, vv);
                         })
-                        .filter(q -> null != q)
-                        .flatMap(Queue::stream)
+                        .flatMap(List::stream)
                         .map(message -> localMessageScope.getEdgeFunction().apply(message, edge[0]))
                         .iterator());
 
             } else {
-                multiIterator.addIterator(Stream.of(this.vertex)
-                        .map(this.messageBoard.receiveMessages.get(messageScope)::get)
-                        .filter(q -> null != q)
-                        .flatMap(Queue::stream)
-                        .iterator());
+                multiIterator.addIterator(this.messageBoard.receiveMessages(messageScope, this.vertex).iterator());
             }
         }
         return multiIterator;
@@ -99,20 +91,37 @@ public final class TinkerMessenger<M> implements Messenger<M> {
 //        this.messageBoard.currentMessageScopes.add(messageScope);
         if (messageScope instanceof MessageScope.Local) {
             addMessage(this.vertex, message, messageScope);
+            if (this.messageBoard.isTrackingActiveVertices())
+                activateReceivers((MessageScope.Local<M>) messageScope);
         } else {
-            ((MessageScope.Global) messageScope).vertices().forEach(v -> addMessage(v, message, messageScope));
+            ((MessageScope.Global) messageScope).vertices().forEach(v -> {
+                addMessage(v, message, messageScope);
+                this.messageBoard.activate(v);
+            });
         }
     }
 
+    @Override
+    public void keepActive() {
+        this.messageBoard.activate(this.vertex);
+    }
+
     private void addMessage(final Vertex vertex, final M message, MessageScope messageScope) {
-        this.messageBoard.sendMessages.compute(messageScope, (ms, messages) -> {
-            if(null==messages) messages = new ConcurrentHashMap<>();
-            return messages;
-        });
-        this.messageBoard.sendMessages.get(messageScope).compute(vertex, (v, queue) -> {
-            if (null == queue) queue = new ConcurrentLinkedQueue<>();
-            queue.add(null != this.combiner && !queue.isEmpty() ? this.combiner.combine(queue.remove(), message) : message);
-            return queue;
+        this.messageBoard.sendMessage(messageScope, vertex, message, this.combiner);
+    }
+
+    /**
+     * A local message is kept with the sending vertex and pulled by the receivers through the reversed incident
+     * traversal, so the receivers to activate are found by walking the incident traversal forward from the sender.
+     */
+    private void activateReceivers(final MessageScope.Local<M> localMessageScope) {
+        final Traversal.Admin<Vertex, Edge> incidentTraversal = TinkerMessenger.setVertexStart(localMessageScope.getIncidentTraversal().get().asAdmin(), this.vertex);
+        final Direction direction = TinkerMessenger.getDirection(incidentTraversal);
+        incidentTraversal.forEachRemaining(e -> {
+            if (direction.equals(Direction.IN) || direction.equals(Direction.OUT))
+                this.messageBoard.activate(e.vertices(direction.opposite()).next());
+            else
+                this.messageBoard.activate(e.outVertex() == this.vertex ? e.inVertex() : e.outVertex());
         });
     }
 
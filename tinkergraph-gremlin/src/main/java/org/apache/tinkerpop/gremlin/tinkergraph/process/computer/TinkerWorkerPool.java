@@ -23,12 +23,14 @@ import org.apache.tinkerpop.gremlin.process.computer.MapReduce;
 import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
 import org.apache.tinkerpop.gremlin.process.computer.util.MapReducePool;
 import org.apache.tinkerpop.gremlin.process.computer.util.VertexProgramPool;
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerHelper;
 import org.apache.tinkerpop.gremlin.util.function.TriConsumer;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Queue;
@@ -37,9 +39,16 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 /**
+ * Executes vertex programs and map-reduce jobs for the {@link TinkerGraphComputer} across a fixed number of workers.
+ * Rather than giving each worker a fixed share of the vertices, which leaves workers idle while the one holding the
+ * most expensive vertices finishes, workers repeatedly claim small chunks of the remaining vertices until none are
+ * left, so that work is spread by cost rather than by count.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  * @author Stephen Mallette (http://stephen.genoprime.com)
  */
@@ -47,6 +56,17 @@ public final class TinkerWorkerPool implements AutoCloseable {
 
     private static final BasicThreadFactory THREAD_FACTORY_WORKER = new BasicThreadFactory.Builder().namingPattern("tinker-worker-%d").build();
 
+    /**
+     * The number of chunks each worker would process if all vertices cost the same, which bounds how uneven the
+     * finishing times of the workers can be against the overhead of claiming chunks.
+     */
+    private static final int CHUNKS_PER_WORKER = 16;
+
+    /**
+     * The largest number of items a worker claims at once.
+     */
+    private static final int MAX_CHUNK_SIZE = 1024;
+
     private final int numberOfWorkers;
     private final ExecutorService workerPool;
     private final CompletionService<Object> completionService;
@@ -54,7 +74,7 @@ public final class TinkerWorkerPool implements AutoCloseable {
     private VertexProgramPool vertexProgramPool;
     private MapReducePool mapReducePool;
     private final Queue<TinkerWorkerMemory> workerMemoryPool = new ConcurrentLinkedQueue<>();
-    private final List<List<Vertex>> workerVertices = new ArrayList<>();
+    private final List<Vertex> vertices;
 
     public TinkerWorkerPool(final TinkerGraph graph, final TinkerMemory memory, final int numberOfWorkers) {
         this.numberOfWorkers = numberOfWorkers;
@@ -62,26 +82,16 @@ public final class TinkerWorkerPool implements AutoCloseable {
         this.completionService = new ExecutorCompletionService<>(this.workerPool);
         for (int i = 0; i < this.numberOfWorkers; i++) {
             this.workerMemoryPool.add(new TinkerWorkerMemory(memory));
-            this.workerVertices.add(new ArrayList<>());
-        }
-        int batchSize = TinkerHelper.getVertices(graph).size() / this.numberOfWorkers;
-        if (0 == batchSize)
-            batchSize = 1;
-        int counter = 0;
-        int index = 0;
-
-        List<Vertex> currentWorkerVertices = this.workerVertices.get(index);
-        final Iterator<Vertex> iterator = graph.vertices();
-        while (iterator.hasNext()) {
-            final Vertex vertex = iterator.next();
-            if (counter++ < batchSize || index == this.workerVertices.size() - 1) {
-                currentWorkerVertices.add(vertex);
-            } else {
-                currentWorkerVertices = this.workerVertices.get(++index);
-                currentWorkerVertices.add(vertex);
-                counter = 1;
-            }
         }
+        this.vertices = new ArrayList<>(TinkerHelper.getVertices(graph).size());
+        graph.vertices().forEachRemaining(this.vertices::add);
+    }
+
+    /**
+     * Gets all the vertices of the graph in the order they are handed out to the workers.
+     */
+    public List<Vertex> getVertices() {
+        return Collections.unmodifiableList(this.vertices);
     }
 
     public void setVertexProgram(final VertexProgram vertexProgram) {
@@ -93,35 +103,53 @@ public final class TinkerWorkerPool implements AutoCloseable {
     }
 
     public void executeVertexProgram(final TriConsumer<Iterator<Vertex>, VertexProgram, TinkerWorkerMemory> worker) throws InterruptedException {
-        for (int i = 0; i < this.numberOfWorkers; i++) {
-            final int index = i;
-            this.completionService.submit(() -> {
-                final VertexProgram vp = this.vertexProgramPool.take();
-                final TinkerWorkerMemory workerMemory = this.workerMemoryPool.poll();
-                final List<Vertex> vertices = this.workerVertices.get(index);
-                worker.accept(vertices.iterator(), vp, workerMemory);
-                this.vertexProgramPool.offer(vp);
-                this.workerMemoryPool.offer(workerMemory);
-                return null;
-            });
-        }
-        for (int i = 0; i < this.numberOfWorkers; i++) {
-            try {
-                this.completionService.take().get();
-            } catch (InterruptedException ie) {
-                throw ie;
-            } catch (final Exception e) {
-                throw new IllegalStateException(e.getMessage(), e);
-            }
-        }
+        executeVertexProgram(this.vertices, worker);
+    }
+
+    /**
+     * Executes an iteration of the {@link VertexProgram} where the workers share only the given vertices.
+     */
+    public void executeVertexProgram(final List<Vertex> vertices, final TriConsumer<Iterator<Vertex>, VertexProgram, TinkerWorkerMemory> worker) throws InterruptedException {
+        final ChunkedList<Vertex> chunks = new ChunkedList<>(vertices, this.numberOfWorkers);
+        execute(() -> {
+            final VertexProgram vp = this.vertexProgramPool.take();
+            final TinkerWorkerMemory workerMemory = this.workerMemoryPool.poll();
+            worker.accept(chunks.iterator(), vp, workerMemory);
+            this.vertexProgramPool.offer(vp);
+            this.workerMemoryPool.offer(workerMemory);
+        });
+    }
+
+    /**
+     * Executes the map stage of a {@link MapReduce} where the workers share the vertices of the graph.
+     */
+    public void executeMapReduce(final BiConsumer<Iterator<Vertex>, MapReduce> worker) throws InterruptedException {
+        executeMapReduce(this.vertices, worker);
+    }
+
+    /**
+     * Executes a stage of a {@link MapReduce} where the workers share the given items.
+     */
+    public <E> void executeMapReduce(final List<E> items, final BiConsumer<Iterator<E>, MapReduce> worker) throws InterruptedException {
+        final ChunkedList<E> chunks = new ChunkedList<>(items, this.numberOfWorkers);
+        executeMapReduce(mr -> worker.accept(chunks.iterator(), mr));
     }
 
     public void executeMapReduce(final Consumer<MapReduce> worker) throws InterruptedException {
+        execute(() -> {
+            final MapReduce mr = this.mapReducePool.take();
+            worker.accept(mr);
+            this.mapReducePool.offer(mr);
+        });
+    }
+
+    /**
+     * Runs the task once on each worker and waits for all of them to complete.
+     */
+    private void execute(final Runnable task) throws InterruptedException {
         for (int i = 0; i < this.numberOfWorkers; i++) {
             this.completionService.submit(() -> {
-                final MapReduce mr = this.mapReducePool.take();
-                worker.accept(mr);
-                this.mapReducePool.offer(mr);
+                task.run();
                 return null;
             });
         }
@@ -144,4 +172,46 @@ public final class TinkerWorkerPool implements AutoCloseable {
     public void close() throws Exception {
         this.workerPool.shutdown();
     }
-}
\ No newline at end of file
+
+    /**
+     * A list whose items are handed out in chunks to the iterators created from it, such that every item is given
+     * to exactly one iterator and an iterator only claims its next chunk when it has finished with the last.
+     */
+    static final class ChunkedList<E> {
+        private final List<E> items;
+        private final int chunkSize;
+        private final AtomicInteger next = new AtomicInteger(0);
+
+        ChunkedList(final List<E> items, final int numberOfWorkers) {
+            this.items = items;
+            this.chunkSize = Math.max(1, Math.min(MAX_CHUNK_SIZE, items.size() / (numberOfWorkers * CHUNKS_PER_WORKER)));
+        }
+
+        int getChunkSize() {
+            return this.chunkSize;
+        }
+
+        Iterator<E> iterator() {
+            return new Iterator<E>() {
+                private int current = 0;
+                private int end = 0;
+
+                @Override
+                public boolean hasNext() {
+                    if (this.current < this.end) return true;
+                    // guard against overflow from repeated claims after the list is exhausted
+                    if (next.get() >= items.size()) return false;
+                    this.current = next.getAndAdd(chunkSize);
+                    this.end = Math.min(this.current + chunkSize, items.size());
+                    return this.current < this.end;
+                }
+
+                @Override
+                public E next() {
+                    if (!hasNext()) throw FastNoSuchElementException.instance();
+                    return items.get(this.current++);
+                }
+            };
+        }
+    }
+}
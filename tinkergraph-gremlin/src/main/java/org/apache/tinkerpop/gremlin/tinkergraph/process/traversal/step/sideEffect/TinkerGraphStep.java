@@ -20,10 +20,14 @@ package org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.step.sideEffe
 
 import org.apache.tinkerpop.gremlin.process.traversal.Compare;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
 import org.apache.tinkerpop.gremlin.process.traversal.util.AndP;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
@@ -38,9 +42,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -48,11 +53,21 @@ import java.util.stream.Collectors;
  */
 public final class TinkerGraphStep<S, E extends Element> extends GraphStep<S, E> implements HasContainerHolder, AutoCloseable {
 
-    private final List<HasContainer> hasContainers = new ArrayList<>();
+    private List<HasContainer> hasContainers = new ArrayList<>();
     /**
      * List of iterators opened by this step.
      */
-    private final List<Iterator> iterators = new ArrayList<>();
+    private List<Iterator> iterators = new ArrayList<>();
+    /**
+     * Determines if the step was prepared for execution on a {@code GraphComputer} in which case it produces no
+     * elements itself.
+     */
+    private boolean onGraphComputer = false;
+    /**
+     * Determines if elements must be copied to a list before they are returned or if they can be lazily filtered
+     * from the underlying graph. This is lazily determined on first use.
+     */
+    private Boolean requiresSnapshot = null;
 
     public TinkerGraphStep(final GraphStep<S, E> originalGraphStep) {
         super(originalGraphStep.getTraversal(), originalGraphStep.getReturnClass(), originalGraphStep.isStartStep(), originalGraphStep.getIds());
@@ -65,21 +80,32 @@ public final class TinkerGraphStep<S, E extends Element> extends GraphStep<S, E>
         this.setIteratorSupplier(() -> (Iterator<E>) (Vertex.class.isAssignableFrom(this.returnClass) ? this.vertices() : this.edges()));
     }
 
+    @Override
+    public void onGraphComputer() {
+        super.onGraphComputer();
+        this.onGraphComputer = true;
+    }
+
     private Iterator<? extends Edge> edges() {
         final TinkerGraph graph = (TinkerGraph) this.getTraversal().getGraph().get();
-        final HasContainer indexedContainer = getIndexKey(Edge.class);
-        Iterator<Edge> iterator;
+        // the indexes are only needed when there are no ids to look up
+        final Map<String, Object> indexedValues = null == this.ids || this.ids.length > 0 ?
+                Collections.emptyMap() : getIndexedValues(Edge.class);
+        final List<? extends Edge> indexed = indexedValues.isEmpty() ? null : TinkerHelper.queryEdgeIndex(graph, indexedValues);
+        final HasContainer rangeIndexedContainer = null == indexed ? getRangeIndexKey(Edge.class) : null;
+        Iterator<? extends Edge> iterator;
         // ids are present, filter on them first
         if (null == this.ids)
             iterator = Collections.emptyIterator();
         else if (this.ids.length > 0)
             iterator = this.iteratorList(graph.edges(this.ids));
+        else if (null != indexed)
+            iterator = IteratorUtils.filter(indexed.iterator(), edge -> HasContainer.testAll(edge, this.hasContainers));
+        else if (null != rangeIndexedContainer)
+            iterator = IteratorUtils.filter(TinkerHelper.queryEdgeIndex(graph, rangeIndexedContainer.getKey(), rangeIndexedContainer.getPredicate()).iterator(),
+                                            edge -> HasContainer.testAll(edge, this.hasContainers));
         else
-            iterator = null == indexedContainer ?
-                    this.iteratorList(graph.edges()) :
-                    TinkerHelper.queryEdgeIndex(graph, indexedContainer.getKey(), indexedContainer.getPredicate().getValue()).stream()
-                                .filter(edge -> HasContainer.testAll(edge, this.hasContainers))
-                                .collect(Collectors.<Edge>toList()).iterator();
+            iterator = this.scan(graph, Edge.class);
 
 
         iterators.add(iterator);
@@ -89,31 +115,71 @@ public final class TinkerGraphStep<S, E extends Element> extends GraphStep<S, E>
 
     private Iterator<? extends Vertex> vertices() {
         final TinkerGraph graph = (TinkerGraph) this.getTraversal().getGraph().get();
-        final HasContainer indexedContainer = getIndexKey(Vertex.class);
+        // the indexes are only needed when there are no ids to look up
+        final Map<String, Object> indexedValues = null == this.ids || this.ids.length > 0 ?
+                Collections.emptyMap() : getIndexedValues(Vertex.class);
+        final List<? extends Vertex> indexed = indexedValues.isEmpty() ? null : TinkerHelper.queryVertexIndex(graph, indexedValues);
+        final HasContainer rangeIndexedContainer = null == indexed ? getRangeIndexKey(Vertex.class) : null;
         Iterator<? extends Vertex> iterator;
         // ids are present, filter on them first
         if (null == this.ids)
             iterator = Collections.emptyIterator();
         else if (this.ids.length > 0)
             iterator = this.iteratorList(graph.vertices(this.ids));
+        else if (null != indexed)
+            iterator = IteratorUtils.filter(indexed.iterator(), vertex -> HasContainer.testAll(vertex, this.hasContainers));
+        else if (null != rangeIndexedContainer)
+            iterator = IteratorUtils.filter(TinkerHelper.queryVertexIndex(graph, rangeIndexedContainer.getKey(), rangeIndexedContainer.getPredicate()).iterator(),
+                                            vertex -> HasContainer.testAll(vertex, this.hasContainers));
         else
-            iterator = (null == indexedContainer ?
-                    this.iteratorList(graph.vertices()) :
-                    IteratorUtils.filter(TinkerHelper.queryVertexIndex(graph, indexedContainer.getKey(), indexedContainer.getPredicate().getValue()).iterator(),
-                                         vertex -> HasContainer.testAll(vertex, this.hasContainers)));
+            iterator = this.scan(graph, Vertex.class);
 
         iterators.add(iterator);
 
         return iterator;
     }
 
-    private HasContainer getIndexKey(final Class<? extends Element> indexedClass) {
-        final Set<String> indexedKeys = ((TinkerGraph) this.getTraversal().getGraph().get()).getIndexedKeys(indexedClass);
+    /**
+     * Gets the values of the equality {@link HasContainer} objects whose keys are indexed on their own or as part of
+     * a composite index. The first such container is used when there are several on the same key.
+     */
+    private Map<String, Object> getIndexedValues(final Class<? extends Element> indexedClass) {
+        final TinkerGraph graph = (TinkerGraph) this.getTraversal().getGraph().get();
+        final Set<String> indexedKeys = graph.getIndexedKeys(indexedClass);
+        final Set<List<String>> compositeIndexedKeys = graph.getCompositeIndexedKeys(indexedClass);
+
+        final Map<String, Object> indexedValues = new LinkedHashMap<>();
+        for (final HasContainer c : this.hasContainers) {
+            if (c.getPredicate().getBiPredicate() == Compare.eq && !indexedValues.containsKey(c.getKey()) &&
+                    (indexedKeys.contains(c.getKey()) || compositeIndexedKeys.stream().anyMatch(keys -> keys.contains(c.getKey()))))
+                indexedValues.put(c.getKey(), c.getPredicate().getValue());
+        }
+        return indexedValues;
+    }
+
+    /**
+     * Finds the first {@link HasContainer} with a predicate that can be answered by a range index on its key. All
+     * such containers on that same key are combined with {@link AndP} so that, for example, the two halves of an
+     * {@code inside()} both bound the range that is read from the index.
+     */
+    private HasContainer getRangeIndexKey(final Class<? extends Element> indexedClass) {
+        final Set<String> rangeIndexedKeys = ((TinkerGraph) this.getTraversal().getGraph().get()).getRangeIndexedKeys(indexedClass);
+        if (rangeIndexedKeys.isEmpty())
+            return null;
 
         final Iterator<HasContainer> itty = IteratorUtils.filter(hasContainers.iterator(),
-                c -> c.getPredicate().getBiPredicate() == Compare.eq && indexedKeys.contains(c.getKey()));
-        return itty.hasNext() ? itty.next() : null;
+                c -> rangeIndexedKeys.contains(c.getKey()) && TinkerHelper.isRangeQuery(c.getPredicate()));
+        if (!itty.hasNext())
+            return null;
 
+        final HasContainer first = itty.next();
+        final List<P<Object>> predicates = new ArrayList<>();
+        predicates.add((P<Object>) first.getPredicate());
+        itty.forEachRemaining(c -> {
+            if (c.getKey().equals(first.getKey()))
+                predicates.add((P<Object>) c.getPredicate());
+        });
+        return predicates.size() == 1 ? first : new HasContainer(first.getKey(), new AndP<>(predicates));
     }
 
     @Override
@@ -126,6 +192,27 @@ public final class TinkerGraphStep<S, E extends Element> extends GraphStep<S, E>
                     StringFactory.stepString(this, this.returnClass.getSimpleName().toLowerCase(), Arrays.toString(this.ids), this.hasContainers);
     }
 
+    /**
+     * Filters all the elements of the graph with the {@link HasContainer} objects of this step. The elements are
+     * filtered lazily as they are requested so that the time to the first result and the memory required do not
+     * depend on the size of the graph. If the traversal can mutate the graph, then the matching elements are instead
+     * copied to a list up front so that iteration is not affected by elements that the traversal itself adds or
+     * removes.
+     */
+    private <E extends Element> Iterator<E> scan(final TinkerGraph graph, final Class<E> elementClass) {
+        final boolean vertices = Vertex.class.isAssignableFrom(elementClass);
+
+        // the graph filters elements when in computer mode so that case should go through the Graph API
+        if (requiresSnapshot() || TinkerHelper.inComputerMode(graph))
+            return (Iterator<E>) (vertices ? this.iteratorList(graph.vertices()) : this.iteratorList(graph.edges()));
+
+        // the backing maps are concurrent so their iterators hold no resources and tolerate modification
+        final Iterator<E> iterator = (Iterator<E>) (vertices ?
+                TinkerHelper.getVertices(graph).values().iterator() :
+                TinkerHelper.getEdges(graph).values().iterator());
+        return IteratorUtils.filter(iterator, e -> HasContainer.testAll(e, this.hasContainers));
+    }
+
     private <E extends Element> Iterator<E> iteratorList(final Iterator<E> iterator) {
         final List<E> list = new ArrayList<>();
 
@@ -144,6 +231,19 @@ public final class TinkerGraphStep<S, E extends Element> extends GraphStep<S, E>
         return new TinkerGraphIterator<>(list.iterator());
     }
 
+    /**
+     * A snapshot of the elements is required when the traversal contains a step that mutates the graph or a lambda
+     * which might.
+     */
+    private boolean requiresSnapshot() {
+        if (null == this.requiresSnapshot) {
+            final Traversal.Admin<?, ?> root = TraversalHelper.getRootTraversal(this.getTraversal());
+            this.requiresSnapshot = TraversalHelper.hasStepOfAssignableClassRecursively(
+                    Arrays.asList(Mutating.class, LambdaHolder.class), root);
+        }
+        return this.requiresSnapshot;
+    }
+
     @Override
     public List<HasContainer> getHasContainers() {
         return Collections.unmodifiableList(this.hasContainers);
@@ -164,6 +264,19 @@ public final class TinkerGraphStep<S, E extends Element> extends GraphStep<S, E>
         return super.hashCode() ^ this.hasContainers.hashCode();
     }
 
+    @Override
+    public TinkerGraphStep<S, E> clone() {
+        final TinkerGraphStep<S, E> clone = (TinkerGraphStep<S, E>) super.clone();
+        clone.hasContainers = new ArrayList<>(this.hasContainers);
+        clone.iterators = new ArrayList<>();
+
+        // the supplier set in the constructor refers to the step it was created for, so the clone needs its own or
+        // else it would read from, and register its iterators with, the original step
+        if (!this.onGraphComputer)
+            clone.setIteratorSupplier(() -> (Iterator<E>) (Vertex.class.isAssignableFrom(clone.returnClass) ? clone.vertices() : clone.edges()));
+        return clone;
+    }
+
     @Override
     public void close() {
         iterators.forEach(CloseableIterator::closeIterator);
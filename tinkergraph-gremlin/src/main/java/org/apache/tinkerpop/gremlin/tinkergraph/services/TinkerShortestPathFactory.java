@@ -0,0 +1,340 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.services;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ImmutablePath;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.service.Service;
+import org.apache.tinkerpop.gremlin.structure.util.CloseableIterator;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.apache.tinkerpop.gremlin.util.tools.CollectionFactory.asMap;
+
+/**
+ * Finds a shortest path from each incoming vertex to a target vertex by searching from both ends at once, so that
+ * only the vertices within about half the distance of either end are visited rather than all of those within the
+ * full distance of the source. Without a weight the search is a breadth-first search that always expands the side
+ * with the smaller frontier, which keeps it from expanding a hub vertex when the other side is cheaper. With a
+ * weight it is Dijkstra's algorithm run from both ends. Demonstrates a {@link Service.Type#Streaming} service.
+ */
+public class TinkerShortestPathFactory extends TinkerServiceRegistry.TinkerServiceFactory<Vertex, Path> implements Service<Vertex, Path> {
+
+    public static final String NAME = "tinker.shortest.path";
+
+    public interface Params {
+        /**
+         * Specify the target vertex or its id
+         */
+        String TARGET = "target";
+        /**
+         * Specify the edge direction to follow from the source (optional), default is Direction.BOTH
+         */
+        String DIRECTION = "direction";
+        /**
+         * Specify an edge label or a collection of them to follow (optional), default is all labels
+         */
+        String LABELS = "labels";
+        /**
+         * Specify the edge property that holds the weight of an edge (optional), default is a weight of one per edge
+         */
+        String WEIGHT = "weight";
+        /**
+         * Specify the maximum distance of the path (optional)
+         */
+        String MAX_DISTANCE = "maxDistance";
+        /**
+         * Specify whether to include the edges in the path (optional), default is false
+         */
+        String INCLUDE_EDGES = "includeEdges";
+
+        Map DESCRIBE = asMap(
+                TARGET, "Specify the target vertex or its id",
+                DIRECTION, "Specify the edge direction to follow from the source (optional), default is Direction.BOTH",
+                LABELS, "Specify an edge label or a collection of them to follow (optional), default is all labels",
+                WEIGHT, "Specify the edge property that holds the weight of an edge (optional), default is a weight of one per edge",
+                MAX_DISTANCE, "Specify the maximum distance of the path (optional)",
+                INCLUDE_EDGES, "Specify whether to include the edges in the path (optional), default is false"
+        );
+    }
+
+    public TinkerShortestPathFactory(final TinkerGraph graph) {
+        super(graph, NAME);
+    }
+
+    @Override
+    public Type getType() {
+        return Type.Streaming;
+    }
+
+    @Override
+    public Map describeParams() {
+        return Params.DESCRIBE;
+    }
+
+    @Override
+    public Set<Type> getSupportedTypes() {
+        return Collections.singleton(Type.Streaming);
+    }
+
+    @Override
+    public Service<Vertex, Path> createService(final boolean isStart, final Map params) {
+        if (isStart) {
+            throw new UnsupportedOperationException(Service.Exceptions.cannotStartTraversal);
+        }
+        return this;
+    }
+
+    @Override
+    public CloseableIterator<Path> execute(final ServiceCallContext ctx, final Traverser.Admin<Vertex> in, final Map params) {
+        if (!params.containsKey(Params.TARGET))
+            throw new IllegalStateException("Missing target parameter");
+        final Vertex target = target(params.get(Params.TARGET));
+        if (null == target)
+            return CloseableIterator.empty();
+
+        final Direction direction = (Direction) params.getOrDefault(Params.DIRECTION, Direction.BOTH);
+        final String[] labels = labels(params.get(Params.LABELS));
+        final String weight = (String) params.get(Params.WEIGHT);
+        final Number maxDistance = (Number) params.get(Params.MAX_DISTANCE);
+        final boolean includeEdges = (boolean) params.getOrDefault(Params.INCLUDE_EDGES, false);
+
+        final Search forward = new Search(in.get(), direction, labels, weight);
+        final Search backward = new Search(target, direction.opposite(), labels, weight);
+        final Vertex meeting = null == weight ?
+                breadthFirst(forward, backward, null == maxDistance ? Long.MAX_VALUE : maxDistance.longValue()) :
+                dijkstra(forward, backward, null == maxDistance ? Double.POSITIVE_INFINITY : maxDistance.doubleValue());
+        if (null == meeting)
+            return CloseableIterator.empty();
+
+        final Path path = path(forward, backward, meeting, includeEdges);
+        return CloseableIterator.of(LongStream.range(0, in.bulk()).mapToObj(i -> path).iterator());
+    }
+
+    @Override
+    public void close() {}
+
+    /**
+     * Gets the target from the graph, whether given as an id or as a vertex which might be a reference.
+     */
+    private Vertex target(final Object target) {
+        if (null == target)
+            return null;
+        final Iterator<Vertex> vertices = graph.vertices(target instanceof Vertex ? ((Vertex) target).id() : target);
+        return vertices.hasNext() ? vertices.next() : null;
+    }
+
+    private static String[] labels(final Object labels) {
+        if (null == labels)
+            return new String[0];
+        if (labels instanceof Collection)
+            return ((Collection<?>) labels).stream().map(String::valueOf).toArray(String[]::new);
+        return new String[] { labels.toString() };
+    }
+
+    /**
+     * Expands whole levels from the side with the fewer vertices to expand. The first level to reach a vertex seen
+     * by the other side holds every shortest path, so the best meeting vertex of that level is the answer.
+     */
+    private static Vertex breadthFirst(final Search forward, final Search backward, final long maxDistance) {
+        if (forward.root.equals(backward.root))
+            return forward.root;
+
+        List<Vertex> forwardFrontier = Collections.singletonList(forward.root);
+        List<Vertex> backwardFrontier = Collections.singletonList(backward.root);
+        long forwardLevel = 0;
+        long backwardLevel = 0;
+        while (!forwardFrontier.isEmpty() && !backwardFrontier.isEmpty() && forwardLevel + backwardLevel < maxDistance) {
+            final boolean expandForward = forwardFrontier.size() <= backwardFrontier.size();
+            final Search search = expandForward ? forward : backward;
+            final Search other = expandForward ? backward : forward;
+            final List<Vertex> next = new ArrayList<>();
+            Vertex meeting = null;
+            double best = Double.POSITIVE_INFINITY;
+            for (final Vertex vertex : expandForward ? forwardFrontier : backwardFrontier) {
+                final double distance = search.distances.get(vertex) + 1;
+                final Iterator<Edge> edges = vertex.edges(search.direction, search.labels);
+                while (edges.hasNext()) {
+                    final Edge edge = edges.next();
+                    final Vertex adjacent = otherVertex(edge, vertex);
+                    if (search.distances.containsKey(adjacent)) continue;
+
+                    search.reach(adjacent, distance, edge);
+                    next.add(adjacent);
+                    final Double otherDistance = other.distances.get(adjacent);
+                    if (null != otherDistance && distance + otherDistance < best) {
+                        best = distance + otherDistance;
+                        meeting = adjacent;
+                    }
+                }
+            }
+            if (null != meeting)
+                return best <= maxDistance ? meeting : null;
+
+            if (expandForward) {
+                forwardFrontier = next;
+                forwardLevel++;
+            } else {
+                backwardFrontier = next;
+                backwardLevel++;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Settles one vertex at a time from the side whose closest unsettled vertex is nearer. The search can stop once
+     * the two closest unsettled vertices are together no nearer than the best path found, as any path through them
+     * would be at least that long.
+     */
+    private static Vertex dijkstra(final Search forward, final Search backward, final double maxDistance) {
+        if (forward.root.equals(backward.root))
+            return forward.root;
+
+        final PriorityQueue<Reached> forwardQueue = new PriorityQueue<>();
+        final PriorityQueue<Reached> backwardQueue = new PriorityQueue<>();
+        forwardQueue.add(new Reached(forward.root, 0.0d));
+        backwardQueue.add(new Reached(backward.root, 0.0d));
+        Vertex meeting = null;
+        double best = Double.POSITIVE_INFINITY;
+        while (!forwardQueue.isEmpty() && !backwardQueue.isEmpty() &&
+                forwardQueue.peek().distance + backwardQueue.peek().distance < Math.min(best, maxDistance)) {
+            final boolean expandForward = forwardQueue.peek().distance <= backwardQueue.peek().distance;
+            final Search search = expandForward ? forward : backward;
+            final Search other = expandForward ? backward : forward;
+            final PriorityQueue<Reached> queue = expandForward ? forwardQueue : backwardQueue;
+
+            final Reached reached = queue.poll();
+            if (reached.distance > search.distances.get(reached.vertex)) continue; // already settled nearer
+
+            final Iterator<Edge> edges = reached.vertex.edges(search.direction, search.labels);
+            while (edges.hasNext()) {
+                final Edge edge = edges.next();
+                final double weight = search.weight(edge);
+                final Vertex adjacent = otherVertex(edge, reached.vertex);
+                final double distance = reached.distance + weight;
+                final Double current = search.distances.get(adjacent);
+                if (distance > maxDistance || (null != current && distance >= current)) continue;
+
+                search.reach(adjacent, distance, edge);
+                queue.add(new Reached(adjacent, distance));
+                final Double otherDistance = other.distances.get(adjacent);
+                if (null != otherDistance && distance + otherDistance < best) {
+                    best = distance + otherDistance;
+                    meeting = adjacent;
+                }
+            }
+        }
+        return best <= maxDistance ? meeting : null;
+    }
+
+    private static Path path(final Search forward, final Search backward, final Vertex meeting, final boolean includeEdges) {
+        final List<Object> objects = new ArrayList<>();
+        forward.walkToRoot(meeting, objects, includeEdges);
+        Collections.reverse(objects);
+        objects.add(meeting);
+        backward.walkToRoot(meeting, objects, includeEdges);
+
+        Path path = ImmutablePath.make();
+        for (final Object object : objects) {
+            path = path.extend(object, Collections.emptySet());
+        }
+        return path;
+    }
+
+    private static Vertex otherVertex(final Edge edge, final Vertex vertex) {
+        final Vertex out = edge.outVertex();
+        return out.equals(vertex) ? edge.inVertex() : out;
+    }
+
+    /**
+     * The state of the search from one end of the path.
+     */
+    private static final class Search {
+        private final Vertex root;
+        private final Direction direction;
+        private final String[] labels;
+        private final String weight;
+        private final Map<Vertex, Double> distances = new HashMap<>();
+        private final Map<Vertex, Edge> reachedBy = new HashMap<>();
+
+        private Search(final Vertex root, final Direction direction, final String[] labels, final String weight) {
+            this.root = root;
+            this.direction = direction;
+            this.labels = labels;
+            this.weight = weight;
+            this.distances.put(root, 0.0d);
+        }
+
+        private void reach(final Vertex vertex, final double distance, final Edge edge) {
+            this.distances.put(vertex, distance);
+            this.reachedBy.put(vertex, edge);
+        }
+
+        private double weight(final Edge edge) {
+            final Object value = edge.property(this.weight).orElseThrow(() ->
+                    new IllegalStateException(String.format("Edge %s has no %s to use as its weight", edge, this.weight)));
+            if (!(value instanceof Number) || ((Number) value).doubleValue() < 0.0d)
+                throw new IllegalStateException(String.format("The %s of edge %s is not a non-negative number: %s", this.weight, edge, value));
+            return ((Number) value).doubleValue();
+        }
+
+        /**
+         * Adds the edges and vertices from the vertex, exclusive, back to the root of the search.
+         */
+        private void walkToRoot(final Vertex vertex, final List<Object> objects, final boolean includeEdges) {
+            Vertex current = vertex;
+            Edge edge;
+            while (null != (edge = this.reachedBy.get(current))) {
+                current = otherVertex(edge, current);
+                if (includeEdges) objects.add(edge);
+                objects.add(current);
+            }
+        }
+    }
+
+    private static final class Reached implements Comparable<Reached> {
+        private final Vertex vertex;
+        private final double distance;
+
+        private Reached(final Vertex vertex, final double distance) {
+            this.vertex = vertex;
+            this.distance = distance;
+        }
+
+        @Override
+        public int compareTo(final Reached other) {
+            return Double.compare(this.distance, other.distance);
+        }
+    }
+}
@@ -0,0 +1,419 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.structure;
+
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoMapper;
+import org.apache.tinkerpop.shaded.kryo.Kryo;
+import org.apache.tinkerpop.shaded.kryo.io.Input;
+import org.apache.tinkerpop.shaded.kryo.io.Output;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads and writes the "snapshot" format for {@link TinkerGraph} persistence, which is selected by setting
+ * {@link TinkerGraph#GREMLIN_TINKERGRAPH_GRAPH_FORMAT} to {@code snapshot}. The format is a binary dump of the graph
+ * with no support for reading it in anything other than {@link TinkerGraph}, which in exchange allows it to be read
+ * and written much faster than the general purpose formats. The file is written through a {@link FileChannel} and
+ * read through memory mapped regions of it. A new snapshot is written to a temporary file next to the existing one
+ * and then moved over it, so the existing file is never truncated and a failed write leaves it intact.
+ * <p/>
+ * The file begins with a header and a dictionary of the labels and property keys used in the graph, which elements
+ * then refer to by index. The vertices follow, each with their properties and meta-properties, and then the edges.
+ * Identifiers and property values of common types are written natively while others are written with Gryo.
+ */
+final class TinkerGraphSnapshot {
+
+    private static final int MAGIC = 0x54475331; // TGS1
+    private static final int VERSION = 1;
+
+    /**
+     * The size of each region of the file that is mapped into memory at once while reading.
+     */
+    private static final long MAPPED_REGION_SIZE = 1L << 30;
+
+    private static final byte END = 0;
+    private static final byte ELEMENT = 1;
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_INTEGER = 2;
+    private static final byte TYPE_LONG = 3;
+    private static final byte TYPE_DOUBLE = 4;
+    private static final byte TYPE_FLOAT = 5;
+    private static final byte TYPE_BOOLEAN = 6;
+    private static final byte TYPE_SHORT = 7;
+    private static final byte TYPE_BYTE = 8;
+    private static final byte TYPE_GRYO = 9;
+
+    private TinkerGraphSnapshot() {}
+
+    public static void write(final TinkerGraph graph, final File file) throws IOException {
+        // the dictionary goes first in the file so it must be gathered before the elements are written
+        final Map<String, Integer> dictionary = new HashMap<>();
+        graph.vertices.values().forEach(v -> {
+            lookup(dictionary, v.label());
+            v.properties().forEachRemaining(vp -> {
+                lookup(dictionary, vp.key());
+                vp.properties().forEachRemaining(p -> lookup(dictionary, p.key()));
+            });
+        });
+        graph.edges.values().forEach(e -> {
+            lookup(dictionary, e.label());
+            e.properties().forEachRemaining(p -> lookup(dictionary, p.key()));
+        });
+
+        final Path target = file.getAbsoluteFile().toPath();
+        final Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            write(graph, dictionary, temp);
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException amnse) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void write(final TinkerGraph graph, final Map<String, Integer> dictionary,
+                              final Path path) throws IOException {
+        try (final SnapshotOutput out = new SnapshotOutput(path)) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+
+            final String[] strings = new String[dictionary.size()];
+            dictionary.forEach((s, i) -> strings[i] = s);
+            out.writeInt(strings.length);
+            for (String s : strings) {
+                out.writeString(s);
+            }
+
+            for (Vertex v : graph.vertices.values()) {
+                out.writeByte(ELEMENT);
+                out.writeValue(v.id());
+                out.writeInt(dictionary.get(v.label()));
+                final Iterator<VertexProperty<Object>> vertexProperties = v.properties();
+                while (vertexProperties.hasNext()) {
+                    final VertexProperty<Object> vp = vertexProperties.next();
+                    out.writeByte(ELEMENT);
+                    out.writeValue(vp.id());
+                    out.writeInt(dictionary.get(vp.key()));
+                    out.writeValue(vp.value());
+                    writeProperties(out, dictionary, vp.properties());
+                }
+                out.writeByte(END);
+            }
+            out.writeByte(END);
+
+            for (Edge e : graph.edges.values()) {
+                out.writeByte(ELEMENT);
+                out.writeValue(e.id());
+                out.writeInt(dictionary.get(e.label()));
+                out.writeValue(e.outVertex().id());
+                out.writeValue(e.inVertex().id());
+                writeProperties(out, dictionary, e.properties());
+            }
+            out.writeByte(END);
+        }
+    }
+
+    public static void read(final TinkerGraph graph, final File file) throws IOException {
+        try (final SnapshotInput in = new SnapshotInput(file)) {
+            if (in.readInt() != MAGIC)
+                throw new IOException(String.format("%s is not a TinkerGraph snapshot", file));
+            final int version = in.readInt();
+            if (version != VERSION)
+                throw new IOException(String.format("%s has unsupported TinkerGraph snapshot version %s", file, version));
+
+            final String[] dictionary = new String[in.readInt()];
+            for (int i = 0; i < dictionary.length; i++) {
+                dictionary[i] = in.readString();
+            }
+
+            final List<Object> keyValues = new ArrayList<>();
+            while (in.readByte() == ELEMENT) {
+                final Object id = in.readValue();
+                final String label = dictionary[in.readInt()];
+                final Vertex v = graph.addVertex(T.id, id, T.label, label);
+                while (in.readByte() == ELEMENT) {
+                    keyValues.clear();
+                    keyValues.add(T.id);
+                    keyValues.add(in.readValue());
+                    final String key = dictionary[in.readInt()];
+                    final Object value = in.readValue();
+                    readProperties(in, dictionary, keyValues);
+                    v.property(VertexProperty.Cardinality.list, key, value, keyValues.toArray());
+                }
+            }
+
+            while (in.readByte() == ELEMENT) {
+                keyValues.clear();
+                keyValues.add(T.id);
+                keyValues.add(in.readValue());
+                final String label = dictionary[in.readInt()];
+                final Vertex outV = graph.vertices.get(in.readValue());
+                final Vertex inV = graph.vertices.get(in.readValue());
+                readProperties(in, dictionary, keyValues);
+                outV.addEdge(label, inV, keyValues.toArray());
+            }
+        }
+    }
+
+    private static int lookup(final Map<String, Integer> dictionary, final String s) {
+        return dictionary.computeIfAbsent(s, k -> dictionary.size());
+    }
+
+    private static <V> void writeProperties(final SnapshotOutput out, final Map<String, Integer> dictionary,
+                                            final Iterator<? extends Property<V>> properties) throws IOException {
+        while (properties.hasNext()) {
+            final Property<V> p = properties.next();
+            out.writeByte(ELEMENT);
+            out.writeInt(dictionary.get(p.key()));
+            out.writeValue(p.value());
+        }
+        out.writeByte(END);
+    }
+
+    private static void readProperties(final SnapshotInput in, final String[] dictionary,
+                                       final List<Object> keyValues) throws IOException {
+        while (in.readByte() == ELEMENT) {
+            keyValues.add(dictionary[in.readInt()]);
+            keyValues.add(in.readValue());
+        }
+    }
+
+    private static Kryo createKryo() {
+        return GryoMapper.build().addRegistry(TinkerIoRegistryV3d0.instance()).create().createMapper();
+    }
+
+    /**
+     * Writes to the file through a buffer that is flushed to its {@link FileChannel} as it fills.
+     */
+    private static final class SnapshotOutput implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20);
+        private Kryo kryo;
+        private Output kryoOutput;
+
+        SnapshotOutput(final Path path) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        }
+
+        private void ensure(final int bytes) throws IOException {
+            if (buffer.remaining() < bytes) flush();
+        }
+
+        void writeByte(final byte b) throws IOException {
+            ensure(Byte.BYTES);
+            buffer.put(b);
+        }
+
+        void writeInt(final int i) throws IOException {
+            ensure(Integer.BYTES);
+            buffer.putInt(i);
+        }
+
+        void writeBytes(final byte[] bytes, final int length) throws IOException {
+            writeInt(length);
+            if (length > buffer.capacity()) {
+                flush();
+                final ByteBuffer wrapped = ByteBuffer.wrap(bytes, 0, length);
+                while (wrapped.hasRemaining()) {
+                    channel.write(wrapped);
+                }
+            } else {
+                ensure(length);
+                buffer.put(bytes, 0, length);
+            }
+        }
+
+        void writeString(final String s) throws IOException {
+            final byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            writeBytes(bytes, bytes.length);
+        }
+
+        void writeValue(final Object o) throws IOException {
+            ensure(Byte.BYTES + Long.BYTES);
+            if (null == o) {
+                buffer.put(TYPE_NULL);
+            } else if (o instanceof String) {
+                buffer.put(TYPE_STRING);
+                writeString((String) o);
+            } else if (o instanceof Integer) {
+                buffer.put(TYPE_INTEGER).putInt((Integer) o);
+            } else if (o instanceof Long) {
+                buffer.put(TYPE_LONG).putLong((Long) o);
+            } else if (o instanceof Double) {
+                buffer.put(TYPE_DOUBLE).putDouble((Double) o);
+            } else if (o instanceof Float) {
+                buffer.put(TYPE_FLOAT).putFloat((Float) o);
+            } else if (o instanceof Boolean) {
+                buffer.put(TYPE_BOOLEAN).put((byte) ((Boolean) o ? 1 : 0));
+            } else if (o instanceof Short) {
+                buffer.put(TYPE_SHORT).putShort((Short) o);
+            } else if (o instanceof Byte) {
+                buffer.put(TYPE_BYTE).put((Byte) o);
+            } else {
+                buffer.put(TYPE_GRYO);
+                if (null == kryo) {
+                    kryo = createKryo();
+                    kryoOutput = new Output(4096, -1);
+                }
+                kryoOutput.clear();
+                kryo.writeClassAndObject(kryoOutput, o);
+                writeBytes(kryoOutput.getBuffer(), kryoOutput.position());
+            }
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Reads the file through regions of it that are mapped into memory one after the other, as a single mapping
+     * cannot exceed 2GB. Closing it closes the channel and drops the last mapped region so that nothing keeps the
+     * file mapped once loading completes.
+     */
+    private static final class SnapshotInput implements AutoCloseable {
+        private FileChannel channel;
+        private final long size;
+        private long regionStart = 0;
+        private MappedByteBuffer region;
+        private Kryo kryo;
+
+        SnapshotInput(final File file) throws IOException {
+            this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+            this.size = channel.size();
+            this.region = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(size, MAPPED_REGION_SIZE));
+        }
+
+        /**
+         * Maps a new region starting at the current position if the current one does not hold the next bytes.
+         */
+        private void ensure(final int bytes) throws IOException {
+            if (region.remaining() >= bytes) return;
+            final long position = regionStart + region.position();
+            if (position + bytes > size)
+                throw new IOException("Unexpected end of TinkerGraph snapshot");
+            regionStart = position;
+            region = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(size - position, Math.max(bytes, MAPPED_REGION_SIZE)));
+        }
+
+        byte readByte() throws IOException {
+            ensure(Byte.BYTES);
+            return region.get();
+        }
+
+        int readInt() throws IOException {
+            ensure(Integer.BYTES);
+            return region.getInt();
+        }
+
+        byte[] readBytes() throws IOException {
+            final int length = readInt();
+            ensure(length);
+            final byte[] bytes = new byte[length];
+            region.get(bytes);
+            return bytes;
+        }
+
+        String readString() throws IOException {
+            return new String(readBytes(), StandardCharsets.UTF_8);
+        }
+
+        Object readValue() throws IOException {
+            final byte type = readByte();
+            switch (type) {
+                case TYPE_NULL:
+                    return null;
+                case TYPE_STRING:
+                    return readString();
+                case TYPE_INTEGER:
+                    return readInt();
+                case TYPE_LONG:
+                    ensure(Long.BYTES);
+                    return region.getLong();
+                case TYPE_DOUBLE:
+                    ensure(Double.BYTES);
+                    return region.getDouble();
+                case TYPE_FLOAT:
+                    ensure(Float.BYTES);
+                    return region.getFloat();
+                case TYPE_BOOLEAN:
+                    return readByte() != 0;
+                case TYPE_SHORT:
+                    ensure(Short.BYTES);
+                    return region.getShort();
+                case TYPE_BYTE:
+                    return readByte();
+                case TYPE_GRYO:
+                    if (null == kryo) kryo = createKryo();
+                    return kryo.readClassAndObject(new Input(readBytes()));
+                default:
+                    throw new IOException(String.format("Unknown value type %s in TinkerGraph snapshot", type));
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            region = null;
+            try {
+                channel.close();
+            } finally {
+                channel = null;
+            }
+        }
+    }
+}
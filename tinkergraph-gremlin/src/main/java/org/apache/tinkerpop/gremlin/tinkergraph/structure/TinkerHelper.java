@@ -20,6 +20,7 @@ package org.apache.tinkerpop.gremlin.tinkergraph.structure;
 
 import org.apache.tinkerpop.gremlin.process.computer.GraphFilter;
 import org.apache.tinkerpop.gremlin.process.computer.VertexComputeKey;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
@@ -104,6 +105,49 @@ public final class TinkerHelper {
         return null == graph.edgeIndex ? Collections.emptyList() : graph.edgeIndex.get(key, value);
     }
 
+    /**
+     * Query the vertex indexes for the vertices that have all of the key/value pairs, using a composite index and
+     * intersecting the postings of single key indexes as needed. Returns {@code null} if none of the keys are
+     * indexed.
+     */
+    public static List<TinkerVertex> queryVertexIndex(final TinkerGraph graph, final Map<String, Object> keyValues) {
+        return null == graph.vertexIndex ? null : graph.vertexIndex.get(keyValues);
+    }
+
+    /**
+     * Query the edge indexes for the edges that have all of the key/value pairs, using a composite index and
+     * intersecting the postings of single key indexes as needed. Returns {@code null} if none of the keys are
+     * indexed.
+     */
+    public static List<TinkerEdge> queryEdgeIndex(final TinkerGraph graph, final Map<String, Object> keyValues) {
+        return null == graph.edgeIndex ? null : graph.edgeIndex.get(keyValues);
+    }
+
+    /**
+     * Query a {@link TinkerGraph.IndexType#RANGE} vertex index with a predicate for which
+     * {@link #isRangeQuery(P)} is {@code true}. The returned vertices may still need to be tested against the
+     * predicate. Returns {@code null} if the key does not have a range index.
+     */
+    public static List<TinkerVertex> queryVertexIndex(final TinkerGraph graph, final String key, final P<?> predicate) {
+        return null == graph.vertexIndex ? null : graph.vertexIndex.get(key, predicate);
+    }
+
+    /**
+     * Query a {@link TinkerGraph.IndexType#RANGE} edge index with a predicate for which
+     * {@link #isRangeQuery(P)} is {@code true}. The returned edges may still need to be tested against the
+     * predicate. Returns {@code null} if the key does not have a range index.
+     */
+    public static List<TinkerEdge> queryEdgeIndex(final TinkerGraph graph, final String key, final P<?> predicate) {
+        return null == graph.edgeIndex ? null : graph.edgeIndex.get(key, predicate);
+    }
+
+    /**
+     * Determines if the predicate can be answered by a {@link TinkerGraph.IndexType#RANGE} index.
+     */
+    public static boolean isRangeQuery(final P<?> predicate) {
+        return TinkerIndex.isRangeQuery(predicate);
+    }
+
     public static boolean inComputerMode(final TinkerGraph graph) {
         return null != graph.graphComputerView;
     }
@@ -18,27 +18,53 @@
  */
 package org.apache.tinkerpop.gremlin.tinkergraph.structure;
 
+import org.apache.tinkerpop.gremlin.process.traversal.Compare;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Text;
+import org.apache.tinkerpop.gremlin.process.traversal.util.AndP;
+import org.apache.tinkerpop.gremlin.process.traversal.util.OrP;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.util.GremlinValueComparator;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.BiPredicate;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 final class TinkerIndex<T extends Element> {
 
+    /**
+     * Sorts the values of a {@link TinkerGraph.IndexType#RANGE} index with Gremlin orderability semantics where
+     * {@link IndexedNull} is treated as {@code null}.
+     */
+    private static final Comparator<Object> RANGE_COMPARATOR = (a, b) -> GremlinValueComparator.ORDERABILITY.compare(
+            a instanceof IndexedNull ? null : a, b instanceof IndexedNull ? null : b);
+
+    /**
+     * The key used by composite indexes to refer to the label of the element.
+     */
+    private static final String LABEL_KEY = org.apache.tinkerpop.gremlin.structure.T.label.getAccessor();
+
     protected Map<String, Map<Object, Set<T>>> index = new ConcurrentHashMap<>();
     protected final Class<T> indexClass;
     private final Set<String> indexedKeys = new HashSet<>();
+    private final Set<String> rangeIndexedKeys = new HashSet<>();
+    private final Map<List<String>, CompositeIndex<T>> compositeIndexes = new ConcurrentHashMap<>();
     private final TinkerGraph graph;
 
     public TinkerIndex(final TinkerGraph graph, final Class<T> indexClass) {
@@ -49,13 +75,15 @@ final class TinkerIndex<T extends Element> {
     protected void put(final String key, final Object value, final T element) {
         Map<Object, Set<T>> keyMap = this.index.get(key);
         if (null == keyMap) {
-            this.index.putIfAbsent(key, new ConcurrentHashMap<>());
+            this.index.putIfAbsent(key, this.rangeIndexedKeys.contains(key) ?
+                    new ConcurrentSkipListMap<>(RANGE_COMPARATOR) : new ConcurrentHashMap<>());
             keyMap = this.index.get(key);
         }
-        Set<T> objects = keyMap.get(value);
+        final Object indexableValue = indexable(value);
+        Set<T> objects = keyMap.get(indexableValue);
         if (null == objects) {
-            keyMap.putIfAbsent(value, ConcurrentHashMap.newKeySet());
-            objects = keyMap.get(value);
+            keyMap.putIfAbsent(indexableValue, ConcurrentHashMap.newKeySet());
+            objects = keyMap.get(indexableValue);
         }
         objects.add(element);
     }
@@ -73,6 +101,82 @@ final class TinkerIndex<T extends Element> {
         }
     }
 
+    /**
+     * Gets the elements that have all of the key/value pairs by way of the indexes. The composite index that covers
+     * the most of the keys is used if there is one and the postings of the remaining keys that have their own index
+     * are intersected with it, starting from the smallest. Returns {@code null} if none of the keys can be answered
+     * by an index.
+     */
+    public List<T> get(final Map<String, Object> keyValues) {
+        CompositeIndex<T> compositeIndex = null;
+        for (final CompositeIndex<T> candidate : this.compositeIndexes.values()) {
+            if (keyValues.keySet().containsAll(candidate.keys) &&
+                    (null == compositeIndex || candidate.keys.size() > compositeIndex.keys.size()))
+                compositeIndex = candidate;
+        }
+
+        final List<Set<T>> postings = new ArrayList<>();
+        if (null != compositeIndex)
+            postings.add(compositeIndex.get(keyValues));
+        for (final Map.Entry<String, Object> keyValue : keyValues.entrySet()) {
+            if (this.indexedKeys.contains(keyValue.getKey()) &&
+                    (null == compositeIndex || !compositeIndex.keys.contains(keyValue.getKey())))
+                postings.add(getPosting(keyValue.getKey(), keyValue.getValue()));
+        }
+
+        if (postings.isEmpty())
+            return null;
+        else if (postings.size() == 1)
+            return new ArrayList<>(postings.get(0));
+
+        // the size of a posting is the same estimate that count() gives so iterate the smallest and probe the rest
+        postings.sort(Comparator.comparingInt(Set::size));
+        final List<T> list = new ArrayList<>();
+        for (final T element : postings.get(0)) {
+            boolean matches = true;
+            for (int i = 1; i < postings.size() && matches; i++) {
+                matches = postings.get(i).contains(element);
+            }
+            if (matches) list.add(element);
+        }
+        return list;
+    }
+
+    private Set<T> getPosting(final String key, final Object value) {
+        final Map<Object, Set<T>> keyMap = this.index.get(key);
+        if (null == keyMap)
+            return Collections.emptySet();
+        final Set<T> set = keyMap.get(indexable(value));
+        return null == set ? Collections.emptySet() : set;
+    }
+
+    /**
+     * Gets the elements with a value for the key that could satisfy the predicate by way of a
+     * {@link TinkerGraph.IndexType#RANGE} index. The predicate must be one for which {@link #isRangeQuery(P)} is
+     * {@code true}. Returns {@code null} if the key does not have a range index.
+     */
+    public List<T> get(final String key, final P<?> predicate) {
+        final Map<Object, Set<T>> keyMap = this.index.get(key);
+        if (!(keyMap instanceof NavigableMap))
+            return this.rangeIndexedKeys.contains(key) ? Collections.emptyList() : null;
+
+        final List<Range> ranges = toRanges(predicate);
+        if (null == ranges)
+            throw new IllegalArgumentException("The predicate cannot be answered by a range index: " + predicate);
+
+        final NavigableMap<Object, Set<T>> sortedMap = (NavigableMap<Object, Set<T>>) keyMap;
+        if (ranges.size() == 1) {
+            final List<T> list = new ArrayList<>();
+            ranges.get(0).collect(sortedMap, list);
+            return list;
+        } else {
+            // ranges of an OrP may overlap so the elements need to be de-duplicated
+            final Set<T> set = new LinkedHashSet<>();
+            ranges.forEach(r -> r.collect(sortedMap, set));
+            return new ArrayList<>(set);
+        }
+    }
+
     public long count(final String key, final Object value) {
         final Map<Object, Set<T>> keyMap = this.index.get(key);
         if (null == keyMap) {
@@ -87,13 +191,18 @@ final class TinkerIndex<T extends Element> {
     }
 
     public void remove(final String key, final Object value, final T element) {
+        this.removeValue(key, value, element);
+        this.updateCompositeIndexes(key, element);
+    }
+
+    private void removeValue(final String key, final Object value, final T element) {
         final Map<Object, Set<T>> keyMap = this.index.get(key);
         if (null != keyMap) {
             final Set<T> objects = keyMap.get(indexable(value));
             if (null != objects) {
                 objects.remove(element);
                 if (objects.size() == 0) {
-                    keyMap.remove(value);
+                    keyMap.remove(indexable(value));
                 }
             }
         }
@@ -106,24 +215,49 @@ final class TinkerIndex<T extends Element> {
                     set.remove(element);
                 }
             }
+            for (CompositeIndex<T> compositeIndex : this.compositeIndexes.values()) {
+                compositeIndex.remove(element);
+            }
         }
     }
 
     public void autoUpdate(final String key, final Object newValue, final Object oldValue, final T element) {
         if (this.indexedKeys.contains(key)) {
-            this.remove(key, oldValue, element);
+            this.removeValue(key, oldValue, element);
             this.put(key, newValue, element);
         }
+        this.updateCompositeIndexes(key, element);
+    }
+
+    /**
+     * Re-reads the values of the element for each composite index that includes the key. This is called after the
+     * element has been modified so the current state of the element is what gets indexed.
+     */
+    private void updateCompositeIndexes(final String key, final T element) {
+        if (this.compositeIndexes.isEmpty())
+            return;
+        for (CompositeIndex<T> compositeIndex : this.compositeIndexes.values()) {
+            if (compositeIndex.keys.contains(key))
+                compositeIndex.update(element);
+        }
     }
 
     public void createKeyIndex(final String key) {
+        createKeyIndex(key, TinkerGraph.IndexType.HASH);
+    }
+
+    public void createKeyIndex(final String key, final TinkerGraph.IndexType indexType) {
         if (null == key)
             throw Graph.Exceptions.argumentCanNotBeNull("key");
         if (key.isEmpty())
             throw new IllegalArgumentException("The key for the index cannot be an empty string");
+        if (null == indexType)
+            throw Graph.Exceptions.argumentCanNotBeNull("indexType");
 
         if (this.indexedKeys.contains(key))
             return;
+        if (indexType == TinkerGraph.IndexType.RANGE)
+            this.rangeIndexedKeys.add(key);
         this.indexedKeys.add(key);
 
         (Vertex.class.isAssignableFrom(this.indexClass) ?
@@ -139,6 +273,44 @@ final class TinkerIndex<T extends Element> {
             this.index.remove(key).clear();
 
         this.indexedKeys.remove(key);
+        this.rangeIndexedKeys.remove(key);
+    }
+
+    public void createCompositeIndex(final List<String> keys) {
+        if (null == keys)
+            throw Graph.Exceptions.argumentCanNotBeNull("keys");
+        if (keys.size() < 2)
+            throw new IllegalArgumentException("A composite index requires at least two keys");
+        for (String key : keys) {
+            if (null == key)
+                throw Graph.Exceptions.argumentCanNotBeNull("key");
+            if (key.isEmpty())
+                throw new IllegalArgumentException("The key for the index cannot be an empty string");
+        }
+        if (new HashSet<>(keys).size() != keys.size())
+            throw new IllegalArgumentException("The keys of a composite index must be unique: " + keys);
+
+        final List<String> compositeKeys = Collections.unmodifiableList(new ArrayList<>(keys));
+        if (this.compositeIndexes.containsKey(compositeKeys))
+            return;
+
+        final CompositeIndex<T> compositeIndex = new CompositeIndex<>(compositeKeys);
+        this.compositeIndexes.put(compositeKeys, compositeIndex);
+
+        (Vertex.class.isAssignableFrom(this.indexClass) ?
+                this.graph.vertices.values().parallelStream() :
+                this.graph.edges.values().parallelStream())
+                .forEach(e -> compositeIndex.update((T) e));
+    }
+
+    public void dropCompositeIndex(final List<String> keys) {
+        final CompositeIndex<T> compositeIndex = this.compositeIndexes.remove(keys);
+        if (null != compositeIndex)
+            compositeIndex.clear();
+    }
+
+    public Set<List<String>> getCompositeIndexedKeys() {
+        return Collections.unmodifiableSet(this.compositeIndexes.keySet());
     }
 
     /**
@@ -153,6 +325,257 @@ final class TinkerIndex<T extends Element> {
         return this.indexedKeys;
     }
 
+    public Set<String> getRangeIndexedKeys() {
+        return this.rangeIndexedKeys;
+    }
+
+    /**
+     * Determines if the predicate can be answered by a {@link TinkerGraph.IndexType#RANGE} index, which is the case
+     * for {@code lt}, {@code lte}, {@code gt}, {@code gte}, {@code startingWith} and the {@link AndP} and
+     * {@link OrP} combinations of them (e.g. {@code inside}, {@code between} and {@code outside}).
+     */
+    public static boolean isRangeQuery(final P<?> predicate) {
+        return null != toRanges(predicate);
+    }
+
+    /**
+     * Converts the predicate to a union of {@link Range} objects or returns {@code null} if that is not possible.
+     */
+    private static List<Range> toRanges(final P<?> predicate) {
+        if (predicate instanceof OrP) {
+            final List<Range> ranges = new ArrayList<>();
+            for (final P<?> p : ((OrP<?>) predicate).getPredicates()) {
+                final List<Range> r = toRanges(p);
+                if (null == r) return null;
+                ranges.addAll(r);
+            }
+            return ranges;
+        } else if (predicate instanceof AndP) {
+            List<Range> ranges = null;
+            for (final P<?> p : ((AndP<?>) predicate).getPredicates()) {
+                final List<Range> r = toRanges(p);
+                if (null == r) return null;
+                if (null == ranges)
+                    ranges = r;
+                else {
+                    final List<Range> intersections = new ArrayList<>();
+                    for (final Range a : ranges) {
+                        for (final Range b : r) {
+                            final Range intersection = a.intersect(b);
+                            if (null != intersection) intersections.add(intersection);
+                        }
+                    }
+                    ranges = intersections;
+                }
+            }
+            return ranges;
+        } else {
+            final Range range = Range.of(predicate);
+            return null == range ? null : Collections.singletonList(range);
+        }
+    }
+
+    /**
+     * A contiguous span of values of a single {@link GremlinValueComparator.Type} where a {@code null} bound means
+     * that the span is open to the end of that type.
+     */
+    private static final class Range {
+        private final GremlinValueComparator.Type type;
+        private final Object lower;
+        private final boolean lowerInclusive;
+        private final Object upper;
+        private final boolean upperInclusive;
+
+        private Range(final GremlinValueComparator.Type type, final Object lower, final boolean lowerInclusive,
+                      final Object upper, final boolean upperInclusive) {
+            this.type = type;
+            this.lower = lower;
+            this.lowerInclusive = lowerInclusive;
+            this.upper = upper;
+            this.upperInclusive = upperInclusive;
+        }
+
+        private static Range of(final P<?> predicate) {
+            final BiPredicate<?, ?> biPredicate = predicate.getBiPredicate();
+            final Object value = predicate.getValue();
+            if (null == value)
+                return null;
+
+            final GremlinValueComparator.Type type = GremlinValueComparator.Type.type(value);
+            if (type == GremlinValueComparator.Type.Unknown)
+                return null;
+
+            if (biPredicate == Compare.lt)
+                return new Range(type, null, false, value, false);
+            else if (biPredicate == Compare.lte)
+                return new Range(type, null, false, value, true);
+            else if (biPredicate == Compare.gt)
+                return new Range(type, value, false, null, false);
+            else if (biPredicate == Compare.gte)
+                return new Range(type, value, true, null, false);
+            else if (biPredicate == Text.startingWith && value instanceof String)
+                return new Range(type, value, true, prefixUpperBound((String) value), false);
+            else
+                return null;
+        }
+
+        /**
+         * Gets the smallest string that is greater than all strings starting with the prefix or {@code null} if
+         * there is no such string.
+         */
+        private static String prefixUpperBound(final String prefix) {
+            int end = prefix.length();
+            while (end > 0 && prefix.charAt(end - 1) == Character.MAX_VALUE) {
+                end--;
+            }
+            return 0 == end ? null : prefix.substring(0, end - 1) + (char) (prefix.charAt(end - 1) + 1);
+        }
+
+        /**
+         * Gets the overlap of this range and the other range or {@code null} if they are of different types.
+         */
+        private Range intersect(final Range other) {
+            if (this.type != other.type)
+                return null;
+
+            final Object lower;
+            final boolean lowerInclusive;
+            final int l = null == this.lower || null == other.lower ? 0 : RANGE_COMPARATOR.compare(this.lower, other.lower);
+            if (null == other.lower || (null != this.lower && l > 0)) {
+                lower = this.lower;
+                lowerInclusive = this.lowerInclusive;
+            } else if (null == this.lower || l < 0) {
+                lower = other.lower;
+                lowerInclusive = other.lowerInclusive;
+            } else {
+                lower = this.lower;
+                lowerInclusive = this.lowerInclusive && other.lowerInclusive;
+            }
+
+            final Object upper;
+            final boolean upperInclusive;
+            final int u = null == this.upper || null == other.upper ? 0 : RANGE_COMPARATOR.compare(this.upper, other.upper);
+            if (null == other.upper || (null != this.upper && u < 0)) {
+                upper = this.upper;
+                upperInclusive = this.upperInclusive;
+            } else if (null == this.upper || u > 0) {
+                upper = other.upper;
+                upperInclusive = other.upperInclusive;
+            } else {
+                upper = this.upper;
+                upperInclusive = this.upperInclusive && other.upperInclusive;
+            }
+
+            return new Range(this.type, lower, lowerInclusive, upper, upperInclusive);
+        }
+
+        /**
+         * Adds the elements of the sorted index that fall within this range to the collection.
+         */
+        private <T> void collect(final NavigableMap<Object, Set<T>> sortedMap, final Collection<T> elements) {
+            if (null != this.lower && null != this.upper) {
+                final int c = RANGE_COMPARATOR.compare(this.lower, this.upper);
+                if (c > 0 || (c == 0 && !(this.lowerInclusive && this.upperInclusive)))
+                    return;
+                sortedMap.subMap(this.lower, this.lowerInclusive, this.upper, this.upperInclusive).values().forEach(elements::addAll);
+            } else if (null != this.lower) {
+                // values are sorted by type first so stop once the type changes
+                for (final Map.Entry<Object, Set<T>> entry : sortedMap.tailMap(this.lower, this.lowerInclusive).entrySet()) {
+                    if (GremlinValueComparator.Type.type(entry.getKey()) != this.type) break;
+                    elements.addAll(entry.getValue());
+                }
+            } else {
+                for (final Map.Entry<Object, Set<T>> entry : sortedMap.headMap(this.upper, this.upperInclusive).descendingMap().entrySet()) {
+                    if (GremlinValueComparator.Type.type(entry.getKey()) != this.type) break;
+                    elements.addAll(entry.getValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * An index over the combined values of several keys of an element where {@link #LABEL_KEY} refers to the label.
+     * An element is only indexed if it has a value for every key and multi-properties are indexed under every
+     * combination of their values.
+     */
+    private static final class CompositeIndex<T extends Element> {
+        private final List<String> keys;
+        private final Map<List<Object>, Set<T>> index = new ConcurrentHashMap<>();
+
+        /**
+         * The value combinations that each element is indexed under so that they can be removed when it changes.
+         */
+        private final Map<T, Set<List<Object>>> entries = new ConcurrentHashMap<>();
+
+        private CompositeIndex(final List<String> keys) {
+            this.keys = keys;
+        }
+
+        private Set<T> get(final Map<String, Object> keyValues) {
+            final List<Object> values = new ArrayList<>(this.keys.size());
+            for (String key : this.keys) {
+                values.add(indexable(keyValues.get(key)));
+            }
+            return this.index.getOrDefault(values, Collections.emptySet());
+        }
+
+        private void update(final T element) {
+            this.remove(element);
+            final Set<List<Object>> combinations = combinations(element);
+            if (combinations.isEmpty())
+                return;
+
+            this.entries.put(element, combinations);
+            for (List<Object> values : combinations) {
+                this.index.computeIfAbsent(values, k -> ConcurrentHashMap.newKeySet()).add(element);
+            }
+        }
+
+        private void remove(final T element) {
+            final Set<List<Object>> combinations = this.entries.remove(element);
+            if (null == combinations)
+                return;
+
+            for (List<Object> values : combinations) {
+                final Set<T> elements = this.index.get(values);
+                if (null != elements) {
+                    elements.remove(element);
+                    if (elements.isEmpty())
+                        this.index.remove(values);
+                }
+            }
+        }
+
+        private void clear() {
+            this.index.clear();
+            this.entries.clear();
+        }
+
+        private Set<List<Object>> combinations(final T element) {
+            Set<List<Object>> combinations = Collections.singleton(Collections.emptyList());
+            for (String key : this.keys) {
+                final Set<Object> values = new LinkedHashSet<>();
+                if (key.equals(LABEL_KEY))
+                    values.add(element.label());
+                else
+                    element.properties(key).forEachRemaining(p -> values.add(indexable(p.value())));
+                if (values.isEmpty())
+                    return Collections.emptySet();
+
+                final Set<List<Object>> next = new HashSet<>();
+                for (List<Object> combination : combinations) {
+                    for (Object value : values) {
+                        final List<Object> extended = new ArrayList<>(combination);
+                        extended.add(value);
+                        next.add(extended);
+                    }
+                }
+                combinations = next;
+            }
+            return combinations;
+        }
+    }
+
     public static final class IndexedNull {
         private static final IndexedNull inst = new IndexedNull();
 
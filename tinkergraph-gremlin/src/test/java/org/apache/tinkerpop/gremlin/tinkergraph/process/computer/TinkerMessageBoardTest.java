@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
+
+import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
+import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.reference.ReferenceFactory;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class TinkerMessageBoardTest {
+
+    private static final MessageScope.Global GLOBAL = MessageScope.Global.instance();
+    private static final MessageCombiner<Integer> SUM = (a, b) -> a + b;
+
+    @Test
+    public void shouldCombineMessages() {
+        final TinkerGraph graph = TinkerGraph.open();
+        final Vertex v = graph.addVertex();
+        final TinkerMessageBoard<Integer> board = new TinkerMessageBoard<>(graph);
+
+        board.sendMessage(GLOBAL, v, 1, SUM);
+        board.sendMessage(GLOBAL, v, 2, SUM);
+        board.sendMessage(GLOBAL, v, 3, SUM);
+        assertEquals(Collections.emptyList(), board.receiveMessages(GLOBAL, v));
+
+        board.completeIteration();
+        assertEquals(Collections.singletonList(6), board.receiveMessages(GLOBAL, v));
+    }
+
+    @Test
+    public void shouldKeepAllMessagesWithoutCombiner() {
+        final TinkerGraph graph = TinkerGraph.open();
+        final Vertex v = graph.addVertex();
+        final Vertex u = graph.addVertex();
+        final TinkerMessageBoard<Integer> board = new TinkerMessageBoard<>(graph);
+
+        board.sendMessage(GLOBAL, v, 1, null);
+        board.sendMessage(GLOBAL, v, 2, null);
+        board.sendMessage(GLOBAL, ReferenceFactory.detach(u), 3, null);
+        board.completeIteration();
+
+        assertThat(board.receiveMessages(GLOBAL, v), containsInAnyOrder(1, 2));
+        assertEquals(Collections.singletonList(3), board.receiveMessages(GLOBAL, u));
+    }
+
+    @Test
+    public void shouldNotMistakeCombinedListForMessages() {
+        final TinkerGraph graph = TinkerGraph.open();
+        final Vertex v = graph.addVertex();
+        final TinkerMessageBoard<List<Integer>> board = new TinkerMessageBoard<>(graph);
+        final MessageCombiner<List<Integer>> concat = (a, b) -> {
+            final List<Integer> l = new ArrayList<>(a);
+            l.addAll(b);
+            return l;
+        };
+
+        board.sendMessage(GLOBAL, v, Collections.singletonList(1), concat);
+        board.sendMessage(GLOBAL, v, Collections.singletonList(2), concat);
+        board.completeIteration();
+
+        assertEquals(Collections.singletonList(Arrays.asList(1, 2)), board.receiveMessages(GLOBAL, v));
+    }
+
+    @Test
+    public void shouldOnlyReceiveMessagesFromPreviousIteration() {
+        final TinkerGraph graph = TinkerGraph.open();
+        final Vertex v = graph.addVertex();
+        final TinkerMessageBoard<Integer> board = new TinkerMessageBoard<>(graph);
+
+        board.sendMessage(GLOBAL, v, 1, SUM);
+        board.completeIteration();
+        board.sendMessage(GLOBAL, v, 10, SUM);
+        board.completeIteration();
+        assertEquals(Collections.singletonList(10), board.receiveMessages(GLOBAL, v));
+
+        board.completeIteration();
+        assertEquals(Collections.emptyList(), board.receiveMessages(GLOBAL, v));
+    }
+
+    @Test
+    public void shouldDropMessagesToUnknownVertices() {
+        final TinkerGraph graph = TinkerGraph.open();
+        graph.addVertex();
+        final TinkerMessageBoard<Integer> board = new TinkerMessageBoard<>(graph);
+        final Vertex added = graph.addVertex();
+
+        board.sendMessage(GLOBAL, added, 1, SUM);
+        board.completeIteration();
+        assertEquals(Collections.emptyList(), board.receiveMessages(GLOBAL, added));
+    }
+
+    @Test
+    public void shouldNotTrackActiveVerticesByDefault() {
+        final TinkerGraph graph = TinkerGraph.open();
+        final Vertex v = graph.addVertex();
+        final TinkerMessageBoard<Integer> board = new TinkerMessageBoard<>(graph);
+
+        new TinkerMessenger<>(v, board, Optional.of(SUM)).sendMessage(MessageScope.Global.of(v), 1);
+        board.completeIteration();
+        assertFalse(board.getActiveVertices().isPresent());
+    }
+
+    @Test
+    public void shouldActivateVerticesForNextIterationOnly() {
+        final TinkerGraph graph = TinkerGraph.open();
+        final Vertex a = graph.addVertex();
+        final Vertex b = graph.addVertex();
+        final Vertex c = graph.addVertex();
+        final TinkerMessageBoard<Integer> board = new TinkerMessageBoard<>(graph, true);
+        assertFalse(board.getActiveVertices().isPresent());
+
+        new TinkerMessenger<>(a, board, Optional.of(SUM)).sendMessage(MessageScope.Global.of(ReferenceFactory.detach(b)), 1);
+        new TinkerMessenger<>(c, board, Optional.of(SUM)).keepActive();
+        board.completeIteration();
+        assertThat(board.getActiveVertices().get(), containsInAnyOrder(b, c));
+
+        board.completeIteration();
+        assertEquals(Collections.emptyList(), board.getActiveVertices().get());
+    }
+
+    @Test
+    public void shouldActivateReceiversOfLocalMessages() {
+        final TinkerGraph graph = TinkerGraph.open();
+        final Vertex a = graph.addVertex();
+        final Vertex b = graph.addVertex();
+        final Vertex c = graph.addVertex();
+        final Vertex d = graph.addVertex();
+        a.addEdge("knows", b);
+        c.addEdge("knows", a);
+        d.addEdge("knows", c);
+        final TinkerMessageBoard<Integer> board = new TinkerMessageBoard<>(graph, true);
+
+        new TinkerMessenger<>(a, board, Optional.of(SUM)).sendMessage(MessageScope.Local.of(__::outE), 1);
+        board.completeIteration();
+        assertThat(board.getActiveVertices().get(), containsInAnyOrder(b));
+
+        new TinkerMessenger<>(a, board, Optional.of(SUM)).sendMessage(MessageScope.Local.of(__::bothE), 1);
+        board.completeIteration();
+        assertThat(board.getActiveVertices().get(), containsInAnyOrder(b, c));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
+
+import org.apache.tinkerpop.gremlin.process.computer.ranking.pagerank.PageRankVertexProgram;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class TinkerWorkerPoolTest {
+
+    @Test
+    public void shouldGiveEveryItemToExactlyOneIterator() throws Exception {
+        final List<Integer> items = IntStream.range(0, 10000).boxed().collect(Collectors.toList());
+        final TinkerWorkerPool.ChunkedList<Integer> chunks = new TinkerWorkerPool.ChunkedList<>(items, 4);
+        final Map<Integer, AtomicInteger> seen = new ConcurrentHashMap<>();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> chunks.iterator().forEachRemaining(
+                        item -> seen.computeIfAbsent(item, k -> new AtomicInteger()).incrementAndGet())));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(items.size(), seen.size());
+        seen.values().forEach(count -> assertEquals(1, count.get()));
+    }
+
+    @Test
+    public void shouldClaimAtLeastOneItemPerChunk() {
+        final TinkerWorkerPool.ChunkedList<Integer> chunks = new TinkerWorkerPool.ChunkedList<>(Collections.singletonList(1), 8);
+        assertEquals(1, chunks.getChunkSize());
+        assertEquals(Collections.singletonList(1), IteratorUtils.list(chunks.iterator()));
+        assertFalse(chunks.iterator().hasNext());
+    }
+
+    @Test
+    public void shouldExecuteVertexProgramOnAllVertices() throws Exception {
+        final TinkerGraph graph = TinkerGraph.open();
+        for (int i = 0; i < 1000; i++) {
+            graph.addVertex();
+        }
+
+        final PageRankVertexProgram vertexProgram = PageRankVertexProgram.build().create(graph);
+        final TinkerMemory memory = new TinkerMemory(vertexProgram, Collections.emptySet());
+        final Map<Object, AtomicInteger> seen = new ConcurrentHashMap<>();
+        try (final TinkerWorkerPool workers = new TinkerWorkerPool(graph, memory, 4)) {
+            workers.setVertexProgram(vertexProgram);
+            workers.executeVertexProgram((vertices, vp, workerMemory) -> {
+                while (vertices.hasNext()) {
+                    final Vertex vertex = vertices.next();
+                    seen.computeIfAbsent(vertex.id(), k -> new AtomicInteger()).incrementAndGet();
+                }
+            });
+        }
+
+        assertEquals(1000, seen.size());
+        seen.values().forEach(count -> assertEquals(1, count.get()));
+    }
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.tinkerpop.gremlin.tinkergraph.structure;
 
+import org.apache.tinkerpop.gremlin.process.traversal.Scope;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
@@ -27,6 +28,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSe
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.tinkergraph.services.TinkerDegreeCentralityFactory;
+import org.apache.tinkerpop.gremlin.tinkergraph.services.TinkerShortestPathFactory;
 import org.apache.tinkerpop.gremlin.tinkergraph.services.TinkerServiceRegistry;
 import org.apache.tinkerpop.gremlin.tinkergraph.services.TinkerTextSearchFactory;
 import org.apache.tinkerpop.gremlin.util.function.TriFunction;
@@ -199,6 +201,34 @@ public class TinkerGraphServiceTest {
         checkResult(0l, g.V().where(__.call("tinker.degree.centrality").is(100)).count());
     }
 
+    @Test
+    public void g_V_call_shortest_path() {
+        graph.getServiceRegistry().registerService(new TinkerShortestPathFactory(graph));
+
+        checkResult("path[v[1], v[3], v[6]]", g.V(1).call("tinker.shortest.path").with("target", 6).map(Object::toString));
+        checkResult("path[v[6], v[3], v[4], v[5]]", g.V(6).call("tinker.shortest.path").with("target", 5).map(Object::toString));
+        checkResult("path[v[1], v[4], v[5]]", g.V(1).call("tinker.shortest.path").with("target", 5).map(Object::toString));
+        checkResult("path[v[2]]", g.V(2).call("tinker.shortest.path").with("target", 2).map(Object::toString));
+        checkResult("path[v[1], e[9][1-created->3], v[3]]",
+                g.V(1).call("tinker.shortest.path").with("target", 3).with("includeEdges", true).map(Object::toString));
+
+        // direction, labels and max distance limit what is found
+        checkResult(0L, g.V(1).call("tinker.shortest.path").with("target", 6).with("direction", Direction.OUT).count());
+        checkResult("path[v[6], v[3]]", g.V(6).call("tinker.shortest.path").with("target", 3).with("direction", Direction.OUT).map(Object::toString));
+        checkResult("path[v[2], v[1], v[4]]", g.V(2).call("tinker.shortest.path").with("target", 4).with("labels", "knows").map(Object::toString));
+        checkResult(0L, g.V(2).call("tinker.shortest.path").with("target", 3).with("labels", Arrays.asList("knows")).count());
+        checkResult(0L, g.V(6).call("tinker.shortest.path").with("target", 5).with("maxDistance", 2).count());
+        checkResult(1L, g.V(6).call("tinker.shortest.path").with("target", 5).with("maxDistance", 3).count());
+
+        // weights favor the longer path through lop
+        checkResult("path[v[1], v[3], v[4], v[5]]", g.V(1).call("tinker.shortest.path").with("target", 5).with("weight", "weight").map(Object::toString));
+        checkResult(0L, g.V(1).call("tinker.shortest.path").with("target", 5).with("weight", "weight").with("maxDistance", 1.7).count());
+
+        // the target can be given by a traversal and paths are found from each incoming vertex
+        checkResults(Arrays.asList(3L, 4L, 2L, 4L), g.V().hasLabel("person").call("tinker.shortest.path").
+                with("target", __.V().has("name", "ripple")).count(Scope.local));
+    }
+
     /**
      * Demonstrates registration and usage of a Starting lambda service. Start services take no input and are run
      * via GraphTraversalSource. Text search above is another example of a Start service.
@@ -24,6 +24,7 @@ import org.apache.tinkerpop.gremlin.GraphHelper;
 import org.apache.tinkerpop.gremlin.TestHelper;
 import org.apache.tinkerpop.gremlin.process.computer.Computer;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.TextP;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
@@ -77,6 +78,7 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -85,6 +87,7 @@ import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -92,9 +95,11 @@ import static org.apache.tinkerpop.gremlin.process.traversal.AnonymousTraversalS
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.core.StringContains.containsString;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.junit.Assume.assumeThat;
@@ -253,6 +258,210 @@ public class TinkerGraphTest {
         }, 35)).has("name", "stephen").count().next());
     }
 
+    @Test
+    public void shouldUpdateVertexRangeIndicesInNewGraph() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.createIndex("age", Vertex.class, TinkerGraph.IndexType.RANGE);
+        assertEquals(Collections.singleton("age"), g.getIndexedKeys(Vertex.class));
+        assertEquals(Collections.singleton("age"), g.getRangeIndexedKeys(Vertex.class));
+
+        g.addVertex("name", "marko", "age", 29);
+        g.addVertex("name", "vadas", "age", 27);
+        g.addVertex("name", "josh", "age", 32);
+        g.addVertex("name", "peter", "age", 35);
+        g.addVertex("name", "noage", "age", "unknown");
+
+        // a tricky way to evaluate if indices are actually being used is to pass a fake BiPredicate to has()
+        // to get into the Pipeline and evaluate what's going through it. in this case, we know that the range
+        // index is used because only the names of vertices with an age greater than 30 pass through the pipeline.
+        assertEquals(new Long(2), g.traversal().V().has("name", P.test((t, u) -> {
+            assertTrue(t.equals("josh") || t.equals("peter"));
+            return true;
+        }, "x")).has("age", P.gt(30)).count().next());
+
+        assertEquals(new Long(2), g.traversal().V().has("name", P.test((t, u) -> {
+            assertTrue(t.equals("marko") || t.equals("josh"));
+            return true;
+        }, "x")).has("age", P.inside(27, 35)).count().next());
+
+        assertEquals(Arrays.asList("josh", "marko"), g.traversal().V().has("age", P.between(29, 35)).<String>values("name").order().toList());
+        assertEquals(Arrays.asList("marko", "vadas"), g.traversal().V().has("age", P.lte(29)).<String>values("name").order().toList());
+        assertEquals(Arrays.asList("peter", "vadas"), g.traversal().V().has("age", P.outside(28, 33)).<String>values("name").order().toList());
+        assertEquals(Collections.singletonList("noage"), g.traversal().V().has("age", P.gte("a")).<String>values("name").toList());
+        assertEquals(Collections.singletonList("marko"), g.traversal().V().has("age", 29).<String>values("name").toList());
+        assertEquals(0, g.traversal().V().has("age", P.inside(35, 27)).count().next().intValue());
+    }
+
+    @Test
+    public void shouldUpdateVertexRangeIndicesInExistingGraph() {
+        final TinkerGraph g = TinkerGraph.open();
+
+        g.addVertex("name", "marko", "age", 29);
+        g.addVertex("name", "mark", "age", 31);
+        g.addVertex("name", "stephen", "age", 35);
+
+        g.createIndex("name", Vertex.class, TinkerGraph.IndexType.RANGE);
+
+        // another spy into the pipeline for index check. in this case, we know that the range index is used
+        // because only the ages of vertices with names starting with "mar" pass through the pipeline.
+        assertEquals(new Long(2), g.traversal().V().has("age", P.test((t, u) -> {
+            assertTrue(t.equals(29) || t.equals(31));
+            return true;
+        }, 35)).has("name", TextP.startingWith("mar")).count().next());
+
+        g.traversal().V().has("name", "mark").property("name", "stephen").iterate();
+        assertEquals(Collections.singletonList("marko"), g.traversal().V().has("name", TextP.startingWith("mar")).values("name").toList());
+
+        g.dropIndex("name", Vertex.class);
+        assertEquals(Collections.emptySet(), g.getRangeIndexedKeys(Vertex.class));
+        assertEquals(Collections.singletonList("marko"), g.traversal().V().has("name", TextP.startingWith("mar")).values("name").toList());
+    }
+
+    @Test
+    public void shouldUpdateEdgeRangeIndices() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.createIndex("weight", Edge.class, TinkerGraph.IndexType.RANGE);
+
+        final Vertex v = g.addVertex();
+        v.addEdge("friend", v, "oid", "1", "weight", 0.5d);
+        final Edge e = v.addEdge("friend", v, "oid", "2", "weight", 0.6d);
+        v.addEdge("friend", v, "oid", "3", "weight", 0.7d);
+
+        // a tricky way to evaluate if indices are actually being used is to pass a fake BiPredicate to has()
+        // to get into the Pipeline and evaluate what's going through it.
+        assertEquals(new Long(2), g.traversal().E().has("oid", P.test((t, u) -> {
+            assertTrue(t.equals("2") || t.equals("3"));
+            return true;
+        }, "x")).has("weight", P.gt(0.5)).count().next());
+
+        e.remove();
+        assertEquals(Collections.singletonList("3"), g.traversal().E().has("weight", P.gt(0.5)).values("oid").toList());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotCreateCompositeIndexWithOneKey() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.createCompositeIndex(Vertex.class, "name");
+    }
+
+    @Test
+    public void shouldUpdateVertexCompositeIndices() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.addVertex(T.label, "account", "oid", "1", "tenant", "a", "status", "open");
+        final Vertex v = g.addVertex(T.label, "account", "oid", "2", "tenant", "a", "status", "closed");
+        g.addVertex(T.label, "account", "oid", "3", "tenant", "b", "status", "open");
+        g.addVertex(T.label, "person", "oid", "4", "tenant", "a", "status", "open");
+        g.createCompositeIndex(Vertex.class, T.label.getAccessor(), "tenant", "status");
+        assertEquals(Collections.singleton(Arrays.asList(T.label.getAccessor(), "tenant", "status")), g.getCompositeIndexedKeys(Vertex.class));
+
+        // a tricky way to evaluate if indices are actually being used is to pass a fake BiPredicate to has()
+        // to get into the Pipeline and evaluate what's going through it.
+        assertEquals(Collections.singletonList("1"), g.traversal().V().has("oid", P.test((t, u) -> {
+            assertEquals("1", t);
+            return true;
+        }, "x")).hasLabel("account").has("tenant", "a").has("status", "open").values("oid").toList());
+
+        v.property("status", "open");
+        g.addVertex(T.label, "account", "oid", "5", "tenant", "a");
+        assertEquals(Arrays.asList("1", "2"), g.traversal().V().hasLabel("account").has("tenant", "a").
+                has("status", "open").values("oid").order().toList());
+
+        v.remove();
+        assertEquals(Collections.singletonList("1"), g.traversal().V().hasLabel("account").has("tenant", "a").
+                has("status", "open").values("oid").toList());
+
+        g.dropCompositeIndex(Vertex.class, T.label.getAccessor(), "tenant", "status");
+        assertEquals(0, g.getCompositeIndexedKeys(Vertex.class).size());
+        assertEquals(Collections.singletonList("1"), g.traversal().V().hasLabel("account").has("tenant", "a").
+                has("status", "open").values("oid").toList());
+    }
+
+    @Test
+    public void shouldUpdateVertexCompositeIndicesWithMultiProperties() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.createCompositeIndex(Vertex.class, "tenant", "status");
+
+        final Vertex v = g.addVertex("oid", "1", "tenant", "a");
+        v.property(VertexProperty.Cardinality.list, "status", "open");
+        v.property(VertexProperty.Cardinality.list, "status", "flagged");
+        g.addVertex("oid", "2", "tenant", "a", "status", "closed");
+
+        assertEquals(Collections.singletonList("1"), g.traversal().V().has("tenant", "a").has("status", "open").values("oid").toList());
+        assertEquals(Collections.singletonList("1"), g.traversal().V().has("tenant", "a").has("status", "flagged").values("oid").toList());
+
+        v.properties("status").forEachRemaining(p -> {
+            if (p.value().equals("open")) p.remove();
+        });
+        assertEquals(0, g.traversal().V().has("tenant", "a").has("status", "open").count().next().intValue());
+        assertEquals(Collections.singletonList("1"), g.traversal().V().has("tenant", "a").has("status", "flagged").values("oid").toList());
+    }
+
+    @Test
+    public void shouldIntersectVertexIndices() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.createIndex("tenant", Vertex.class);
+        g.createIndex("status", Vertex.class, TinkerGraph.IndexType.RANGE);
+        for (int i = 0; i < 10; i++) {
+            g.addVertex("oid", String.valueOf(i), "tenant", i < 8 ? "a" : "b", "status", i % 2 == 0 ? "open" : "closed");
+        }
+
+        // only the vertices in both postings should get through to the test
+        assertEquals(Arrays.asList("0", "2", "4", "6"), g.traversal().V().has("oid", P.test((t, u) -> {
+            assertTrue(Integer.parseInt((String) t) < 8 && Integer.parseInt((String) t) % 2 == 0);
+            return true;
+        }, "x")).has("tenant", "a").has("status", "open").values("oid").order().toList());
+    }
+
+    @Test
+    public void shouldUpdateEdgeCompositeIndices() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.createCompositeIndex(Edge.class, T.label.getAccessor(), "weight");
+
+        final Vertex v = g.addVertex();
+        v.addEdge("friend", v, "oid", "1", "weight", 0.5d);
+        final Edge e = v.addEdge("friend", v, "oid", "2", "weight", 0.6d);
+        v.addEdge("knows", v, "oid", "3", "weight", 0.5d);
+
+        assertEquals(Collections.singletonList("1"), g.traversal().E().has("oid", P.test((t, u) -> {
+            assertEquals("1", t);
+            return true;
+        }, "x")).hasLabel("friend").has("weight", 0.5d).values("oid").toList());
+
+        e.property("weight", 0.5d);
+        assertEquals(Arrays.asList("1", "2"), g.traversal().E().hasLabel("friend").has("weight", 0.5d).values("oid").order().toList());
+
+        e.remove();
+        assertEquals(Collections.singletonList("1"), g.traversal().E().hasLabel("friend").has("weight", 0.5d).values("oid").toList());
+    }
+
+    @Test
+    public void shouldLazilyFilterVerticesWhenTraversalDoesNotMutate() {
+        final TinkerGraph g = TinkerGraph.open();
+        for (int i = 0; i < 100; i++) {
+            g.addVertex("x", 1);
+        }
+
+        // the has() is evaluated as elements are requested so limit(1) should stop the scan early
+        final AtomicInteger tested = new AtomicInteger(0);
+        assertEquals(1, g.traversal().V().has("x", P.test((t, u) -> {
+            tested.incrementAndGet();
+            return t.equals(u);
+        }, 1)).limit(1).toList().size());
+        assertThat(tested.get(), lessThan(100));
+    }
+
+    @Test
+    public void shouldSnapshotVerticesWhenTraversalMutates() {
+        final TinkerGraph g = TinkerGraph.open();
+        for (int i = 0; i < 100; i++) {
+            g.addVertex("x", 1);
+        }
+
+        // new vertices must not be visited by the same scan that added them
+        assertEquals(100, g.traversal().V().has("x", 1).addV().property("x", 1).toList().size());
+        assertEquals(200, IteratorUtils.count(g.vertices()));
+    }
+
     @Test
     public void shouldUpdateEdgeIndicesInNewGraph() {
         final TinkerGraph g = TinkerGraph.open();
@@ -514,6 +723,129 @@ public class TinkerGraphTest {
         reloadedGraph.close();
     }
 
+    @Test
+    public void shouldPersistToSnapshot() {
+        final String graphLocation = TestHelper.makeTestDataFile(TinkerGraphTest.class, "shouldPersistToSnapshot.tgs");
+        final File f = new File(graphLocation);
+        if (f.exists() && f.isFile()) f.delete();
+
+        final Configuration conf = new BaseConfiguration();
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_FORMAT, "snapshot");
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_LOCATION, graphLocation);
+        final TinkerGraph graph = TinkerGraph.open(conf);
+        TinkerFactory.generateModern(graph);
+        graph.close();
+
+        final TinkerGraph reloadedGraph = TinkerGraph.open(conf);
+        IoTest.assertModernGraph(reloadedGraph, true, false);
+        reloadedGraph.close();
+    }
+
+    @Test
+    public void shouldPersistToSnapshotAndHandleMultiProperties() {
+        final String graphLocation = TestHelper.makeTestDataFile(TinkerGraphTest.class, "shouldPersistToSnapshotMulti.tgs");
+        final File f = new File(graphLocation);
+        if (f.exists() && f.isFile()) f.delete();
+
+        final Configuration conf = new BaseConfiguration();
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_FORMAT, "snapshot");
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_LOCATION, graphLocation);
+        final TinkerGraph graph = TinkerGraph.open(conf);
+        TinkerFactory.generateTheCrew(graph);
+        graph.close();
+
+        // unlike gryo, the snapshot keeps each vertex property so the default cardinality needn't be list
+        final TinkerGraph reloadedGraph = TinkerGraph.open(conf);
+        IoTest.assertCrewGraph(reloadedGraph, false);
+        reloadedGraph.close();
+    }
+
+    @Test
+    public void shouldPersistToSnapshotAndHandleOtherTypes() {
+        final String graphLocation = TestHelper.makeTestDataFile(TinkerGraphTest.class, "shouldPersistToSnapshotTypes.tgs");
+        final File f = new File(graphLocation);
+        if (f.exists() && f.isFile()) f.delete();
+
+        final Configuration conf = new BaseConfiguration();
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_FORMAT, "snapshot");
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_LOCATION, graphLocation);
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_ALLOW_NULL_PROPERTY_VALUES, true);
+        final TinkerGraph graph = TinkerGraph.open(conf);
+        final UUID id = UUID.randomUUID();
+        final Vertex v = graph.addVertex(T.id, id, T.label, "thing", "list", Arrays.asList(1, "two", 3.0d),
+                "short", (short) 1, "byte", (byte) 2, "float", 3.5f, "boolean", true, "nothing", null);
+        v.addEdge("self", v, T.id, "e", "since", new Date(0));
+        graph.close();
+
+        final TinkerGraph reloadedGraph = TinkerGraph.open(conf);
+        final Vertex reloaded = reloadedGraph.vertices(id).next();
+        assertEquals("thing", reloaded.label());
+        assertEquals(Arrays.asList(1, "two", 3.0d), reloaded.value("list"));
+        assertEquals((short) 1, (short) reloaded.value("short"));
+        assertEquals((byte) 2, (byte) reloaded.value("byte"));
+        assertEquals(3.5f, reloaded.value("float"), 0.0f);
+        assertEquals(true, reloaded.value("boolean"));
+        assertThat(reloaded.property("nothing").isPresent(), is(true));
+        assertNull(reloaded.value("nothing"));
+
+        final Edge e = reloadedGraph.edges("e").next();
+        assertEquals(new Date(0), e.value("since"));
+        assertEquals(reloaded, e.outVertex());
+        assertEquals(reloaded, e.inVertex());
+        reloadedGraph.close();
+    }
+
+    @Test
+    public void shouldReplaceSnapshotThatWasLoaded() {
+        final String graphLocation = TestHelper.makeTestDataFile(TinkerGraphTest.class, "shouldReplaceSnapshotThatWasLoaded.tgs");
+        final File f = new File(graphLocation);
+        if (f.exists() && f.isFile()) f.delete();
+
+        final Configuration conf = new BaseConfiguration();
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_FORMAT, "snapshot");
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_LOCATION, graphLocation);
+        final TinkerGraph graph = TinkerGraph.open(conf);
+        TinkerFactory.generateModern(graph);
+        graph.close();
+
+        // the file that was loaded is replaced on close
+        final TinkerGraph loadedGraph = TinkerGraph.open(conf);
+        loadedGraph.addVertex(T.label, "person", "name", "stephen");
+        loadedGraph.close();
+
+        final TinkerGraph reloadedGraph = TinkerGraph.open(conf);
+        assertEquals(7, IteratorUtils.count(reloadedGraph.vertices()));
+        assertEquals(6, IteratorUtils.count(reloadedGraph.edges()));
+        reloadedGraph.close();
+
+        // no temporary files should be left next to the snapshot
+        final String[] leftOver = f.getAbsoluteFile().getParentFile().list((dir, name) ->
+                name.startsWith(f.getName()) && name.endsWith(".tmp"));
+        assertEquals(0, leftOver.length);
+    }
+
+    @Test
+    public void shouldNotLoadSnapshotOfAnotherFormat() throws Exception {
+        final String graphLocation = TestHelper.makeTestDataFile(TinkerGraphTest.class, "shouldNotLoadSnapshotOfAnotherFormat.tgs");
+        final File f = new File(graphLocation);
+        if (f.exists() && f.isFile()) f.delete();
+
+        final Configuration conf = new BaseConfiguration();
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_FORMAT, "gryo");
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_LOCATION, graphLocation);
+        final TinkerGraph graph = TinkerGraph.open(conf);
+        TinkerFactory.generateModern(graph);
+        graph.close();
+
+        conf.setProperty(TinkerGraph.GREMLIN_TINKERGRAPH_GRAPH_FORMAT, "snapshot");
+        try {
+            TinkerGraph.open(conf);
+            fail("Should not have loaded a gryo file as a snapshot");
+        } catch (RuntimeException re) {
+            assertThat(re.getCause().getMessage(), containsString("is not a TinkerGraph snapshot"));
+        }
+    }
+
     @Test
     public void shouldPersistWithRelativePath() {
         final String graphLocation = TestHelper.convertToRelative(TinkerGraphTest.class,